@@ -0,0 +1,22 @@
+package com.backend.common.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 커서(keyset) 페이징 요청.
+ * cursor는 직전 응답의 next_cursor를 그대로 전달 (없으면 첫 페이지).
+ */
+@Getter
+@Setter
+public class CursorPageRequest {
+    private String cursor;
+
+    @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다")
+    @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다")
+    @JsonProperty("page_size")
+    private int pageSize = 20;
+}
@@ -1,5 +1,6 @@
 package com.backend.common.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
 import lombok.Getter;
@@ -14,12 +15,19 @@ public class PageResponse<T> {
     private int page;
     @JsonProperty("page_size")
     private int pageSize;
-    private long total;
-    private int pages;
+    /** 커서 페이징(카운트 생략) 응답에서는 null → 직렬화 생략 */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long total;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer pages;
     @JsonProperty("has_next")
     private boolean hasNext;
     @JsonProperty("has_previous")
     private boolean hasPrevious;
+    /** 다음 페이지 조회용 불투명 커서 (커서 페이징에서만, 마지막 페이지면 null) */
+    @JsonProperty("next_cursor")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
 
     public static <T> PageResponse<T> of(Page<T> page, int currentPage) {
         return PageResponse.<T>builder()
@@ -32,4 +40,33 @@ public class PageResponse<T> {
                 .hasPrevious(page.hasPrevious())
                 .build();
     }
+
+    /**
+     * COUNT 생략 offset 페이징 응답. total/pages 없이 다음/이전 페이지 존재 여부만 포함한다.
+     */
+    public static <T> PageResponse<T> ofSlice(List<T> items, int currentPage, int pageSize, boolean hasNext) {
+        return PageResponse.<T>builder()
+                .items(items)
+                .page(currentPage)
+                .pageSize(pageSize)
+                .hasNext(hasNext)
+                .hasPrevious(currentPage > 1)
+                .build();
+    }
+
+    /**
+     * 커서(keyset) 페이징 응답. total/pages는 카운트 쿼리를 생략하므로 포함하지 않는다.
+     *
+     * @param requestCursor 이번 요청에 사용한 커서 (있으면 이전 페이지가 존재)
+     */
+    public static <T> PageResponse<T> ofCursor(List<T> items, int pageSize, boolean hasNext,
+                                               String nextCursor, String requestCursor) {
+        return PageResponse.<T>builder()
+                .items(items)
+                .pageSize(pageSize)
+                .hasNext(hasNext)
+                .hasPrevious(requestCursor != null && !requestCursor.isBlank())
+                .nextCursor(hasNext ? nextCursor : null)
+                .build();
+    }
 }
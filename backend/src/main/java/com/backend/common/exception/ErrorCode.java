@@ -39,6 +39,8 @@ public enum ErrorCode {
     SHOP_VARIANT_NOT_FOUND("SHOP_VARIANT_001", "상품 변형을 찾을 수 없습니다. (ID: %s)", HttpStatus.NOT_FOUND),
     SHOP_VARIANT_OUT_OF_STOCK("SHOP_VARIANT_002", "재고가 부족합니다. (요청: %s, 현재: %s)", HttpStatus.BAD_REQUEST),
     SHOP_VARIANT_INACTIVE("SHOP_VARIANT_003", "판매 중지된 상품 변형입니다. (ID: %s)", HttpStatus.BAD_REQUEST),
+    /** 핫 SKU 지정/해제 전환 중이라 재고를 바로 처리할 수 없음 */
+    SHOP_VARIANT_STOCK_BUSY("SHOP_VARIANT_004", "재고를 처리하고 있습니다. 잠시 후 다시 시도해 주세요. (ID: %s)", HttpStatus.SERVICE_UNAVAILABLE),
     SHOP_CART_NOT_FOUND("SHOP_CART_001", "장바구니를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
     SHOP_CART_ITEM_NOT_FOUND("SHOP_CART_ITEM_001", "장바구니 아이템을 찾을 수 없습니다. (ID: %s)", HttpStatus.NOT_FOUND),
     SHOP_CART_EMPTY("SHOP_CART_003", "장바구니가 비어 있습니다.", HttpStatus.BAD_REQUEST),
@@ -55,6 +57,12 @@ public enum ErrorCode {
     /** 토스 [S008] 기존 요청 처리 중 — 잠시 후 재시도 안내 */
     SHOP_PAYMENT_PROCESSING_RETRY("SHOP_PAYMENT_005", "결제가 처리 중입니다. 잠시 후 다시 시도해 주세요. (토스: [S008])", HttpStatus.SERVICE_UNAVAILABLE),
     SHOP_PAYMENT_CONFIG_NOT_FOUND("SHOP_PAYMENT_004", "결제 설정을 찾을 수 없습니다. (toss.payments.secret-key)", HttpStatus.INTERNAL_SERVER_ERROR),
+    /** 결제 대행사 장애로 서킷 브레이커가 열려 호출 없이 실패 */
+    SHOP_PAYMENT_GATEWAY_UNAVAILABLE("SHOP_PAYMENT_006", "결제 서비스 응답이 지연되고 있습니다. 잠시 후 다시 시도해 주세요.", HttpStatus.SERVICE_UNAVAILABLE),
+    /** 타임아웃/5xx로 승인 여부를 알 수 없음 — 복구 잡이 Toss 조회로 확정 */
+    SHOP_PAYMENT_CONFIRM_UNKNOWN("SHOP_PAYMENT_007", "결제 승인 결과를 확인하고 있습니다. 잠시 후 주문 내역을 확인해 주세요.", HttpStatus.GATEWAY_TIMEOUT),
+    /** 같은 주문의 승인 요청이 이미 진행 중 */
+    SHOP_PAYMENT_CONFIRM_IN_PROGRESS("SHOP_PAYMENT_008", "이미 결제 승인이 진행 중입니다. 잠시 후 주문 내역을 확인해 주세요. (주문번호: %s)", HttpStatus.CONFLICT),
 
     // ========== 상품 리뷰 ==========
     SHOP_REVIEW_NOT_FOUND("SHOP_REVIEW_001", "리뷰를 찾을 수 없습니다. (ID: %s)", HttpStatus.NOT_FOUND),
@@ -6,6 +6,7 @@ import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * [비동기 처리 설정]
@@ -41,6 +42,26 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * 이미지 파생본(썸네일/중간 크기) 생성 전용 ThreadPool
+     *
+     * 설정 이유:
+     * - 리사이즈는 CPU 바운드 → 스레드 수를 작게 고정해 요청 처리 스레드와 CPU 경합 제한
+     * - queueCapacity: 200 - 초과분은 버림 (파생본이 없으면 원본 URL로 폴백, 다음 조회 시 재요청)
+     */
+    @Bean(name = "imageTaskExecutor")
+    public Executor imageTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("image-async-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
 }
 
 
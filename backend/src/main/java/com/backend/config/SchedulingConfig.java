@@ -0,0 +1,46 @@
+package com.backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+/**
+ * [스케줄링 설정]
+ * 집계 재계산 등 주기 작업(@Scheduled) 활성화
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig implements SchedulingConfigurer {
+
+    @Value("${shop.scheduling.pool-size:10}")
+    private int poolSize;
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar registrar) {
+        registrar.setTaskScheduler(scheduledTaskScheduler());
+    }
+
+    /**
+     * @Scheduled 작업 전용 스케줄러 풀
+     *
+     * 설정 이유:
+     * - 기본 스케줄러는 단일 스레드라 장시간 작업(장바구니 정리, 판매 집계 재계산 등)이
+     *   1초 주기 작업(웹훅 수신함 드레인, 핫 SKU flush, 아웃박스 릴레이)을 굶김
+     * - WebSocket 브로커도 TaskScheduler 빈을 등록하므로 spring.task.scheduling.* 자동 설정에 기대지 않고 직접 지정
+     * - poolSize: 10 - @Scheduled 메서드 수 이상 (작업끼리 서로 기다리지 않음)
+     * - threadNamePrefix: "scheduled-" - 로깅 및 모니터링 용이
+     */
+    @Bean(name = "scheduledTaskScheduler")
+    public ThreadPoolTaskScheduler scheduledTaskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("scheduled-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        return scheduler;
+    }
+}
@@ -5,9 +5,13 @@ import com.backend.common.exception.ErrorCode;
 import com.backend.domain.member.Member;
 import com.backend.dto.cart.request.CartItemAddRequest;
 import com.backend.dto.cart.request.CartItemUpdateRequest;
+import com.backend.dto.cart.request.CartOpsRequest;
 import com.backend.dto.cart.response.CartResponse;
+import com.backend.dto.cart.response.CartSweeperStatsResponse;
 import com.backend.service.cart.CartKey;
+import com.backend.service.cart.CartResponseCache;
 import com.backend.service.cart.CartService;
+import com.backend.service.cart.CartSweeper;
 import com.backend.service.member.CurrentMemberService;
 import com.backend.util.CookieUtil;
 import jakarta.servlet.http.HttpServletRequest;
@@ -15,10 +19,15 @@ import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Optional;
+
 @Slf4j
 @RestController
 @RequestMapping("/api/cart")
@@ -28,6 +37,8 @@ public class CartController {
     private final CartService cartService;
     private final CookieUtil cookieUtil;
     private final CurrentMemberService currentMemberService;
+    private final CartSweeper cartSweeper;
+    private final CartResponseCache cartResponseCache;
 
     /**
      * 장바구니 조회
@@ -41,9 +52,27 @@ public class CartController {
             HttpServletRequest request,
             HttpServletResponse response) {
         CartKey cartKey = resolveCartKey(request, response);
+
+        // If-None-Match: 버전 조회만으로 304 응답 (장바구니 내용 로딩 없음)
+        // 세대(generation)가 바뀌면 버전이 같아도 200으로 다시 내려 가격/이름/재고 변경을 반영
+        long generation = cartResponseCache.currentGeneration();
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            Optional<Long> version = cartService.getCartVersion(cartKey);
+            if (version.isPresent() && etagMatches(ifNoneMatch, version.get(), generation)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(toETag(version.get(), generation))
+                        .cacheControl(CacheControl.noCache().cachePrivate())
+                        .build();
+            }
+        }
+
         CartResponse cartResponse = cartService.getCart(cartKey);
         log.info("getCart: cartId={}", cartResponse != null ? cartResponse.getCartId() : null);
-        return ResponseEntity.ok(cartResponse);
+        return ResponseEntity.ok()
+                .eTag(toETag(cartResponse.getVersion(), generation))
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(cartResponse);
     }
 
     /**
@@ -95,6 +124,24 @@ public class CartController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * 장바구니 일괄 변경 (추가/수량 변경/삭제를 순서대로 한 번에 적용)
+     * 수량 스테퍼 연타, 위시리스트 → 장바구니 이동 등을 1회 왕복으로 처리
+     * 
+     * @param request 변경 목록
+     * @param httpRequest HTTP 요청 (쿠키 읽기용)
+     * @param httpResponse HTTP 응답 (쿠키 설정용)
+     * @return 변경 후 장바구니 응답
+     */
+    @PostMapping("/ops")
+    public ResponseEntity<CartResponse> applyOps(
+            @Valid @RequestBody CartOpsRequest request,
+            HttpServletRequest httpRequest,
+            HttpServletResponse httpResponse) {
+        CartKey cartKey = resolveCartKey(httpRequest, httpResponse);
+        return ResponseEntity.ok(cartService.applyOps(cartKey, request.getOps()));
+    }
+
     /**
      * 장바구니 아이템 제거
      * 
@@ -171,6 +218,38 @@ public class CartController {
         return ResponseEntity.ok(cartResponse);
     }
 
+    /**
+     * 방치된 게스트 장바구니 정리 작업 통계 (ADMIN 전용)
+     */
+    @GetMapping("/sweeper-stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CartSweeperStatsResponse> getSweeperStats() {
+        return ResponseEntity.ok(cartSweeper.stats());
+    }
+
+    // 약한 ETag: 장바구니 버전 + 응답 캐시 세대. 장바구니 변경 없이 바뀐 상품 가격/이름/재고는 최대 캐시 TTL x 2 안에 반영
+    private static String toETag(long version, long generation) {
+        return "W/\"" + version + "-" + generation + "\"";
+    }
+
+    // If-None-Match 약한 비교 (W/ 접두사 무시, 목록/와일드카드 허용)
+    private static boolean etagMatches(String ifNoneMatch, long version, long generation) {
+        String opaqueTag = "\"" + version + "-" + generation + "\"";
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if ("*".equals(tag)) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(opaqueTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * CartKey 해석 (회원 또는 게스트)
      * - 로그인 상태: SecurityContext에서 email → memberId 조회 → 무조건 member_id 기준 (guest_token 무시)
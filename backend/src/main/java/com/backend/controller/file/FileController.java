@@ -5,25 +5,36 @@ import com.backend.common.exception.ErrorCode;
 import com.backend.dto.file.FileUploadResponse;
 import com.backend.service.file.FileStorageService;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.Resource;
 import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
+import org.springframework.http.HttpRange;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.ServletWebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
 import java.net.URLEncoder;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 
 /**
  * 파일 조회 컨트롤러
@@ -46,6 +57,14 @@ public class FileController {
     );
     private static final Set<String> ALLOWED_DIRECTORIES = Set.of("products", "avatars");
 
+    // UUID 또는 SHA-256 내용 해시 파일명(+ 파생본 접미사): 같은 이름으로 내용이 바뀌지 않으므로 immutable 캐시 가능
+    private static final Pattern IMMUTABLE_FILENAME = Pattern.compile(
+            "^([0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}|[0-9a-f]{64})(\\.[a-z]+)?\\.[A-Za-z0-9]+$");
+    private static final String SENDFILE_SUPPORT_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
     private final FileStorageService fileStorageService;
 
     /**
@@ -129,12 +148,19 @@ public class FileController {
      * 
      * <p>GET /api/files/view/** 패턴으로 요청을 받아 파일을 조회합니다.
      * 경로 탐색 공격(.., 절대경로, 역슬래시)을 방지합니다.
+     *
+     * <ul>
+     *   <li>검증자: 강한 ETag(크기+수정시각) / Last-Modified → 조건부 요청이면 304</li>
+     *   <li>Range: 단일 구간 206, 범위 밖 416 (다중 구간은 전체 200으로 응답)</li>
+     *   <li>Cache-Control: UUID 파일명(내용 불변)은 1년 immutable, 그 외는 재검증</li>
+     *   <li>본문: Tomcat sendfile 지원 시 커널 zero-copy, 아니면 FileChannel.transferTo</li>
+     * </ul>
      * 
      * @param request HTTP 요청 (경로 추출용)
-     * @return 파일 리소스
+     * @param response HTTP 응답 (본문을 직접 기록)
      */
     @GetMapping("/view/**")
-    public ResponseEntity<Resource> viewFile(HttpServletRequest request) {
+    public void viewFile(HttpServletRequest request, HttpServletResponse response) throws IOException {
         // URL 경로에서 filePath 추출
         // /api/files/view/products/uuid.jpg -> products/uuid.jpg
         String requestURI = request.getRequestURI();
@@ -142,40 +168,127 @@ public class FileController {
         
         if (!requestURI.startsWith(prefix)) {
             log.warn("Invalid request path: {}", requestURI);
-            return ResponseEntity.notFound().build();
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
         }
         
         String filePath = requestURI.substring(prefix.length());
         
         if (filePath == null || filePath.isEmpty()) {
             log.warn("Empty file path in request: {}", requestURI);
-            return ResponseEntity.notFound().build();
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
         }
 
         // 경로 탐색 공격 방지
         if (!isValidFilePath(filePath)) {
             log.warn("Invalid file path detected (path traversal attempt): {}", filePath);
-            return ResponseEntity.badRequest().build();
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            return;
         }
 
+        Path file;
+        long length;
+        long lastModified;
         try {
-            Resource resource = fileStorageService.download(filePath);
-            
-            // Content-Type 결정
-            String contentType = determineContentType(filePath);
-            
-            // 파일명 추출 (경로의 마지막 부분)
-            String filename = extractFilename(filePath);
-            
-            return ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(contentType))
-                    .header(HttpHeaders.CONTENT_DISPOSITION, 
-                            "inline; filename=\"" + URLEncoder.encode(filename, StandardCharsets.UTF_8) + "\"")
-                    .cacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic())
-                    .body(resource);
+            file = fileStorageService.download(filePath).getFile().toPath();
+            length = Files.size(file);
+            lastModified = Files.getLastModifiedTime(file).toMillis();
         } catch (Exception e) {
-            log.error("File not found: {}", filePath, e);
-            return ResponseEntity.notFound().build();
+            log.debug("File not found: {}", filePath);
+            response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        String filename = extractFilename(filePath);
+        String etag = "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, IMMUTABLE_FILENAME.matcher(filename).matches()
+                ? CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable().getHeaderValue()
+                : CacheControl.noCache().cachePublic().getHeaderValue());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        // If-None-Match / If-Modified-Since 일치 → 304 (ETag/Last-Modified 헤더도 함께 설정됨)
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return;
+        }
+
+        long start = 0;
+        long end = length - 1;
+        int status = HttpServletResponse.SC_OK;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && length > 0 && ifRangeMatches(request.getHeader(HttpHeaders.IF_RANGE), etag, lastModified)) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(rangeHeader);
+            } catch (IllegalArgumentException e) {
+                ranges = List.of();
+            }
+            if (ranges.size() == 1) {
+                long rangeStart = ranges.get(0).getRangeStart(length);
+                long rangeEnd = ranges.get(0).getRangeEnd(length);
+                if (rangeStart >= length || rangeStart > rangeEnd) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    return;
+                }
+                start = rangeStart;
+                end = rangeEnd;
+                status = HttpServletResponse.SC_PARTIAL_CONTENT;
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long contentLength = length == 0 ? 0 : end - start + 1;
+        response.setStatus(status);
+        response.setContentType(determineContentType(filePath));
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "inline; filename=\"" + URLEncoder.encode(filename, StandardCharsets.UTF_8) + "\"");
+        response.setContentLengthLong(contentLength);
+
+        if ("HEAD".equalsIgnoreCase(request.getMethod()) || contentLength == 0) {
+            return;
+        }
+
+        // Tomcat NIO sendfile: 커넥터가 커널 sendfile로 직접 전송 (힙/앱 스레드 복사 없음)
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTR))) {
+            request.setAttribute(SENDFILE_FILENAME_ATTR, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START_ATTR, start);
+            request.setAttribute(SENDFILE_END_ATTR, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = contentLength;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    /**
+     * If-Range가 없거나 현재 ETag/Last-Modified와 일치할 때만 Range를 적용한다 (불일치면 전체 응답).
+     */
+    private boolean ifRangeMatches(String ifRange, String etag, long lastModified) {
+        if (ifRange == null || ifRange.isBlank()) {
+            return true;
+        }
+        String value = ifRange.trim();
+        if (value.startsWith("\"") || value.startsWith("W/")) {
+            return value.equals(etag);
+        }
+        try {
+            long since = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+            return lastModified / 1000 <= since / 1000;
+        } catch (DateTimeParseException e) {
+            return false;
         }
     }
 
@@ -195,6 +308,13 @@ public class FileController {
         if (filePath.contains("..")) {
             return false;
         }
+
+        // 숨김 경로 차단: 점으로 시작하는 세그먼트 (작성 중인 임시 파일 등, 예: .tmp/, .derivative-*)
+        for (String segment : filePath.split("/")) {
+            if (segment.startsWith(".")) {
+                return false;
+            }
+        }
         
         // 절대 경로 차단: Windows (C:\, D:\ 등) 또는 Unix (/로 시작)
         if (filePath.startsWith("/") || filePath.matches("^[A-Za-z]:\\\\")) {
@@ -1,12 +1,17 @@
 package com.backend.controller.payment;
 
 import com.backend.dto.payment.request.TossPaymentConfirmRequest;
+import com.backend.dto.payment.response.PaymentGatewayStatsResponse;
+import com.backend.dto.payment.response.PaymentWebhookInboxStatsResponse;
 import com.backend.dto.payment.response.TossPaymentConfirmResponse;
 import com.backend.service.payment.PaymentService;
+import com.backend.service.payment.PaymentWebhookInboxWorker;
+import com.backend.service.payment.TossPaymentsClient;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 @Slf4j
@@ -16,6 +21,8 @@ import org.springframework.web.bind.annotation.*;
 public class PaymentController {
 
     private final PaymentService paymentService;
+    private final TossPaymentsClient tossPaymentsClient;
+    private final PaymentWebhookInboxWorker paymentWebhookInboxWorker;
 
     /**
      * Toss 결제 승인 콜백
@@ -29,8 +36,8 @@ public class PaymentController {
 
     /**
      * Toss 웹훅 수신 엔드포인트
-     * - 10초 내 200 응답
-     * - 상태 동기화 및 멱등 처리
+     * - 10초 내 200 응답: 수신함에 추가만 하고 반환 (중복 재전송은 1건으로 합쳐짐)
+     * - 상태 동기화는 PaymentWebhookInboxWorker가 비동기로 수행
      */
     @PostMapping("/toss/webhook")
     public ResponseEntity<Void> handleTossWebhook(
@@ -41,5 +48,22 @@ public class PaymentController {
         paymentService.handleTossWebhook(payload, transmissionTime, signature);
         return ResponseEntity.ok().build();
     }
-}
 
+    /**
+     * 결제 대행사 클라이언트 통계 (ADMIN 전용) - 서킷 상태, 엔드포인트별 지연
+     */
+    @GetMapping("/gateway-stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<PaymentGatewayStatsResponse> getGatewayStats() {
+        return ResponseEntity.ok(tossPaymentsClient.stats());
+    }
+
+    /**
+     * 웹훅 수신함 처리 현황 (ADMIN 전용) - 미처리/실패 건수, 수신 → 반영 지연
+     */
+    @GetMapping("/webhook-inbox/stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<PaymentWebhookInboxStatsResponse> getWebhookInboxStats() {
+        return ResponseEntity.ok(paymentWebhookInboxWorker.stats());
+    }
+}
@@ -1,12 +1,19 @@
 package com.backend.controller.shop;
 
+import com.backend.common.dto.CursorPageRequest;
 import com.backend.common.dto.PageRequest;
 import com.backend.common.dto.PageResponse;
 import com.backend.dto.shop.request.ProductCreateRequest;
 import com.backend.dto.shop.request.ProductSearchRequest;
 import com.backend.dto.shop.request.ProductUpdateRequest;
+import com.backend.dto.shop.response.HotSkuStockResponse;
+import com.backend.dto.shop.response.ProductDetailCacheStatsResponse;
+import com.backend.dto.shop.response.ProductImportResponse;
 import com.backend.dto.shop.response.ProductResponse;
 import com.backend.service.member.CurrentMemberService;
+import com.backend.service.shop.CategoryTreeService;
+import com.backend.service.shop.HotSkuStockService;
+import com.backend.service.shop.ProductImportService;
 import com.backend.service.shop.ProductService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +23,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
 import java.net.URI;
 
 @Slf4j
@@ -25,7 +33,10 @@ import java.net.URI;
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductImportService productImportService;
     private final CurrentMemberService currentMemberService;
+    private final HotSkuStockService hotSkuStockService;
+    private final CategoryTreeService categoryTreeService;
 
     // 상품 등록 (ADMIN 전용)
     @PostMapping
@@ -41,6 +52,44 @@ public class ProductController {
                 .body(response);
     }
 
+    // 상품 대량 등록 (ADMIN 전용) - 본문은 NDJSON (한 줄에 상품 생성 요청 1개)
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ProductImportResponse> importProducts(InputStream body) {
+        Long createdBy = currentMemberService.getCurrentMemberOrThrow().getId();
+        return ResponseEntity.ok(productImportService.importNdjson(body, createdBy));
+    }
+
+    // 상품 상세 캐시 통계 (ADMIN 전용)
+    @GetMapping("/cache-stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ProductDetailCacheStatsResponse> getDetailCacheStats() {
+        return ResponseEntity.ok(productService.getDetailCacheStats());
+    }
+
+    // 옵션 핫 SKU 지정 (ADMIN 전용) - 한정 판매 시작 전에 Redis 재고 카운터로 전환
+    @PutMapping("/variants/{variantId}/hot-sku")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<HotSkuStockResponse> enableHotSku(@PathVariable("variantId") Long variantId) {
+        return ResponseEntity.ok(hotSkuStockService.enable(variantId));
+    }
+
+    // 옵션 핫 SKU 해제 (ADMIN 전용) - 다음 반영 주기에 DB 재고로 복귀
+    @DeleteMapping("/variants/{variantId}/hot-sku")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> disableHotSku(@PathVariable("variantId") Long variantId) {
+        hotSkuStockService.disable(variantId);
+        return ResponseEntity.noContent().build();
+    }
+
+    // 카테고리 클로저 재생성 (ADMIN 전용) - SQL 등 서비스 밖에서 카테고리를 바꾼 뒤 검색 필터/트리에 반영
+    @PostMapping("/categories/rebuild-tree")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> rebuildCategoryTree() {
+        categoryTreeService.rebuild();
+        return ResponseEntity.noContent().build();
+    }
+
     // 상품 단건 조회
     @GetMapping("/{id}")
     public ResponseEntity<ProductResponse> findById(@PathVariable("id") Long id) {
@@ -59,6 +108,15 @@ public class ProductController {
         return ResponseEntity.ok(response);
     }
 
+    // 상품 리스트 커서 조회 (무한 스크롤용 - 카운트 없이 next_cursor로 다음 페이지 조회)
+    @GetMapping("/cursor")
+    public ResponseEntity<PageResponse<ProductResponse>> findAllByCursor(
+            @Valid @ModelAttribute CursorPageRequest cursorRequest,
+            @Valid @ModelAttribute ProductSearchRequest searchRequest) {
+        PageResponse<ProductResponse> response = productService.findAllByCursor(cursorRequest, searchRequest);
+        return ResponseEntity.ok(response);
+    }
+
     // 상품 정보 수정 (ADMIN 전용)
     @PatchMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
@@ -44,6 +44,10 @@ public class Cart extends BaseEntity {
     @Column(name = "guest_token", length = 100)
     private String guestToken;
 
+    // 변경 버전 (라인 변경마다 +1, ETag/응답 캐시 키). 낙관적 락(@Version) 아님 → CartRepository.incrementVersion으로만 증가
+    @Column(name = "version", nullable = false)
+    private long version = 0L;
+
     // 장바구니 아이템 목록
     @OneToMany(mappedBy = "cart", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     @BatchSize(size = 20) // N+1 문제 방지: 20개씩 배치로 조회
@@ -0,0 +1,35 @@
+package com.backend.domain.file;
+
+import com.backend.domain.AuditEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 내용 주소(SHA-256) 기반으로 저장된 업로드 파일의 참조 수.
+ *
+ * <p>ref_count는 이 파일을 쓰는 활성 참조(product_images 행) 수다. 업로드는 0으로 기록하고,
+ * 참조 행이 연결될 때 +1(같은 트랜잭션), 해제가 커밋된 뒤 -1 한다.
+ * 참조가 0인 채로 보존 기간이 지난 파일은 정리 작업이 지운다 (미연결 업로드 포함).
+ * 행은 LocalFileStorageService가 native upsert로 유지한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "stored_blobs")
+public class StoredBlob extends AuditEntity {
+
+    // PK = 스토리지 키 (예: products/ab/cd/<sha256>.jpg)
+    @Id
+    @Column(name = "storage_key", length = 200)
+    private String storageKey;
+
+    // 파일 크기 (bytes)
+    @Column(name = "size_bytes", nullable = false)
+    private long sizeBytes;
+
+    // 활성 참조 수 (retain +1, delete -1)
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+}
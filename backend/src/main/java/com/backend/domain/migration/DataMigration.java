@@ -0,0 +1,26 @@
+package com.backend.domain.migration;
+
+import com.backend.domain.AuditEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 1회성 데이터 마이그레이션(백필) 적용 기록. 행이 있으면 이미 끝난 작업이다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "data_migrations")
+public class DataMigration extends AuditEntity {
+
+    // 마이그레이션 이름 (예: products.in_stock)
+    @Id
+    @Column(name = "name", length = 100)
+    private String name;
+
+    public DataMigration(String name) {
+        this.name = name;
+    }
+}
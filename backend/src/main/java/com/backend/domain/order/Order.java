@@ -23,7 +23,10 @@ import java.util.List;
         },
         indexes = {
                 @Index(name = "idx_orders_member_id", columnList = "member_id"),
-                @Index(name = "idx_orders_member_created", columnList = "member_id, created_at")
+                @Index(name = "idx_orders_member_created", columnList = "member_id, created_at"),
+                // 복구 잡 조회용: 승인 진행 중(대부분 null) / 후처리 미완료 PAID 주문
+                @Index(name = "idx_orders_confirming_at", columnList = "confirming_at"),
+                @Index(name = "idx_orders_status_finalized_paid", columnList = "status, finalized, paid_at")
         }
 )
 public class Order extends AuditEntity {
@@ -76,6 +79,30 @@ public class Order extends AuditEntity {
     @Column(name = "finalizing", nullable = false)
     private boolean finalizing = false;
 
+    /** finalizeAfterPaid 실패 횟수 (confirm 경로 + PaymentRecoveryJob 재시도 합계) */
+    @Column(name = "finalize_attempts", nullable = false)
+    private int finalizeAttempts = 0;
+
+    /**
+     * 후처리 재시도를 포기한 시각.
+     * - null: 정상 또는 재시도 대기
+     * - 값 있음: 재시도 한도 초과 또는 max-age 경과 → 복구 잡 대상에서 제외, 수동 확인(환불/재고 조정) 필요
+     */
+    @Column(name = "finalize_failed_at")
+    private Instant finalizeFailedAt;
+
+    /**
+     * Toss 승인 API 호출을 선점한 시각 (트랜잭션 밖에서 호출하는 동안의 표식).
+     * - null: 진행 중인 승인 없음
+     * - 오래된 값: 승인 도중 중단된 주문 → PaymentRecoveryJob이 Toss 조회로 결과 확정
+     */
+    @Column(name = "confirming_at")
+    private Instant confirmingAt;
+
+    /** 승인 선점 시 사용한 paymentKey (복구 시 Toss 결제 조회용) */
+    @Column(name = "confirming_payment_key", length = 100)
+    private String confirmingPaymentKey;
+
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     // TODO: 주문 상세 조회 시 Order -> OrderItem 로딩을 위한 EntityGraph 후보
     private final List<OrderItem> items = new ArrayList<>();
@@ -129,6 +156,13 @@ public class Order extends AuditEntity {
         }
         this.status = OrderStatus.PAID;
         this.paidAt = paidAt;
+        clearConfirming();
+    }
+
+    /** 승인 선점 해제 (결과 반영 또는 실패 확정 시) */
+    public void clearConfirming() {
+        this.confirmingAt = null;
+        this.confirmingPaymentKey = null;
     }
 
     /**
@@ -0,0 +1,73 @@
+package com.backend.domain.outbox;
+
+import com.backend.domain.AuditEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 아웃박스 소비자별 오프셋. last_event_id까지 전달(또는 대상 아님으로 건너뜀)이 끝난 상태.
+ *
+ * <p>오프셋 다음 이벤트 처리가 실패하면 failed_event_id/attempts/next_attempt_at에 재시도 상태를 남긴다
+ * (릴레이 노드가 바뀌어도 백오프 유지). failed_event_id가 다른 이벤트면 새 실패로 보고 attempts를 다시 센다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "outbox_consumer_offsets")
+public class OutboxConsumerOffset extends AuditEntity {
+
+    // 소비자 이름 (OutboxEventListener#consumerName)
+    @Id
+    @Column(name = "consumer", length = 100)
+    private String consumer;
+
+    @Column(name = "last_event_id", nullable = false)
+    private long lastEventId;
+
+    // 처리 실패 중인 이벤트 id
+    @Column(name = "failed_event_id")
+    private Long failedEventId;
+
+    // failed_event_id의 처리 실패 횟수
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    // 다음 전달 가능 시각 (백오프)
+    @Column(name = "next_attempt_at")
+    private Instant nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    public OutboxConsumerOffset(String consumer, long lastEventId) {
+        this.consumer = consumer;
+        this.lastEventId = lastEventId;
+    }
+
+    /**
+     * 처리 실패 기록
+     *
+     * @return 이 이벤트의 누적 실패 횟수
+     */
+    public int recordFailure(long eventId, String error, Instant nextAttemptAt) {
+        if (this.failedEventId == null || this.failedEventId != eventId) {
+            this.failedEventId = eventId;
+            this.attempts = 0;
+        }
+        this.attempts++;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        this.nextAttemptAt = nextAttemptAt;
+        return this.attempts;
+    }
+
+    public void clearFailure() {
+        this.failedEventId = null;
+        this.attempts = 0;
+        this.lastError = null;
+        this.nextAttemptAt = null;
+    }
+}
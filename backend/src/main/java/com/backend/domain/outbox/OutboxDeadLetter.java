@@ -0,0 +1,67 @@
+package com.backend.domain.outbox;
+
+import com.backend.domain.AuditEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 최대 시도 횟수를 넘겨 소비자가 건너뛴 아웃박스 이벤트.
+ *
+ * <p>오프셋 전진과 같은 트랜잭션에서 기록되므로 건너뛴 이벤트는 반드시 여기 남는다.
+ * 원본 이벤트는 보관 기간 후 삭제되므로 본문을 복사해 둔다 (수동 재처리/조사용).
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "outbox_dead_letters",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_outbox_dead_letters_consumer_event", columnNames = {"consumer", "event_id"})
+        }
+)
+public class OutboxDeadLetter extends AuditEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 소비자 이름 (OutboxEventListener#consumerName)
+    @Column(name = "consumer", length = 100, nullable = false)
+    private String consumer;
+
+    // 원본 outbox_events.id
+    @Column(name = "event_id", nullable = false)
+    private long eventId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", length = 50, nullable = false)
+    private OutboxEventType eventType;
+
+    @Column(name = "aggregate_id", length = 100, nullable = false)
+    private String aggregateId;
+
+    /** 이벤트 본문 JSON. MariaDB/MySQL에서 LONGTEXT로 생성 */
+    @Lob
+    @Column(name = "payload", columnDefinition = "LONGTEXT", nullable = false)
+    private String payload;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Builder
+    public OutboxDeadLetter(String consumer, OutboxEvent event, int attempts, String lastError) {
+        this.consumer = consumer;
+        this.eventId = event.getId();
+        this.eventType = event.getEventType();
+        this.aggregateId = event.getAggregateId();
+        this.payload = event.getPayload();
+        this.attempts = attempts;
+        this.lastError = lastError;
+    }
+}
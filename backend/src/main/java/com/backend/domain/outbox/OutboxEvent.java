@@ -0,0 +1,46 @@
+package com.backend.domain.outbox;
+
+import com.backend.domain.AuditEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 트랜잭셔널 아웃박스 이벤트.
+ *
+ * <p>상태 변경과 같은 트랜잭션에서 INSERT되므로 커밋된 상태 변경에는 반드시 이벤트가 남고, 롤백되면 함께 사라진다.
+ * OutboxRelay가 소비자별 오프셋(outbox_consumer_offsets.last_event_id) 이후의 이벤트를 id 순서대로 전달한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "outbox_events")
+public class OutboxEvent extends AuditEntity {
+
+    // PK (단조 증가, 소비자 오프셋 기준)
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", length = 50, nullable = false)
+    private OutboxEventType eventType;
+
+    // 이벤트 대상 식별자 (주문번호 등)
+    @Column(name = "aggregate_id", length = 100, nullable = false)
+    private String aggregateId;
+
+    /** 이벤트 본문 JSON. MariaDB/MySQL에서 LONGTEXT로 생성 */
+    @Lob
+    @Column(name = "payload", columnDefinition = "LONGTEXT", nullable = false)
+    private String payload;
+
+    @Builder
+    public OutboxEvent(OutboxEventType eventType, String aggregateId, String payload) {
+        this.eventType = eventType;
+        this.aggregateId = aggregateId;
+        this.payload = payload;
+    }
+}
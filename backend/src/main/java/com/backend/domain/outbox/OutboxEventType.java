@@ -0,0 +1,8 @@
+package com.backend.domain.outbox;
+
+public enum OutboxEventType {
+    // 주문 결제 완료 (CREATED/PAYMENT_PENDING → PAID)
+    ORDER_PAID,
+    // 결제 후처리(재고 차감) 완료
+    ORDER_FINALIZED
+}
@@ -0,0 +1,93 @@
+package com.backend.domain.payment;
+
+import com.backend.domain.AuditEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 결제 웹훅 수신함 (inbox).
+ *
+ * <p>웹훅 엔드포인트는 원문을 이 테이블에 추가만 하고 바로 200을 응답한다.
+ * - 중복 제거: dedup_key(eventType:paymentKey:status) 유니크 + INSERT IGNORE → PG 재전송은 1행으로 합쳐짐
+ * - 처리: PaymentWebhookInboxWorker가 주문번호별 id 순서로 반영 후 DONE
+ * - 실패: attempts 증가 + next_attempt_at 백오프, 최대 횟수 초과 시 FAILED (이후 이벤트 진행)
+ * created_at이 수신 시각이며 처리 지연(lag) 계산 기준이다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "payment_webhook_inbox",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_payment_webhook_inbox_dedup_key", columnNames = "dedup_key")
+        },
+        indexes = {
+                @Index(name = "idx_payment_webhook_inbox_status_next", columnList = "status, next_attempt_at"),
+                @Index(name = "idx_payment_webhook_inbox_order_status", columnList = "order_no, status")
+        }
+)
+public class PaymentWebhookInbox extends AuditEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "dedup_key", length = 255, nullable = false)
+    private String dedupKey;
+
+    @Column(name = "event_type", length = 50, nullable = false)
+    private String eventType;
+
+    @Column(name = "order_no", length = 50, nullable = false)
+    private String orderNo;
+
+    @Column(name = "payment_key", length = 200, nullable = false)
+    private String paymentKey;
+
+    // Toss 결제 상태 (DONE, CANCELED 등)
+    @Column(name = "payment_status", length = 30)
+    private String paymentStatus;
+
+    /** 웹훅 원문. MariaDB/MySQL에서 LONGTEXT로 생성 */
+    @Lob
+    @Column(name = "payload", columnDefinition = "LONGTEXT", nullable = false)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private PaymentWebhookInboxStatus status;
+
+    // 처리 실패 횟수
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    // 다음 처리 가능 시각 (백오프)
+    @Column(name = "next_attempt_at", nullable = false)
+    private Instant nextAttemptAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    @Column(name = "processed_at")
+    private Instant processedAt;
+
+    /**
+     * 처리 실패 기록.
+     *
+     * @param nextAttemptAt null이면 재시도 포기 (FAILED)
+     */
+    public void recordFailure(String error, Instant nextAttemptAt, Instant now) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+        if (nextAttemptAt == null) {
+            this.status = PaymentWebhookInboxStatus.FAILED;
+            this.processedAt = now;
+        } else {
+            this.nextAttemptAt = nextAttemptAt;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.backend.domain.payment;
+
+public enum PaymentWebhookInboxStatus {
+    PENDING,
+    DONE,
+    FAILED
+}
@@ -0,0 +1,31 @@
+package com.backend.domain.shop;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 카테고리 클로저 테이블 (조상, 자손, 깊이).
+ *
+ * <p>자기 자신(depth 0)을 포함해 모든 조상-자손 쌍을 1행씩 보관한다.
+ * 상위 카테고리로 상품을 필터링할 때 재귀 조회 없이 {@code ancestor_id = ?} 한 번으로 하위 전체를 얻는다.
+ * 행은 CategoryTreeService가 카테고리 쓰기 시점에 native 쿼리로 유지한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "category_closure",
+        indexes = @Index(name = "idx_category_closure_descendant", columnList = "descendant_id, ancestor_id")
+)
+public class CategoryClosure {
+
+    // 복합 키 (ancestor_id, descendant_id) → ancestor_id 선두 PK로 하위 조회
+    @EmbeddedId
+    private CategoryClosureId id;
+
+    // 조상으로부터의 거리 (자기 자신 0)
+    @Column(nullable = false)
+    private int depth;
+}
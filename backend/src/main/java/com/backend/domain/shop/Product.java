@@ -16,7 +16,10 @@ import java.util.List;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "products")
+@Table(
+        name = "products",
+        indexes = @Index(name = "idx_products_status_in_stock", columnList = "status, in_stock")
+)
 public class Product extends BaseEntity {
 
     // PK
@@ -42,6 +45,11 @@ public class Product extends BaseEntity {
     @Column(name = "base_price", nullable = false, precision = 18, scale = 2)
     private BigDecimal basePrice = BigDecimal.ZERO;
 
+    // 판매 가능 재고 여부 (비정규화: 옵션이 없거나 재고 > 0인 옵션이 1개 이상)
+    // 목록 품절 제외 필터가 product_variants 상관 서브쿼리 대신 이 컬럼만 보도록 유지
+    @Column(name = "in_stock", nullable = false)
+    private boolean inStock = true;
+
     // 작성자
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "created_by", referencedColumnName = "member_id", nullable = false)
@@ -95,6 +103,20 @@ public class Product extends BaseEntity {
         this.basePrice = basePrice;
     }
 
+    /**
+     * 옵션 구성/재고 변경 후 in_stock 재계산. 옵션 컬렉션을 읽으므로 변경 지점에서만 호출한다.
+     */
+    public void refreshInStock() {
+        this.inStock = variants.isEmpty() || variants.stream().anyMatch(v -> v.getAvailableQty() > 0);
+    }
+
+    /**
+     * 옵션 재고가 0 → 양수가 된 경우 (컬렉션 조회 없이 바로 재고 있음으로 전환)
+     */
+    public void markInStock() {
+        this.inStock = true;
+    }
+
     public BigDecimal resolvePrice(BigDecimal variantPrice) {
         return (variantPrice != null) ? variantPrice : this.basePrice;
     }
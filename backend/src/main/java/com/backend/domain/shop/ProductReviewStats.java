@@ -0,0 +1,53 @@
+package com.backend.domain.shop;
+
+import com.backend.domain.AuditEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품별 리뷰 집계 (읽기 모델).
+ *
+ * <p>상품 상세 조회마다 COUNT/AVG를 돌리지 않도록 리뷰 수, 평점 합, 별점별 개수를 상품당 1행으로 유지한다.
+ * 리뷰 생성/수정/삭제 트랜잭션 안에서 증분 upsert로 함께 갱신된다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "product_review_stats")
+public class ProductReviewStats extends AuditEntity {
+
+    // PK = 상품 ID (상품당 1행)
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    // 리뷰 수
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount = 0L;
+
+    // 평점 합 (평균 = ratingSum / reviewCount)
+    @Column(name = "rating_sum", nullable = false)
+    private long ratingSum = 0L;
+
+    // 별점별 리뷰 수 (1~5)
+    @Column(name = "rating1_count", nullable = false)
+    private long rating1Count = 0L;
+
+    @Column(name = "rating2_count", nullable = false)
+    private long rating2Count = 0L;
+
+    @Column(name = "rating3_count", nullable = false)
+    private long rating3Count = 0L;
+
+    @Column(name = "rating4_count", nullable = false)
+    private long rating4Count = 0L;
+
+    @Column(name = "rating5_count", nullable = false)
+    private long rating5Count = 0L;
+
+    public double averageRating() {
+        return reviewCount > 0 ? (double) ratingSum / reviewCount : 0.0;
+    }
+}
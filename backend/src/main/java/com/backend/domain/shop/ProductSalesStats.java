@@ -0,0 +1,40 @@
+package com.backend.domain.shop;
+
+import com.backend.domain.AuditEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품별 판매량 집계 (읽기 모델).
+ *
+ * <p>인기순/판매순 정렬 시 주문 이력을 매번 집계하지 않도록 상품당 1행으로 유지한다.
+ * - 결제 후처리(finalizeAfterPaid)에서 증분 반영
+ * - 주기 재집계 작업이 order_items 기준으로 청크 단위 재계산 (증분 누락/중복 보정)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "product_sales_stats",
+        indexes = @Index(name = "idx_product_sales_stats_sales_qty", columnList = "sales_qty, product_id")
+)
+public class ProductSalesStats extends AuditEntity {
+
+    // PK = 상품 ID (상품당 1행)
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    // 누적 판매 수량 (결제 완료 이후 주문, 취소 라인 제외)
+    @Column(name = "sales_qty", nullable = false)
+    private long salesQty = 0L;
+
+    @Builder
+    public ProductSalesStats(Long productId, Long salesQty) {
+        this.productId = productId;
+        this.salesQty = (salesQty != null) ? salesQty : 0L;
+    }
+}
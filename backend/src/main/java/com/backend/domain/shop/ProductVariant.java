@@ -38,6 +38,18 @@ public class ProductVariant extends BaseEntity {
     @Column(name = "stock_qty", nullable = false)
     private Integer stockQty = 0;
 
+    // 예약 수량 (결제 대기 중 홀드 합계 = stock_reservations ACTIVE 합)
+    // 예약/전환/해제 시 조건부 UPDATE로만 변경 → 엔티티 저장이 오래된 값으로 덮어쓰지 않도록 읽기 전용 매핑
+    @Column(name = "reserved_qty", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "int not null default 0")
+    private int reservedQty = 0;
+
+    // 핫 SKU 여부 (true면 판매 가능 수량 기준이 Redis 카운터, DB 경로의 재고 UPDATE는 이 값을 보고 막힘)
+    // 지정/해제 트랜잭션에서만 변경 → 엔티티 저장이 덮어쓰지 않도록 읽기 전용 매핑
+    @Column(name = "hot_sku", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "bit not null default 0")
+    private boolean hotSku = false;
+
     // 활성화 여부
     @Column(name = "is_active", nullable = false)
     private boolean active = true;
@@ -61,6 +73,7 @@ public class ProductVariant extends BaseEntity {
             throw new IllegalArgumentException("재고 수량은 0 이상이어야 합니다.");
         }
         this.stockQty = stockQty;
+        syncProductInStock();
     }
 
     // 재고 증가
@@ -69,6 +82,7 @@ public class ProductVariant extends BaseEntity {
             throw new IllegalArgumentException("증가 수량은 0 이상이어야 합니다.");
         }
         this.stockQty += quantity;
+        syncProductInStock();
     }
 
     // 재고 감소
@@ -80,6 +94,26 @@ public class ProductVariant extends BaseEntity {
             throw new IllegalArgumentException("재고가 부족합니다.");
         }
         this.stockQty -= quantity;
+        syncProductInStock();
+    }
+
+    // 판매 가능 수량 (재고 - 예약)
+    public int getAvailableQty() {
+        return Math.max(this.stockQty - this.reservedQty, 0);
+    }
+
+    // 상품 in_stock 동기화: 재고 발생은 즉시 반영, 0이 된 경우에만 다른 옵션까지 확인
+    private void syncProductInStock() {
+        if (this.product == null) {
+            return;
+        }
+        if (getAvailableQty() > 0) {
+            if (!this.product.isInStock()) {
+                this.product.markInStock();
+            }
+        } else {
+            this.product.refreshInStock();
+        }
     }
 
     // 실제 가격 조회 (variant 가격이 null이면 상품 기본 가격 반환)
@@ -0,0 +1,71 @@
+package com.backend.domain.shop;
+
+import com.backend.domain.AuditEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 재고 예약 원장 (주문 생성 시 홀드).
+ *
+ * <p>주문 생성 시점에 옵션별로 1행을 만들고 product_variants.reserved_qty에 같은 수량을 더한다.
+ * - 결제 완료(finalizeAfterPaid): ACTIVE → CONVERTED, stock_qty/reserved_qty 동시 차감
+ * - 결제 미완료로 expires_at 경과: 해제 작업이 ACTIVE → RELEASED, reserved_qty 반환
+ * 상태 전이는 행 잠금 후 ACTIVE인 행에 대해서만 수행한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+        name = "stock_reservations",
+        indexes = {
+                @Index(name = "idx_stock_reservations_order", columnList = "order_id, status"),
+                @Index(name = "idx_stock_reservations_status_expires", columnList = "status, expires_at")
+        }
+)
+public class StockReservation extends AuditEntity {
+
+    // PK
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 주문 ID
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    // 옵션 ID
+    @Column(name = "variant_id", nullable = false)
+    private Long variantId;
+
+    // 상품 ID (해제 시 in_stock/상세 캐시 갱신용)
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    // 예약 수량
+    @Column(nullable = false)
+    private int qty;
+
+    // 상태
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private StockReservationStatus status;
+
+    // 만료 시각 (이후 결제 완료되면 예약 없이 재고 재검증 경로로 처리)
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    @Builder
+    public StockReservation(Long orderId, Long variantId, Long productId, int qty, Instant expiresAt) {
+        this.orderId = orderId;
+        this.variantId = variantId;
+        this.productId = productId;
+        this.qty = qty;
+        this.status = StockReservationStatus.ACTIVE;
+        this.expiresAt = expiresAt;
+    }
+}
@@ -0,0 +1,7 @@
+package com.backend.domain.shop;
+
+public enum StockReservationStatus {
+    ACTIVE, // 결제 대기 중 홀드
+    CONVERTED, // 결제 완료 → 재고 차감으로 전환
+    RELEASED // 만료/취소로 해제
+}
@@ -0,0 +1,47 @@
+package com.backend.dto.cart.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 장바구니 일괄 변경 요청 (POST /api/cart/ops)
+ * - ops는 순서대로 하나의 트랜잭션에서 적용, 하나라도 실패하면 전체 미적용
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class CartOpsRequest {
+
+    @NotEmpty(message = "변경 항목은 1개 이상이어야 합니다")
+    @Size(max = 50, message = "한 번에 최대 50개까지 변경할 수 있습니다")
+    @Valid
+    private List<CartOpDto> ops;
+
+    public enum OpType {
+        ADD,    // variantId + qty(>=1): 기존 라인이 있으면 수량 증가
+        UPDATE, // itemId + qty: 수량 변경 (qty <= 0이면 삭제)
+        REMOVE  // itemId: 라인 삭제
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    public static class CartOpDto {
+        @NotNull(message = "변경 유형은 필수입니다")
+        private OpType type;
+
+        private Long variantId;
+
+        // 게스트 장바구니는 variantId와 동일
+        private Long itemId;
+
+        private Integer qty;
+    }
+}
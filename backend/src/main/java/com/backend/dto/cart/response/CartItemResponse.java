@@ -17,6 +17,7 @@ public class CartItemResponse {
     private Long itemId;
     private Long variantId;
     private Integer qty;
+    private Integer availableQty; // 재고 - 결제 대기 예약
     private Long productId;
     private String productName;
     private BigDecimal price; // TODO: variant.price 또는 product.basePrice
@@ -15,6 +15,7 @@ import java.util.List;
 @AllArgsConstructor
 public class CartResponse {
     private Long cartId;
+    private Long version; // 장바구니 변경 버전 (ETag 값)
     private Boolean isGuest;
     private List<CartItemResponse> items;
     private CartTotalsResponse totals;
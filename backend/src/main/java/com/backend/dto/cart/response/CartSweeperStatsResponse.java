@@ -0,0 +1,50 @@
+package com.backend.dto.cart.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * 방치된 게스트 장바구니 정리 작업 통계 (운영 모니터링용, 이 노드에서 실행된 기준)
+ */
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class CartSweeperStatsResponse {
+
+    @JsonProperty("total_runs")
+    private long totalRuns;
+
+    @JsonProperty("total_carts_purged")
+    private long totalCartsPurged;
+
+    @JsonProperty("total_items_purged")
+    private long totalItemsPurged;
+
+    @JsonProperty("last_run_at")
+    private Instant lastRunAt;
+
+    @JsonProperty("last_run_carts_purged")
+    private int lastRunCartsPurged;
+
+    @JsonProperty("last_run_items_purged")
+    private int lastRunItemsPurged;
+
+    @JsonProperty("last_run_chunks")
+    private int lastRunChunks;
+
+    @JsonProperty("last_run_elapsed_ms")
+    private long lastRunElapsedMs;
+
+    // 직전 실행의 청크(트랜잭션) 1개당 평균/최대 소요 시간
+    @JsonProperty("last_run_avg_chunk_ms")
+    private double lastRunAvgChunkMs;
+
+    @JsonProperty("last_run_max_chunk_ms")
+    private long lastRunMaxChunkMs;
+}
@@ -0,0 +1,61 @@
+package com.backend.dto.payment.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 결제 대행사(Toss) 클라이언트 통계 (운영 모니터링용)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentGatewayStatsResponse {
+
+    @JsonProperty("circuit_state")
+    private String circuitState;
+
+    // CLOSED → OPEN 전환 횟수
+    @JsonProperty("circuit_open_count")
+    private long circuitOpenCount;
+
+    // OPEN 상태에서 호출 없이 즉시 실패시킨 요청 수
+    @JsonProperty("circuit_rejected")
+    private long circuitRejected;
+
+    private List<EndpointStats> endpoints;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class EndpointStats {
+
+        private String endpoint;
+
+        private long calls;
+
+        // 네트워크 오류/타임아웃/5xx
+        private long failures;
+
+        @JsonProperty("avg_ms")
+        private double avgMillis;
+
+        @JsonProperty("p50_ms")
+        private long p50Millis;
+
+        @JsonProperty("p95_ms")
+        private long p95Millis;
+
+        @JsonProperty("p99_ms")
+        private long p99Millis;
+
+        @JsonProperty("max_ms")
+        private long maxMillis;
+    }
+}
@@ -0,0 +1,30 @@
+package com.backend.dto.payment.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 결제 웹훅 수신함 처리 현황 (운영 모니터링용)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentWebhookInboxStatsResponse {
+
+    // 미처리 건수 (백오프 대기 포함)
+    private long pending;
+
+    // 최대 재시도 초과로 포기한 건수
+    private long failed;
+
+    // 가장 오래된 미처리 웹훅의 수신 후 경과 시간 (없으면 0)
+    @JsonProperty("oldest_pending_age_ms")
+    private long oldestPendingAgeMillis;
+
+    // 이 노드에서 반영한 웹훅의 수신 → 반영 지연 (calls: 반영 건수)
+    private PaymentGatewayStatsResponse.EndpointStats lag;
+}
@@ -1,6 +1,7 @@
 package com.backend.dto.shop.request;
 
 import com.backend.domain.shop.ProductStatus;
+import com.backend.repository.shop.ProductCountMode;
 import com.backend.repository.shop.ProductSearchCondition;
 import lombok.Getter;
 import lombok.Setter;
@@ -29,6 +30,9 @@ public class ProductSearchRequest {
     // 정렬 방향 (ASC, DESC)
     private String direction = "DESC";
 
+    // 전체 건수 계산 방식 (exact, cached, estimated) - 미지정 시 관리자 exact, 스토어 cached
+    private String countMode;
+
     public ProductSearchCondition toCondition() {
         return ProductSearchCondition.builder()
                 .keyword(keyword)
@@ -38,6 +42,15 @@ public class ProductSearchRequest {
                 .status(status)
                 .sortBy(sortBy)
                 .direction(direction)
+                .countMode(resolveCountMode(ProductCountMode.EXACT))
                 .build();
     }
+
+    /**
+     * 요청 countMode → 모드 (미지정/알 수 없으면 defaultMode)
+     */
+    public ProductCountMode resolveCountMode(ProductCountMode defaultMode) {
+        ProductCountMode mode = ProductCountMode.from(countMode);
+        return mode != null ? mode : defaultMode;
+    }
 }
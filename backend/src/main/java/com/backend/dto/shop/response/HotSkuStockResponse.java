@@ -0,0 +1,30 @@
+package com.backend.dto.shop.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 핫 SKU 재고 카운터 상태 (운영용)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HotSkuStockResponse {
+
+    @JsonProperty("variant_id")
+    private Long variantId;
+
+    // Redis 카운터 기준 (DB에는 반영 주기만큼 늦게 기록됨)
+    @JsonProperty("stock_qty")
+    private int stockQty;
+
+    @JsonProperty("reserved_qty")
+    private int reservedQty;
+
+    @JsonProperty("available_qty")
+    private int availableQty;
+}
@@ -0,0 +1,35 @@
+package com.backend.dto.shop.response;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 상세 캐시 통계 (운영 모니터링용)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductDetailCacheStatsResponse {
+
+    private int size;
+
+    @JsonProperty("max_size")
+    private int maxSize;
+
+    private long hits;
+
+    private long misses;
+
+    // 용량 초과(LRU) + TTL 만료로 제거된 수
+    private long evictions;
+
+    // 변경으로 인한 명시적 무효화 수
+    private long invalidations;
+
+    @JsonProperty("hit_ratio")
+    private double hitRatio;
+}
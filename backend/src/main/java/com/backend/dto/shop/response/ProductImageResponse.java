@@ -16,7 +16,9 @@ import java.util.UUID;
 @AllArgsConstructor
 public class ProductImageResponse {
     private UUID uuid;
-    private String url; // FileStorageService를 통해 조립된 URL
+    private String url; // FileStorageService를 통해 조립된 URL (원본)
+    private String thumbnailUrl; // 목록용 썸네일 (생성 전이면 원본 URL)
+    private String mediumUrl; // 상세용 중간 크기 (생성 전이면 원본 URL)
     private String filePath; // 스토리지 키 (파일 경로) - 프론트엔드에서 이미지 수정 시 필요
     private boolean primaryImage;
 }
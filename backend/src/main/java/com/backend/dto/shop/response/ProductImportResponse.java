@@ -0,0 +1,40 @@
+package com.backend.dto.shop.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 상품 대량 등록 결과
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImportResponse {
+
+    // 읽은 데이터 행 수 (빈 줄 제외)
+    private int total;
+
+    private int imported;
+
+    // 상품명 중복(기존 상품 또는 파일 내 중복)으로 건너뜀
+    private int skipped;
+
+    // 형식/검증/저장 오류
+    private int failed;
+
+    // 오류 상세 (최대 100건)
+    private List<RowError> errors;
+
+    @Getter
+    @AllArgsConstructor
+    public static class RowError {
+        private int line;
+        private String name;
+        private String message;
+    }
+}
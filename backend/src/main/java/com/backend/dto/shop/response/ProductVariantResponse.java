@@ -24,6 +24,7 @@ public class ProductVariantResponse {
     private String optionText;
     private BigDecimal price;
     private Integer stockQty;
+    private Integer availableQty; // 재고 - 결제 대기 예약
     private Boolean active;
     private Instant createdAt;
     private Instant updatedAt;
@@ -44,6 +45,7 @@ public class ProductVariantResponse {
                 .optionText(variant.getOptionText())
                 .price(variant.getPrice())
                 .stockQty(variant.getStockQty())
+                .availableQty(variant.getAvailableQty())
                 .active(variant.isActive())
                 .createdAt(variant.getCreatedAt())
                 .updatedAt(variant.getUpdatedAt())
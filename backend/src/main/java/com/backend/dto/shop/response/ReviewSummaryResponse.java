@@ -1,5 +1,6 @@
 package com.backend.dto.shop.response;
 
+import com.backend.domain.shop.ProductReviewStats;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -7,6 +8,9 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @Getter
 @Setter
 @Builder
@@ -18,4 +22,26 @@ public class ReviewSummaryResponse {
     private double averageRating;
 
     private long count;
+
+    // 별점(1~5) → 리뷰 수
+    @JsonProperty("rating_distribution")
+    private Map<Integer, Long> ratingDistribution;
+
+    /**
+     * 리뷰 집계 행으로 요약 생성 (집계 행이 없으면 리뷰 0건)
+     */
+    public static ReviewSummaryResponse from(ProductReviewStats stats) {
+        Map<Integer, Long> distribution = new LinkedHashMap<>();
+        distribution.put(1, stats != null ? stats.getRating1Count() : 0L);
+        distribution.put(2, stats != null ? stats.getRating2Count() : 0L);
+        distribution.put(3, stats != null ? stats.getRating3Count() : 0L);
+        distribution.put(4, stats != null ? stats.getRating4Count() : 0L);
+        distribution.put(5, stats != null ? stats.getRating5Count() : 0L);
+
+        return ReviewSummaryResponse.builder()
+                .averageRating(stats != null ? stats.averageRating() : 0.0)
+                .count(stats != null ? stats.getReviewCount() : 0L)
+                .ratingDistribution(distribution)
+                .build();
+    }
 }
@@ -0,0 +1,45 @@
+package com.backend.repository.cart;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 장바구니 라인 JDBC 배치 writer.
+ *
+ * <p>CartItem은 IDENTITY 전략이라 Hibernate가 INSERT 배치를 하지 않으므로,
+ * 병합처럼 여러 라인을 한 번에 쓰는 경로는 uk_cart_item_cart_variant 기준 upsert를 batchUpdate로 보낸다.
+ * 호출 트랜잭션에 참여한다 (JPA 트랜잭션과 같은 커넥션).
+ */
+@Repository
+@RequiredArgsConstructor
+public class CartItemBulkWriter {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 라인 수량 upsert: 없으면 INSERT, 있으면 qty를 주어진 값으로 덮어쓴다.
+     *
+     * @param qtyByVariantId variantId → 최종 수량 (1 이상)
+     */
+    public void upsertQuantities(Long cartId, Map<Long, Integer> qtyByVariantId) {
+        if (qtyByVariantId.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Object[]> args = new ArrayList<>(qtyByVariantId.size());
+        qtyByVariantId.forEach((variantId, qty) -> args.add(new Object[]{cartId, variantId, qty, now, now}));
+
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO cart_items (cart_id, variant_id, qty, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?)
+                ON DUPLICATE KEY UPDATE qty = VALUES(qty), updated_at = VALUES(updated_at)
+                """, args);
+    }
+}
@@ -1,12 +1,14 @@
 package com.backend.repository.cart;
 
 import com.backend.domain.cart.CartItem;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -19,6 +21,26 @@ public interface CartItemRepository extends JpaRepository<CartItem, Long> {
     // cartId로 전체 조회
     List<CartItem> findAllByCartId(Long cartId);
     
+    // 병합용: 해당 카트의 지정 variant 라인 일괄 조회
+    List<CartItem> findAllByCartIdAndVariantIdIn(Long cartId, Collection<Long> variantIds);
+    
+    // 병합용: 해당 카트의 지정 variant 라인 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM CartItem ci WHERE ci.cart.id = :cartId AND ci.variant.id IN :variantIds")
+    int deleteByCartIdAndVariantIdIn(@Param("cartId") Long cartId, @Param("variantIds") Collection<Long> variantIds);
+    
+    // 일괄 변경용: 해당 카트에서 itemId 또는 variantId로 지정된 라인을 variant와 함께 한 번에 조회
+    @EntityGraph(attributePaths = {"variant"})
+    @Query("SELECT ci FROM CartItem ci WHERE ci.cart.id = :cartId AND (ci.id IN :itemIds OR ci.variant.id IN :variantIds)")
+    List<CartItem> findByCartIdAndIdInOrVariantIdIn(@Param("cartId") Long cartId,
+                                                     @Param("itemIds") Collection<Long> itemIds,
+                                                     @Param("variantIds") Collection<Long> variantIds);
+    
+    // 여러 cartId의 라인 일괄 삭제 (정리 작업용)
+    @Modifying
+    @Query("DELETE FROM CartItem ci WHERE ci.cart.id IN :cartIds")
+    int deleteByCartIdIn(@Param("cartIds") Collection<Long> cartIds);
+    
     // cartId로 삭제
     @Modifying
     @Query("DELETE FROM CartItem ci WHERE ci.cart.id = :cartId")
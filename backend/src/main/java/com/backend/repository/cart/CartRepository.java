@@ -1,10 +1,17 @@
 package com.backend.repository.cart;
 
 import com.backend.domain.cart.Cart;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -33,4 +40,32 @@ public interface CartRepository extends JpaRepository<Cart, Long> {
         "items.variant.product.images"
     })
     Optional<Cart> findWithItemsByGuestToken(String guestToken);
+
+    // 회원 장바구니 버전만 조회 (조건부 GET / 응답 캐시 확인용, 엔티티 그래프 미로딩)
+    @Query("SELECT c.version FROM Cart c WHERE c.member.id = :memberId")
+    Optional<Long> findVersionByMember_Id(@Param("memberId") Long memberId);
+
+    // 장바구니 변경 시 버전 +1 (원자적 증가 → 동시 변경에도 버전 중복 없음)
+    @Modifying
+    @Query("UPDATE Cart c SET c.version = c.version + 1 WHERE c.id = :cartId")
+    int incrementVersion(@Param("cartId") Long cartId);
+
+    // 정리 작업용: 보존 기간이 지난 게스트 카트 id (id 오름차순 keyset)
+    // 카트와 라인 모두 cutoff 이후 변경이 없어야 대상
+    @Query("""
+            SELECT c.id FROM Cart c
+             WHERE c.guestToken IS NOT NULL
+               AND c.id > :afterId
+               AND c.updatedAt < :cutoff
+               AND NOT EXISTS (SELECT 1 FROM CartItem ci WHERE ci.cart = c AND ci.updatedAt >= :cutoff)
+             ORDER BY c.id
+            """)
+    List<Long> findStaleGuestCartIds(@Param("afterId") Long afterId,
+                                     @Param("cutoff") Instant cutoff,
+                                     Pageable pageable);
+
+    // 정리 작업용: 게스트 카트 일괄 삭제 (라인은 먼저 삭제)
+    @Modifying
+    @Query("DELETE FROM Cart c WHERE c.id IN :ids AND c.guestToken IS NOT NULL")
+    int deleteGuestCartsByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,102 @@
+package com.backend.repository.file;
+
+import com.backend.domain.file.StoredBlob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+public interface StoredBlobRepository extends JpaRepository<StoredBlob, String> {
+
+    /**
+     * 업로드 기록 (행이 없으면 참조 0으로 생성, 있으면 updated_at만 갱신 → 미연결 정리 유예 시작점)
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO stored_blobs (storage_key, size_bytes, ref_count, created_at, updated_at)
+            VALUES (:storageKey, :sizeBytes, 0, NOW(6), NOW(6))
+            ON DUPLICATE KEY UPDATE updated_at = NOW(6)
+            """, nativeQuery = true)
+    int registerUpload(@Param("storageKey") String storageKey, @Param("sizeBytes") long sizeBytes);
+
+    /**
+     * 참조 +1 (행이 없으면 1로 생성). 호출 트랜잭션에 참여해 참조 행 저장과 함께 커밋/롤백된다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO stored_blobs (storage_key, size_bytes, ref_count, created_at, updated_at)
+            VALUES (:storageKey, :sizeBytes, 1, NOW(6), NOW(6))
+            ON DUPLICATE KEY UPDATE ref_count = ref_count + 1, updated_at = NOW(6)
+            """, nativeQuery = true)
+    int incrementRefCount(@Param("storageKey") String storageKey, @Param("sizeBytes") long sizeBytes);
+
+    /**
+     * 참조 -1
+     *
+     * @return 0이면 추적 대상이 아니거나 이미 참조가 없는 파일
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE stored_blobs SET ref_count = ref_count - 1, updated_at = NOW(6)
+             WHERE storage_key = :storageKey AND ref_count > 0
+            """, nativeQuery = true)
+    int decrementRefCount(@Param("storageKey") String storageKey);
+
+    /**
+     * 정리 대상: prefix 아래에서 cutoff 이전부터 참조가 없는 파일 (업로드 후 미연결 / 마지막 참조 해제)
+     */
+    @Query(value = """
+            SELECT storage_key FROM stored_blobs
+             WHERE ref_count <= 0 AND updated_at < :cutoff AND storage_key LIKE CONCAT(:prefix, '%')
+             ORDER BY storage_key
+            """, nativeQuery = true)
+    List<String> findUnreferencedKeys(@Param("prefix") String prefix, @Param("cutoff") Instant cutoff, Pageable pageable);
+
+    /**
+     * 참조가 없는 행 제거 (그 사이 다시 업로드/연결된 행은 updated_at/ref_count 조건으로 제외)
+     *
+     * @return 1이면 실제 파일도 지워야 함
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            DELETE FROM stored_blobs
+             WHERE storage_key = :storageKey AND ref_count <= 0 AND updated_at < :cutoff
+            """, nativeQuery = true)
+    int deleteIfUnreferenced(@Param("storageKey") String storageKey, @Param("cutoff") Instant cutoff);
+
+    /**
+     * 참조 수를 활성 product_images 행 수로 다시 맞춘다 (업로드 횟수 기준이던 기존 값 1회 보정).
+     * 추적 기록이 없던 기존 이미지 파일도 함께 등록한다 (크기 미상 0).
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO stored_blobs (storage_key, size_bytes, ref_count, created_at, updated_at)
+            SELECT i.file_path, 0, COUNT(*), NOW(6), NOW(6)
+              FROM product_images i
+             WHERE i.deleted_at IS NULL AND CHAR_LENGTH(i.file_path) <= 200
+             GROUP BY i.file_path
+            ON DUPLICATE KEY UPDATE ref_count = VALUES(ref_count), updated_at = NOW(6)
+            """, nativeQuery = true)
+    int recountImageReferences();
+
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE stored_blobs b SET b.ref_count = 0, b.updated_at = NOW(6)
+             WHERE b.ref_count > 0
+               AND NOT EXISTS (SELECT 1 FROM product_images i WHERE i.file_path = b.storage_key AND i.deleted_at IS NULL)
+            """, nativeQuery = true)
+    int clearOrphanReferences();
+}
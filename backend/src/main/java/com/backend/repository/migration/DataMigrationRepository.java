@@ -0,0 +1,7 @@
+package com.backend.repository.migration;
+
+import com.backend.domain.migration.DataMigration;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface DataMigrationRepository extends JpaRepository<DataMigration, String> {
+}
@@ -46,6 +46,112 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
     int markFinalizingForPaidOrder(@Param("orderNo") String orderNo,
                                    @Param("paidStatus") OrderStatus paidStatus);
 
+    /**
+     * Toss 승인 호출 선점을 위한 CAS 쿼리 (호출은 트랜잭션 밖에서 수행).
+     *
+     * - 조건:
+     *   - 해당 주문이 PAYMENT_PENDING 상태일 것
+     *   - 진행 중인 승인이 없거나, 선점이 staleBefore 이전이라 중단된 것으로 볼 수 있을 것
+     *
+     * @return 업데이트된 행 수 (1: 선점 성공, 0: 다른 승인 진행 중 또는 조건 불충족)
+     */
+    @Modifying
+    @Query("""
+            UPDATE Order o
+               SET o.confirmingAt = :now,
+                   o.confirmingPaymentKey = :paymentKey
+             WHERE o.orderNo = :orderNo
+               AND o.status = :pendingStatus
+               AND (o.confirmingAt IS NULL OR o.confirmingAt < :staleBefore)
+            """)
+    int markConfirming(@Param("orderNo") String orderNo,
+                       @Param("paymentKey") String paymentKey,
+                       @Param("pendingStatus") OrderStatus pendingStatus,
+                       @Param("now") Instant now,
+                       @Param("staleBefore") Instant staleBefore);
+
+    /**
+     * 승인 선점 후 staleBefore까지 결과가 반영되지 않은 주문 (idx_orders_confirming_at).
+     */
+    @Query("""
+            SELECT o.orderNo
+              FROM Order o
+             WHERE o.confirmingAt < :staleBefore
+               AND o.status = :pendingStatus
+             ORDER BY o.confirmingAt
+            """)
+    List<String> findStaleConfirmingOrderNos(@Param("pendingStatus") OrderStatus pendingStatus,
+                                             @Param("staleBefore") Instant staleBefore,
+                                             Pageable pageable);
+
+    /**
+     * 결제 완료(PAID) 후 후처리가 끝나지 않은 주문 (idx_orders_status_finalized_paid).
+     * 승인 직후 정상 경로와 겹치지 않도록 paidBefore 이전 결제분만, 영구 실패 반복을 막기 위해 paidAfter 이후만 본다.
+     */
+    @Query("""
+            SELECT o.orderNo
+              FROM Order o
+             WHERE o.status = :paidStatus
+               AND o.finalized = false
+               AND o.finalizing = false
+               AND o.finalizeFailedAt IS NULL
+               AND o.paidAt >= :paidAfter
+               AND o.paidAt < :paidBefore
+             ORDER BY o.paidAt
+            """)
+    List<String> findUnfinalizedPaidOrderNos(@Param("paidStatus") OrderStatus paidStatus,
+                                             @Param("paidAfter") Instant paidAfter,
+                                             @Param("paidBefore") Instant paidBefore,
+                                             Pageable pageable);
+
+    /**
+     * 후처리 실패 횟수 +1 (아직 finalized 되지 않았고 포기 처리되지 않은 주문만).
+     */
+    @Modifying
+    @Query("""
+            UPDATE Order o
+               SET o.finalizeAttempts = o.finalizeAttempts + 1
+             WHERE o.orderNo = :orderNo
+               AND o.finalized = false
+               AND o.finalizeFailedAt IS NULL
+            """)
+    int incrementFinalizeAttempts(@Param("orderNo") String orderNo);
+
+    /**
+     * 실패 횟수가 한도에 도달한 주문을 후처리 포기(수동 확인 대상)로 전환.
+     *
+     * @return 1: 이번 호출로 포기 처리됨, 0: 한도 미만이거나 이미 처리됨
+     */
+    @Modifying
+    @Query("""
+            UPDATE Order o
+               SET o.finalizeFailedAt = :now
+             WHERE o.orderNo = :orderNo
+               AND o.finalized = false
+               AND o.finalizeFailedAt IS NULL
+               AND o.finalizeAttempts >= :maxAttempts
+            """)
+    int markFinalizeFailedIfExhausted(@Param("orderNo") String orderNo,
+                                      @Param("maxAttempts") int maxAttempts,
+                                      @Param("now") Instant now);
+
+    /**
+     * 복구 기간(max-age)이 지나도록 후처리되지 않은 PAID 주문을 후처리 포기(수동 확인 대상)로 일괄 전환.
+     */
+    @Modifying
+    @Query("""
+            UPDATE Order o
+               SET o.finalizeFailedAt = :now
+             WHERE o.status = :paidStatus
+               AND o.finalized = false
+               AND o.finalizing = false
+               AND o.finalizeFailedAt IS NULL
+               AND o.paidAt < :paidBefore
+            """)
+    int markFinalizeFailedPaidBefore(@Param("paidStatus") OrderStatus paidStatus,
+                                     @Param("paidBefore") Instant paidBefore,
+                                     @Param("now") Instant now);
+
     /**
      * 회원별 주문 목록 경량 조회 (orders만, 서브쿼리 없음). idx_orders_member_created 활용.
      */
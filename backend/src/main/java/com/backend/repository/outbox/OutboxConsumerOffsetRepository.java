@@ -0,0 +1,36 @@
+package com.backend.repository.outbox;
+
+import com.backend.domain.outbox.OutboxConsumerOffset;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Optional;
+
+public interface OutboxConsumerOffsetRepository extends JpaRepository<OutboxConsumerOffset, String> {
+
+    /**
+     * 오프셋 전진 (역행하지 않음)
+     */
+    @Modifying
+    @Query("""
+            UPDATE OutboxConsumerOffset o
+               SET o.lastEventId = :eventId,
+                   o.updatedAt = :now
+             WHERE o.consumer = :consumer
+               AND o.lastEventId < :eventId
+            """)
+    int advance(@Param("consumer") String consumer, @Param("eventId") long eventId, @Param("now") Instant now);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM OutboxConsumerOffset o WHERE o.consumer = :consumer")
+    Optional<OutboxConsumerOffset> findByIdForUpdate(@Param("consumer") String consumer);
+
+    @Query("SELECT MIN(o.lastEventId) FROM OutboxConsumerOffset o WHERE o.consumer IN :consumers")
+    Long findMinLastEventId(@Param("consumers") Collection<String> consumers);
+}
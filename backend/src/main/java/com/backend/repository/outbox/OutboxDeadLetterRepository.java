@@ -0,0 +1,7 @@
+package com.backend.repository.outbox;
+
+import com.backend.domain.outbox.OutboxDeadLetter;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface OutboxDeadLetterRepository extends JpaRepository<OutboxDeadLetter, Long> {
+}
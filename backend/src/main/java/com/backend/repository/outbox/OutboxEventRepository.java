@@ -0,0 +1,43 @@
+package com.backend.repository.outbox;
+
+import com.backend.domain.outbox.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 오프셋 이후 이벤트 (PK 범위 조회).
+     * IDENTITY id는 커밋 순서와 다를 수 있으므로 중간에 빈 번호가 있으면 호출부(OutboxRelay)가 그 앞에서 멈추고 기다린다.
+     */
+    @Query("""
+            SELECT e FROM OutboxEvent e
+             WHERE e.id > :afterId
+             ORDER BY e.id
+            """)
+    List<OutboxEvent> findAfter(@Param("afterId") long afterId, Pageable pageable);
+
+    /**
+     * createdBefore 이전에 생성된 마지막 이벤트 id (새 소비자 시작 위치)
+     */
+    @Query("SELECT COALESCE(MAX(e.id), 0) FROM OutboxEvent e WHERE e.createdAt < :createdBefore")
+    long findMaxIdCreatedBefore(@Param("createdBefore") Instant createdBefore);
+
+    /**
+     * 모든 소비자에게 전달된(id <= upToId) 보관 기간 경과 이벤트 삭제 (청크 단위)
+     */
+    @Modifying
+    @Query(value = """
+            DELETE FROM outbox_events
+             WHERE id <= :upToId
+               AND created_at < :before
+             LIMIT :limit
+            """, nativeQuery = true)
+    int deleteDelivered(@Param("upToId") long upToId, @Param("before") Instant before, @Param("limit") int limit);
+}
@@ -0,0 +1,11 @@
+package com.backend.repository.payment;
+
+/**
+ * 주문번호별 가장 앞선 미처리(PENDING) 웹훅 id
+ */
+public interface PaymentWebhookInboxHeadProjection {
+
+    String getOrderNo();
+
+    Long getHeadId();
+}
@@ -0,0 +1,96 @@
+package com.backend.repository.payment;
+
+import com.backend.domain.payment.PaymentWebhookInbox;
+import com.backend.domain.payment.PaymentWebhookInboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface PaymentWebhookInboxRepository extends JpaRepository<PaymentWebhookInbox, Long> {
+
+    /**
+     * 수신 웹훅 추가. 같은 dedup_key가 이미 있으면 아무것도 바꾸지 않는다 (PG 재전송 중복 제거).
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO payment_webhook_inbox
+                (dedup_key, event_type, order_no, payment_key, payment_status, payload,
+                 status, attempts, next_attempt_at, created_at, updated_at)
+            VALUES (:dedupKey, :eventType, :orderNo, :paymentKey, :paymentStatus, :payload,
+                    'PENDING', 0, NOW(6), NOW(6), NOW(6))
+            ON DUPLICATE KEY UPDATE id = id
+            """, nativeQuery = true)
+    int appendIgnoringDuplicate(@Param("dedupKey") String dedupKey,
+                                @Param("eventType") String eventType,
+                                @Param("orderNo") String orderNo,
+                                @Param("paymentKey") String paymentKey,
+                                @Param("paymentStatus") String paymentStatus,
+                                @Param("payload") String payload);
+
+    /**
+     * 처리 가능 시각이 지난 미처리 웹훅 (수신 순서). idx_payment_webhook_inbox_status_next 활용.
+     */
+    @Query("""
+            SELECT w FROM PaymentWebhookInbox w
+             WHERE w.status = :status
+               AND w.nextAttemptAt <= :now
+             ORDER BY w.id
+            """)
+    List<PaymentWebhookInbox> findDue(@Param("status") PaymentWebhookInboxStatus status,
+                                      @Param("now") Instant now,
+                                      Pageable pageable);
+
+    /**
+     * 주문번호별 가장 앞선 미처리 웹훅 id (백오프 대기 중인 것 포함). 주문별 순서 유지 판단용.
+     */
+    @Query("""
+            SELECT w.orderNo AS orderNo, MIN(w.id) AS headId
+              FROM PaymentWebhookInbox w
+             WHERE w.status = :status
+               AND w.orderNo IN :orderNos
+             GROUP BY w.orderNo
+            """)
+    List<PaymentWebhookInboxHeadProjection> findHeadIds(@Param("status") PaymentWebhookInboxStatus status,
+                                                         @Param("orderNos") Collection<String> orderNos);
+
+    /**
+     * 처리 선점 + 완료 마킹 CAS. 반영과 같은 트랜잭션에서 호출해 반영이 롤백되면 PENDING으로 남게 한다.
+     *
+     * @return 1: 선점 성공, 0: 이미 처리됨
+     */
+    @Modifying
+    @Query("""
+            UPDATE PaymentWebhookInbox w
+               SET w.status = :doneStatus,
+                   w.processedAt = :now
+             WHERE w.id = :id
+               AND w.status = :pendingStatus
+            """)
+    int markDone(@Param("id") Long id,
+                 @Param("pendingStatus") PaymentWebhookInboxStatus pendingStatus,
+                 @Param("doneStatus") PaymentWebhookInboxStatus doneStatus,
+                 @Param("now") Instant now);
+
+    long countByStatus(PaymentWebhookInboxStatus status);
+
+    @Query("SELECT MIN(w.createdAt) FROM PaymentWebhookInbox w WHERE w.status = :status")
+    Instant findOldestCreatedAt(@Param("status") PaymentWebhookInboxStatus status);
+
+    /**
+     * 보관 기간이 지난 처리 완료 행 삭제 (청크 단위)
+     */
+    @Modifying
+    @Query(value = """
+            DELETE FROM payment_webhook_inbox
+             WHERE status = 'DONE'
+               AND processed_at < :before
+             LIMIT :limit
+            """, nativeQuery = true)
+    int deleteDoneBefore(@Param("before") Instant before, @Param("limit") int limit);
+}
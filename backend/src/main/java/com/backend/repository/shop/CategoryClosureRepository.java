@@ -0,0 +1,53 @@
+package com.backend.repository.shop;
+
+import com.backend.domain.shop.CategoryClosure;
+import com.backend.domain.shop.CategoryClosureId;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface CategoryClosureRepository extends JpaRepository<CategoryClosure, CategoryClosureId> {
+
+    /**
+     * 신규 카테고리 경로 추가: 자기 자신(depth 0) + 부모의 모든 조상(depth + 1).
+     * 부모가 null이면(루트) 자기 자신 행만 생긴다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO category_closure (ancestor_id, descendant_id, depth)
+            SELECT :categoryId, :categoryId, 0
+            UNION ALL
+            SELECT c.ancestor_id, :categoryId, c.depth + 1
+              FROM category_closure c
+             WHERE c.descendant_id = :parentId
+            """, nativeQuery = true)
+    int insertPaths(@Param("categoryId") Long categoryId, @Param("parentId") Long parentId);
+
+    @Modifying
+    @Query(value = "DELETE FROM category_closure", nativeQuery = true)
+    int deleteAllPaths();
+
+    /**
+     * categories.parent_id로부터 전체 경로 재생성 (백필 / 트리 이동 시).
+     * 카테고리 수가 적어 재귀 CTE 한 번으로 충분하다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO category_closure (ancestor_id, descendant_id, depth)
+            WITH RECURSIVE paths (ancestor_id, descendant_id, depth) AS (
+                SELECT id, id, 0 FROM categories
+                UNION ALL
+                SELECT p.ancestor_id, c.id, p.depth + 1
+                  FROM paths p
+                  JOIN categories c ON c.parent_id = p.descendant_id
+            )
+            SELECT ancestor_id, descendant_id, depth FROM paths
+            """, nativeQuery = true)
+    int insertAllPathsFromParents();
+
+    @Query("SELECT COUNT(c) FROM CategoryClosure c WHERE c.depth = 0")
+    long countSelfPaths();
+}
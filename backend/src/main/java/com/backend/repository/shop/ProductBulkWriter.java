@@ -0,0 +1,155 @@
+package com.backend.repository.shop;
+
+import com.backend.util.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 상품 대량 등록 JDBC 배치 writer.
+ *
+ * <p>Product는 IDENTITY 전략이라 Hibernate가 INSERT 배치를 하지 않으므로,
+ * 청크 단위로 테이블별 JdbcTemplate batchUpdate를 수행한다.
+ * 생성된 상품 ID는 INSERT 배치의 생성 키(RETURN_GENERATED_KEYS)로 행 순서대로 받는다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductBulkWriter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProductNameIndex productNameIndex;
+
+    /**
+     * 청크 1개를 독립 트랜잭션으로 저장한다 (실패 시 해당 청크만 롤백).
+     *
+     * @return 저장된 상품 수
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int writeChunk(List<ProductImportRow> rows, Long createdBy) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+
+        List<Long> productIds = insertProducts(rows, createdBy, now);
+
+        List<Object[]> variantArgs = new ArrayList<>();
+        List<Object[]> imageArgs = new ArrayList<>();
+        List<Object[]> blobArgs = new ArrayList<>();
+        List<Object[]> categoryArgs = new ArrayList<>();
+        List<Object[]> statsArgs = new ArrayList<>(rows.size());
+        for (int r = 0; r < rows.size(); r++) {
+            ProductImportRow row = rows.get(r);
+            Long productId = productIds.get(r);
+            for (ProductImportRow.VariantRow v : row.variants()) {
+                variantArgs.add(new Object[]{productId, v.optionText(), v.price(), v.stockQty(), v.active(), now, now});
+            }
+            for (int i = 0; i < row.imageFilePaths().size(); i++) {
+                imageArgs.add(new Object[]{UUID.randomUUID().toString(), productId, row.imageFilePaths().get(i), i == 0, now, now});
+                blobArgs.add(new Object[]{row.imageFilePaths().get(i), now, now});
+            }
+            for (Long categoryId : row.categoryIds()) {
+                categoryArgs.add(new Object[]{productId, categoryId, now, now});
+            }
+            statsArgs.add(new Object[]{productId, now, now});
+        }
+
+        batch("""
+                INSERT INTO product_variants (product_id, option_text, price, stock_qty, is_active, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?, ?)
+                """, variantArgs);
+        batch("""
+                INSERT INTO product_images (uuid, product_id, file_path, is_primary, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """, imageArgs);
+        // 이미지 행마다 저장 파일 참조 +1 (상품 청크와 함께 커밋/롤백)
+        batch("""
+                INSERT INTO stored_blobs (storage_key, size_bytes, ref_count, created_at, updated_at)
+                VALUES (?, 0, 1, ?, ?)
+                ON DUPLICATE KEY UPDATE ref_count = ref_count + 1, updated_at = VALUES(updated_at)
+                """, blobArgs);
+        batch("""
+                INSERT INTO product_categories (product_id, category_id, created_at, updated_at)
+                VALUES (?, ?, ?, ?)
+                """, categoryArgs);
+        // 판매순 정렬용 집계 행 생성
+        batch("""
+                INSERT INTO product_sales_stats (product_id, sales_qty, created_at, updated_at)
+                VALUES (?, 0, ?, ?)
+                """, statsArgs);
+
+        // 상품명 색인은 청크 커밋 이후 한 번에 반영 (롤백된 청크의 상품이 검색 후보로 남지 않도록)
+        TransactionCallbacks.afterCommit(() -> {
+            for (int r = 0; r < rows.size(); r++) {
+                productNameIndex.apply(productIds.get(r), rows.get(r).name());
+            }
+        });
+        return rows.size();
+    }
+
+    /**
+     * 상품 행 배치 INSERT 후 드라이버가 돌려준 생성 키를 행 순서대로 반환한다.
+     * (같은 이름의 동시 등록이나 소프트 삭제된 동명 상품이 있어도 자식 행이 다른 상품에 붙지 않음)
+     */
+    private List<Long> insertProducts(List<ProductImportRow> rows, Long createdBy, Timestamp now) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement("""
+                        INSERT INTO products (name, description, status, base_price, created_by, in_stock, created_at, updated_at)
+                        VALUES (?, ?, ?, ?, ?, ?, ?, ?)
+                        """, Statement.RETURN_GENERATED_KEYS),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        ProductImportRow row = rows.get(i);
+                        ps.setString(1, row.name());
+                        ps.setString(2, row.description());
+                        ps.setString(3, row.status().name());
+                        ps.setBigDecimal(4, row.basePrice());
+                        ps.setLong(5, createdBy);
+                        ps.setBoolean(6, row.inStock());
+                        ps.setTimestamp(7, now);
+                        ps.setTimestamp(8, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return rows.size();
+                    }
+                },
+                keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() != rows.size()) {
+            // 키 개수가 어긋나면 자식 행을 잘못 연결할 수 있으므로 청크 전체를 롤백
+            throw new IllegalStateException(
+                    "Generated key count mismatch: expected=" + rows.size() + ", actual=" + keys.size());
+        }
+        List<Long> ids = new ArrayList<>(keys.size());
+        for (Map<String, Object> key : keys) {
+            ids.add(((Number) key.values().iterator().next()).longValue());
+        }
+        return ids;
+    }
+
+    private void batch(String sql, List<Object[]> args) {
+        if (!args.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, args);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.backend.repository.shop;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 상품 목록 COUNT 결과 단기 캐시 (ProductCountMode.CACHED).
+ *
+ * <p>같은 필터 조건의 페이지 이동마다 COUNT를 반복하지 않도록 조건 키별 결과를 TTL 동안 재사용한다.
+ * 상품 변경 시 무효화하지 않으므로 total은 TTL 이내로 어긋날 수 있다 (정확한 값이 필요하면 EXACT).
+ */
+@Component
+public class ProductCountCache {
+
+    private final long ttlMillis;
+    private final int maxEntries;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    public ProductCountCache(@Value("${shop.search.count-cache.ttl:PT30S}") Duration ttl,
+                             @Value("${shop.search.count-cache.max-entries:10000}") int maxEntries) {
+        this.ttlMillis = ttl.toMillis();
+        this.maxEntries = maxEntries;
+    }
+
+    public long get(String key, Supplier<Long> counter) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt > now) {
+            return entry.count;
+        }
+
+        Long counted = counter.get();
+        long count = counted != null ? counted : 0L;
+        if (entries.size() >= maxEntries) {
+            // 조건 조합이 폭증하면 만료분부터 정리, 그래도 가득 차면 전체 비움 (단순 상한)
+            entries.values().removeIf(e -> e.expiresAt <= now);
+            if (entries.size() >= maxEntries) {
+                entries.clear();
+            }
+        }
+        entries.put(key, new Entry(count, now + ttlMillis));
+        return count;
+    }
+
+    private record Entry(long count, long expiresAt) {
+    }
+}
@@ -0,0 +1,28 @@
+package com.backend.repository.shop;
+
+/**
+ * 상품 목록 전체 건수 계산 방식.
+ * 카운트 쿼리는 본문과 같은 필터를 다시 수행하므로 화면 요구에 맞춰 비용을 고른다.
+ */
+public enum ProductCountMode {
+    /** 매 요청 정확한 COUNT */
+    EXACT,
+    /** 정규화된 조건별 COUNT 결과를 짧은 TTL 동안 재사용 (근사치 허용) */
+    CACHED,
+    /** COUNT 생략, size + 1건 조회로 다음 페이지 존재 여부만 제공 */
+    ESTIMATED;
+
+    /**
+     * @return 알 수 없거나 비어 있으면 null (호출부 기본값 사용)
+     */
+    public static ProductCountMode from(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return ProductCountMode.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
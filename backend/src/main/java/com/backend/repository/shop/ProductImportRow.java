@@ -0,0 +1,30 @@
+package com.backend.repository.shop;
+
+import com.backend.domain.shop.ProductStatus;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 대량 등록 1건 (검증/카테고리 해석이 끝난 상태)
+ *
+ * @param categoryIds 연결할 카테고리 ID (중복 제거됨)
+ */
+public record ProductImportRow(
+        String name,
+        String description,
+        ProductStatus status,
+        BigDecimal basePrice,
+        List<VariantRow> variants,
+        List<String> imageFilePaths,
+        List<Long> categoryIds
+) {
+
+    public record VariantRow(String optionText, BigDecimal price, int stockQty, boolean active) {
+    }
+
+    /** 옵션이 없거나 재고 > 0인 옵션이 있으면 재고 있음 (Product.refreshInStock과 동일 규칙) */
+    public boolean inStock() {
+        return variants.isEmpty() || variants.stream().anyMatch(v -> v.stockQty() > 0);
+    }
+}
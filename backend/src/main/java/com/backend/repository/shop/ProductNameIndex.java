@@ -0,0 +1,247 @@
+package com.backend.repository.shop;
+
+import com.backend.util.TransactionCallbacks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상품명 인메모리 n-gram 역색인.
+ *
+ * <p>LOWER(name) LIKE '%kw%' 전체 스캔 대신, 상품명을 유니그램/바이그램 단위로 색인해 두고
+ * 키워드의 gram posting 교집합 → 원문 contains 검증으로 후보 id 집합을 만든다.
+ * DB 쿼리는 {@code id IN (...)} PK 조회가 되므로 검색 지연이 테이블 크기와 무관해진다.
+ *
+ * <ul>
+ *   <li>정규화: NFC 합성(자모 분리 입력 보정) + 소문자화. gram은 code point 단위라 한글 음절/서로게이트 모두 1글자로 취급</li>
+ *   <li>적재: 애플리케이션 기동 완료 시 keyset 청크로 전체 적재, 적재 전에는 LIKE 폴백</li>
+ *   <li>갱신: Product 엔티티 변경은 {@link ProductNameIndexSync}가 커밋 이후 반영하고(롤백 시 색인 오염 방지),
+ *       JDBC로 직접 쓰는 경로는 {@link #put}/{@link #remove}를 호출한다</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class ProductNameIndex {
+
+    private static final int LOAD_CHUNK_SIZE = 1000;
+
+    private final ProductRepository productRepository;
+    private final int maxCandidates;
+
+    // gram -> 상품 id 집합
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    // 상품 id -> 정규화된 상품명 (후보 검증 및 갱신 시 기존 gram 제거용)
+    private final Map<Long, String> names = new ConcurrentHashMap<>();
+    // 적재 중에 실시간 변경된 상품 id (적재 스냅샷이 최신 값을 덮어쓰지 않도록 건너뜀)
+    private final Set<Long> touchedDuringLoad = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean ready = false;
+
+    public ProductNameIndex(ProductRepository productRepository,
+                            @Value("${shop.search.name-index.max-candidates:5000}") int maxCandidates) {
+        this.productRepository = productRepository;
+        this.maxCandidates = maxCandidates;
+    }
+
+    /**
+     * 기동 완료 시 삭제되지 않은 전체 상품명을 적재한다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long startedAt = System.currentTimeMillis();
+        long afterId = 0L;
+        int loaded = 0;
+        while (true) {
+            List<ProductNameProjection> chunk =
+                    productRepository.findNameChunkAfter(afterId, PageRequest.of(0, LOAD_CHUNK_SIZE));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            for (ProductNameProjection row : chunk) {
+                if (!touchedDuringLoad.contains(row.getId())) {
+                    index(row.getId(), row.getName());
+                    loaded++;
+                }
+            }
+            afterId = chunk.get(chunk.size() - 1).getId();
+        }
+        ready = true;
+        touchedDuringLoad.clear();
+        log.info("Product name index loaded: products={}, grams={}, elapsedMs={}",
+                loaded, postings.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 상품 생성/이름 변경 반영. 트랜잭션 안이면 커밋 이후에 반영한다.
+     */
+    public void put(Long productId, String name) {
+        if (productId == null) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> apply(productId, name));
+    }
+
+    /**
+     * 상품 삭제 반영. 트랜잭션 안이면 커밋 이후에 반영한다.
+     */
+    public void remove(Long productId) {
+        if (productId == null) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> applyRemoval(productId));
+    }
+
+    /**
+     * 커밋이 끝난 변경을 즉시 반영 (post-commit 이벤트 리스너용).
+     */
+    void apply(Long productId, String name) {
+        markTouched(productId);
+        index(productId, name);
+    }
+
+    void applyRemoval(Long productId) {
+        markTouched(productId);
+        unindex(productId);
+    }
+
+    /**
+     * 키워드(부분 일치)에 해당하는 상품 id 후보를 반환한다.
+     *
+     * @return 정확히 검증된 id 집합(비어 있을 수 있음).
+     *         적재 전이거나 후보가 너무 많아 IN 조회가 불리하면 {@link Optional#empty()} → 호출부는 LIKE로 폴백
+     */
+    public Optional<Set<Long>> findCandidateIds(String keyword) {
+        String normalized = normalize(keyword);
+        if (!ready || normalized.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<Set<Long>> lists = new ArrayList<>();
+        for (String gram : queryGrams(normalized)) {
+            Set<Long> ids = postings.get(gram);
+            if (ids == null || ids.isEmpty()) {
+                return Optional.of(Set.of());
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        Set<Long> result = new HashSet<>();
+        Set<Long> smallest = lists.get(0);
+        for (Long id : smallest) {
+            if (!containsInAll(lists, id)) {
+                continue;
+            }
+            // gram 교집합은 상위집합이므로 원문 contains로 최종 검증 (예: "ab" + "bc" ≠ "abc")
+            String name = names.get(id);
+            if (name != null && name.contains(normalized)) {
+                result.add(id);
+                if (result.size() > maxCandidates) {
+                    return Optional.empty();
+                }
+            }
+        }
+        return Optional.of(result);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // ===========================
+    // 내부 색인 처리
+    // ===========================
+
+    private void index(Long productId, String rawName) {
+        String normalized = normalize(rawName);
+        String previous = names.put(productId, normalized);
+        if (previous != null) {
+            if (previous.equals(normalized)) {
+                return;
+            }
+            removePostings(productId, previous);
+        }
+        for (String gram : indexGrams(normalized)) {
+            postings.computeIfAbsent(gram, k -> ConcurrentHashMap.newKeySet()).add(productId);
+        }
+    }
+
+    private void unindex(Long productId) {
+        String previous = names.remove(productId);
+        if (previous != null) {
+            removePostings(productId, previous);
+        }
+    }
+
+    private void removePostings(Long productId, String normalized) {
+        for (String gram : indexGrams(normalized)) {
+            postings.computeIfPresent(gram, (k, ids) -> {
+                ids.remove(productId);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    private void markTouched(Long productId) {
+        if (!ready) {
+            touchedDuringLoad.add(productId);
+        }
+    }
+
+    private boolean containsInAll(List<Set<Long>> lists, Long id) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT).strip();
+    }
+
+    /** 색인 gram: 모든 유니그램 + 바이그램 (1글자 검색어 지원을 위해 유니그램 포함) */
+    static Set<String> indexGrams(String normalized) {
+        int[] cps = normalized.codePoints().toArray();
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i < cps.length; i++) {
+            grams.add(new String(cps, i, 1));
+            if (i + 1 < cps.length) {
+                grams.add(new String(cps, i, 2));
+            }
+        }
+        return grams;
+    }
+
+    /** 질의 gram: 1글자면 유니그램, 그 외에는 바이그램만 사용 (posting이 더 짧음) */
+    static Set<String> queryGrams(String normalized) {
+        int[] cps = normalized.codePoints().toArray();
+        Set<String> grams = new HashSet<>();
+        if (cps.length == 1) {
+            grams.add(new String(cps, 0, 1));
+            return grams;
+        }
+        for (int i = 0; i + 1 < cps.length; i++) {
+            grams.add(new String(cps, i, 2));
+        }
+        return grams;
+    }
+}
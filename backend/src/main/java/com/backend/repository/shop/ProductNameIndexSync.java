@@ -0,0 +1,91 @@
+package com.backend.repository.shop;
+
+import com.backend.domain.shop.Product;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+/**
+ * Product 엔티티 변경을 커밋 이후 {@link ProductNameIndex}에 반영하는 Hibernate post-commit 리스너.
+ *
+ * <p>서비스 계층 호출에 의존하지 않으므로 어느 경로로 저장하든(productRepository.save 등) 색인이 따라간다.
+ * 커밋이 끝난 뒤 호출되므로 색인에 바로 반영하고, 롤백된 변경은 무시한다.
+ * JDBC 배치로 쓰는 ProductBulkWriter만 엔티티 이벤트가 없어 {@link ProductNameIndex#put}으로 직접 반영한다.
+ * 소프트 삭제(deleted_at 설정)는 UPDATE로 들어오므로 삭제 여부를 보고 색인에서 뺀다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ProductNameIndexSync implements PostCommitInsertEventListener,
+        PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ProductNameIndex productNameIndex;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Product product) {
+            sync(product);
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof Product product) {
+            sync(product);
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Product product) {
+            productNameIndex.applyRemoval(product.getId());
+        }
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // 롤백된 변경은 반영하지 않는다
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return Product.class.isAssignableFrom(persister.getMappedClass());
+    }
+
+    private void sync(Product product) {
+        if (product.isDeleted()) {
+            productNameIndex.applyRemoval(product.getId());
+        } else {
+            productNameIndex.apply(product.getId(), product.getName());
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.backend.repository.shop;
+
+/**
+ * 상품명 인메모리 인덱스 적재용 경량 프로젝션 (id, name만).
+ */
+public interface ProductNameProjection {
+
+    Long getId();
+    String getName();
+}
@@ -1,10 +1,17 @@
 package com.backend.repository.shop;
 
 import com.backend.domain.shop.Product;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -17,4 +24,48 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     Optional<Product> findByIdAndDeletedAtIsNull(Long id);
     
     Optional<Product> findByNameAndDeletedAtIsNull(String name);
+
+    /**
+     * 상품명 인덱스 적재용 keyset 청크 조회 (삭제되지 않은 상품만, id 오름차순).
+     * offset 없이 afterId 이후만 읽으므로 청크가 깊어져도 비용이 일정하다.
+     */
+    @Query("SELECT p.id as id, p.name as name FROM Product p WHERE p.deletedAt IS NULL AND p.id > :afterId ORDER BY p.id ASC")
+    List<ProductNameProjection> findNameChunkAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 대량 등록 시 상품명 충돌 확인용 (IN 조회 1회)
+     */
+    @Query("SELECT p.id as id, p.name as name FROM Product p WHERE p.name IN :names")
+    List<ProductNameProjection> findIdAndNameByNameIn(@Param("names") Collection<String> names);
+
+    /**
+     * in_stock 비정규화 컬럼 id 구간 재계산 (컬럼 추가 직후 1회 백필용).
+     * 구간마다 짧은 트랜잭션으로 실행해 상품 행 잠금을 오래 잡지 않고, 값이 실제로 달라지는 행만 갱신한다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            UPDATE products p
+               SET p.in_stock = (NOT EXISTS (SELECT 1 FROM product_variants v WHERE v.product_id = p.id)
+                                 OR EXISTS (SELECT 1 FROM product_variants v WHERE v.product_id = p.id AND v.stock_qty - v.reserved_qty > 0))
+             WHERE p.id BETWEEN :fromId AND :toId
+               AND p.in_stock <> (NOT EXISTS (SELECT 1 FROM product_variants v WHERE v.product_id = p.id)
+                                  OR EXISTS (SELECT 1 FROM product_variants v WHERE v.product_id = p.id AND v.stock_qty - v.reserved_qty > 0))
+            """, nativeQuery = true)
+    int recalculateInStockRange(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    @Query("SELECT COALESCE(MAX(p.id), 0) FROM Product p")
+    long findMaxId();
+
+    /**
+     * 지정 상품만 in_stock 재계산 (재고 예약/해제/전환처럼 엔티티를 거치지 않는 재고 변경 후 호출).
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE products p
+               SET p.in_stock = (NOT EXISTS (SELECT 1 FROM product_variants v WHERE v.product_id = p.id)
+                                 OR EXISTS (SELECT 1 FROM product_variants v WHERE v.product_id = p.id AND v.stock_qty - v.reserved_qty > 0))
+             WHERE p.id IN (:productIds)
+            """, nativeQuery = true)
+    int refreshInStockByIdIn(@Param("productIds") Collection<Long> productIds);
 }
@@ -4,17 +4,10 @@ import com.backend.domain.shop.ProductReview;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
 
 public interface ProductReviewRepository extends JpaRepository<ProductReview, Long> {
 
     Page<ProductReview> findByProductIdOrderByCreatedAtDesc(Long productId, Pageable pageable);
 
     boolean existsByProductIdAndMemberId(Long productId, Long memberId);
-
-    long countByProductId(Long productId);
-
-    @Query("SELECT AVG(r.rating) FROM ProductReview r WHERE r.product.id = :productId")
-    Double getAverageRatingByProductId(@Param("productId") Long productId);
 }
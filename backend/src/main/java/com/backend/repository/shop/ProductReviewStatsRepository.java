@@ -0,0 +1,69 @@
+package com.backend.repository.shop;
+
+import com.backend.domain.shop.ProductReviewStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface ProductReviewStatsRepository extends JpaRepository<ProductReviewStats, Long> {
+
+    /**
+     * 리뷰 1건 증감 반영 (행이 없으면 생성). delta = +1(작성) / -1(삭제).
+     * 단일 upsert의 원자적 덧셈이라 동시 리뷰 작성 간 조회-갱신 경합이 없다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO product_review_stats
+                   (product_id, review_count, rating_sum,
+                    rating1_count, rating2_count, rating3_count, rating4_count, rating5_count,
+                    created_at, updated_at)
+            VALUES (:productId, :delta, :rating * :delta,
+                    CASE WHEN :rating = 1 THEN :delta ELSE 0 END,
+                    CASE WHEN :rating = 2 THEN :delta ELSE 0 END,
+                    CASE WHEN :rating = 3 THEN :delta ELSE 0 END,
+                    CASE WHEN :rating = 4 THEN :delta ELSE 0 END,
+                    CASE WHEN :rating = 5 THEN :delta ELSE 0 END,
+                    NOW(6), NOW(6))
+            ON DUPLICATE KEY UPDATE
+                    review_count  = review_count  + VALUES(review_count),
+                    rating_sum    = rating_sum    + VALUES(rating_sum),
+                    rating1_count = rating1_count + VALUES(rating1_count),
+                    rating2_count = rating2_count + VALUES(rating2_count),
+                    rating3_count = rating3_count + VALUES(rating3_count),
+                    rating4_count = rating4_count + VALUES(rating4_count),
+                    rating5_count = rating5_count + VALUES(rating5_count),
+                    updated_at    = NOW(6)
+            """, nativeQuery = true)
+    int applyDelta(@Param("productId") Long productId, @Param("rating") int rating, @Param("delta") int delta);
+
+    /**
+     * product_reviews 전체 재집계로 덮어쓰기 (집계 테이블 도입 시 백필용).
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT INTO product_review_stats
+                   (product_id, review_count, rating_sum,
+                    rating1_count, rating2_count, rating3_count, rating4_count, rating5_count,
+                    created_at, updated_at)
+            SELECT r.product_id, COUNT(*), SUM(r.rating),
+                   SUM(r.rating = 1), SUM(r.rating = 2), SUM(r.rating = 3), SUM(r.rating = 4), SUM(r.rating = 5),
+                   NOW(6), NOW(6)
+              FROM product_reviews r
+             GROUP BY r.product_id
+            ON DUPLICATE KEY UPDATE
+                    review_count  = VALUES(review_count),
+                    rating_sum    = VALUES(rating_sum),
+                    rating1_count = VALUES(rating1_count),
+                    rating2_count = VALUES(rating2_count),
+                    rating3_count = VALUES(rating3_count),
+                    rating4_count = VALUES(rating4_count),
+                    rating5_count = VALUES(rating5_count),
+                    updated_at    = NOW(6)
+            """, nativeQuery = true)
+    int rebuildAll();
+}
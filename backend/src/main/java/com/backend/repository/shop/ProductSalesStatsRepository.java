@@ -0,0 +1,86 @@
+package com.backend.repository.shop;
+
+import com.backend.domain.shop.ProductSalesStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Repository
+public interface ProductSalesStatsRepository extends JpaRepository<ProductSalesStats, Long> {
+
+    /**
+     * 판매량 증분 반영 (행이 없으면 생성). MariaDB upsert 1회로 처리해 조회-갱신 경합을 피한다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO product_sales_stats (product_id, sales_qty, created_at, updated_at)
+            VALUES (:productId, :qty, NOW(6), NOW(6))
+            ON DUPLICATE KEY UPDATE sales_qty = sales_qty + VALUES(sales_qty), updated_at = NOW(6)
+            """, nativeQuery = true)
+    int incrementSalesQty(@Param("productId") Long productId, @Param("qty") long qty);
+
+    /**
+     * 재집계 1단계: 구간 내 모든 상품 행을 0으로 초기화(없으면 생성).
+     * 판매 이력이 없는 상품도 행을 보장한다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO product_sales_stats (product_id, sales_qty, created_at, updated_at)
+            SELECT p.id, 0, NOW(6), NOW(6)
+              FROM products p
+             WHERE p.id BETWEEN :fromId AND :toId
+            ON DUPLICATE KEY UPDATE sales_qty = 0, updated_at = NOW(6)
+            """, nativeQuery = true)
+    int resetRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    /**
+     * 재집계 2단계: 구간 내 상품의 판매량을 order_items에서 한 번에 집계해 덮어쓴다.
+     * 증분 소비자(sales-stats)가 이미 반영한 주문만 센다: 후처리가 끝났고(finalized),
+     * 그 ORDER_FINALIZED 이벤트가 소비자 오프셋(deliveredUpTo) 이후에 남아 있지 않은 주문.
+     * 오프셋 이후 이벤트는 아직 삭제 대상이 아니므로 NOT EXISTS 판정이 정확하다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO product_sales_stats (product_id, sales_qty, created_at, updated_at)
+            SELECT oi.product_id, SUM(oi.qty), NOW(6), NOW(6)
+              FROM order_items oi
+              JOIN orders o ON o.id = oi.order_id
+             WHERE oi.product_id BETWEEN :fromId AND :toId
+               AND oi.status = 'ORDERED'
+               AND o.status IN (:orderStatuses)
+               AND o.finalized = 1
+               AND NOT EXISTS (
+                    SELECT 1
+                      FROM outbox_events e
+                     WHERE e.id > :deliveredUpTo
+                       AND e.event_type = 'ORDER_FINALIZED'
+                       AND e.aggregate_id = o.order_no)
+             GROUP BY oi.product_id
+            ON DUPLICATE KEY UPDATE sales_qty = VALUES(sales_qty), updated_at = NOW(6)
+            """, nativeQuery = true)
+    int aggregateRange(@Param("fromId") Long fromId,
+                       @Param("toId") Long toId,
+                       @Param("orderStatuses") List<String> orderStatuses,
+                       @Param("deliveredUpTo") long deliveredUpTo);
+
+    /**
+     * 구간 내 집계 행이 없는 상품에 판매량 0 행 생성 (기존 행은 그대로). 판매순 inner join이 상품을 빠뜨리지 않도록 1회 백필.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            INSERT IGNORE INTO product_sales_stats (product_id, sales_qty, created_at, updated_at)
+            SELECT p.id, 0, NOW(6), NOW(6)
+              FROM products p
+             WHERE p.id BETWEEN :fromId AND :toId
+            """, nativeQuery = true)
+    int insertMissingRange(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query("SELECT COALESCE(MAX(p.id), 0) FROM Product p")
+    Long findMaxProductId();
+}
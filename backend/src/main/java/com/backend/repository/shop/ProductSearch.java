@@ -3,7 +3,24 @@ package com.backend.repository.shop;
 import com.backend.domain.shop.Product;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface ProductSearch {
+    /**
+     * offset 페이징 조회. 전체 건수는 condition의 countMode(EXACT/CACHED)에 따라 계산한다.
+     */
     Page<Product> search(ProductSearchCondition condition, Pageable pageable);
+
+    /**
+     * COUNT 없는 offset 페이징 조회 (ProductCountMode.ESTIMATED). size + 1건을 읽어 hasNext만 판단한다.
+     */
+    Slice<Product> searchSlice(ProductSearchCondition condition, Pageable pageable);
+
+    /**
+     * keyset(seek) 페이징 조회. offset/count 없이 커서 다음 size개만 읽는다.
+     *
+     * @param cursor 직전 페이지 마지막 행 커서 (null이면 첫 페이지)
+     * @param size   페이지 크기 (size + 1건을 읽어 hasNext 판단)
+     */
+    Slice<Product> searchAfter(ProductSearchCondition condition, ProductSearchCursor cursor, int size);
 }
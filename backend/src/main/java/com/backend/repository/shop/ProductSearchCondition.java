@@ -1,10 +1,12 @@
 package com.backend.repository.shop;
 
 import com.backend.domain.shop.ProductStatus;
+import com.querydsl.core.types.Order;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.math.BigDecimal;
+import java.util.Locale;
 
 @Getter
 @Builder
@@ -19,4 +21,31 @@ public class ProductSearchCondition {
     /** true면 품절 상품( variant가 있으면서 모두 재고 0 ) 제외 */
     @Builder.Default
     private boolean excludeOutOfStock = false;
+    /** 전체 건수 계산 방식 (기본 EXACT) */
+    @Builder.Default
+    private ProductCountMode countMode = ProductCountMode.EXACT;
+
+    /** sortBy 문자열 → 정렬 기준 (미지정/알 수 없으면 createdAt) */
+    public ProductSortKey resolveSortKey() {
+        return ProductSortKey.from(sortBy);
+    }
+
+    /**
+     * COUNT 캐시 키: 건수에 영향을 주는 필터만 정규화해 조합 (정렬/페이지 제외)
+     */
+    public String countCacheKey() {
+        String normalizedKeyword = (keyword == null || keyword.isBlank()) ? "" : keyword.strip().toLowerCase(Locale.ROOT);
+        return String.join("|",
+                normalizedKeyword,
+                String.valueOf(categoryId),
+                minPrice != null ? minPrice.stripTrailingZeros().toPlainString() : "",
+                maxPrice != null ? maxPrice.stripTrailingZeros().toPlainString() : "",
+                String.valueOf(status),
+                String.valueOf(excludeOutOfStock));
+    }
+
+    /** direction 문자열 → 정렬 방향 (기본 DESC) */
+    public Order resolveDirection() {
+        return "ASC".equalsIgnoreCase(direction) ? Order.ASC : Order.DESC;
+    }
 }
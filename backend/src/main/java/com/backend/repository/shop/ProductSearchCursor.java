@@ -0,0 +1,100 @@
+package com.backend.repository.shop;
+
+import com.backend.common.exception.BusinessException;
+import com.backend.common.exception.ErrorCode;
+import com.backend.domain.shop.Product;
+import com.querydsl.core.types.Order;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 상품 목록 keyset(seek) 페이징 커서.
+ *
+ * <p>(정렬 컬럼 값, id) 쌍을 담아 "마지막으로 본 행 다음"부터 조회한다.
+ * 클라이언트에는 Base64URL로 인코딩한 불투명 문자열로만 노출하며,
+ * 정렬 기준/방향이 바뀐 요청에 이전 커서를 쓰면 잘못된 위치를 가리키므로 거부한다.
+ */
+@Getter
+public class ProductSearchCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final ProductSortKey sortKey;
+    private final Order direction;
+    private final String sortValue;
+    private final Long id;
+
+    private ProductSearchCursor(ProductSortKey sortKey, Order direction, String sortValue, Long id) {
+        this.sortKey = sortKey;
+        this.direction = direction;
+        this.sortValue = sortValue;
+        this.id = id;
+    }
+
+    /**
+     * 페이지 마지막 상품으로 다음 페이지 커서를 만든다.
+     *
+     * @param salesQty 마지막 상품의 누적 판매량 (SALES 정렬일 때만 사용, 상품 엔티티 밖의 값)
+     */
+    public static ProductSearchCursor after(ProductSortKey sortKey, Order direction, Product last, long salesQty) {
+        String value = switch (sortKey) {
+            case PRICE -> last.getBasePrice().toPlainString();
+            case CREATED_AT -> last.getCreatedAt().toString();
+            case SALES -> Long.toString(salesQty);
+        };
+        return new ProductSearchCursor(sortKey, direction, value, last.getId());
+    }
+
+    public String encode() {
+        String raw = sortKey.name() + SEPARATOR + direction.name() + SEPARATOR + sortValue + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param encoded 클라이언트가 보낸 커서 (null/blank면 첫 페이지)
+     * @return 해석된 커서, 첫 페이지면 null
+     */
+    public static ProductSearchCursor decode(String encoded, ProductSortKey expectedSortKey, Order expectedDirection) {
+        if (encoded == null || encoded.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded.trim()), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length != 4) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+            }
+            ProductSortKey sortKey = ProductSortKey.valueOf(parts[0]);
+            Order direction = Order.valueOf(parts[1]);
+            if (sortKey != expectedSortKey || direction != expectedDirection) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+            }
+            ProductSearchCursor cursor = new ProductSearchCursor(sortKey, direction, parts[2], Long.parseLong(parts[3]));
+            // 값 형식 검증 (잘못된 커서는 쿼리 단계가 아니라 여기서 400 처리)
+            cursor.sortValueAsPrice();
+            cursor.sortValueAsInstant();
+            cursor.sortValueAsSales();
+            return cursor;
+        } catch (BusinessException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, e);
+        }
+    }
+
+    public BigDecimal sortValueAsPrice() {
+        return sortKey == ProductSortKey.PRICE ? new BigDecimal(sortValue) : null;
+    }
+
+    public Instant sortValueAsInstant() {
+        return sortKey == ProductSortKey.CREATED_AT ? Instant.parse(sortValue) : null;
+    }
+
+    public Long sortValueAsSales() {
+        return sortKey == ProductSortKey.SALES ? Long.valueOf(sortValue) : null;
+    }
+}
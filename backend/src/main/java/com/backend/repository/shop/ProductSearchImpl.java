@@ -4,8 +4,8 @@ import com.backend.domain.shop.Product;
 import com.backend.domain.shop.ProductStatus;
 import com.backend.domain.shop.QProduct;
 import com.backend.domain.shop.QProductCategory;
-import com.backend.domain.shop.QProductVariant;
-import com.backend.domain.shop.QCategory;
+import com.backend.domain.shop.QProductSalesStats;
+import com.backend.domain.shop.QCategoryClosure;
 import com.querydsl.core.types.Order;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.core.types.OrderSpecifier;
@@ -14,89 +14,194 @@ import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 @Repository
 @RequiredArgsConstructor
 public class ProductSearchImpl implements ProductSearch {
 
     private final JPAQueryFactory queryFactory;
+    private final ProductNameIndex productNameIndex;
+    private final ProductCountCache productCountCache;
 
     @Override
     public Page<Product> search(ProductSearchCondition condition, Pageable pageable) {
         QProduct product = QProduct.product;
-        QProductCategory productCategory = QProductCategory.productCategory;
-        QCategory category = QCategory.category;
 
-        // 기본 쿼리 (2-쿼리 전략: images는 별도 조회)
-        // ManyToOne인 createdBy만 페치 조인 (OneToMany인 images는 제외)
-        JPAQuery<Product> query = queryFactory
-                .selectFrom(product)
-                .leftJoin(product.createdBy).fetchJoin();  // Member 페치 조인 (ManyToOne만)
-        
-        // 카테고리 필터가 있을 때만 조인
-        if (condition.getCategoryId() != null) {
-            query.leftJoin(productCategory).on(product.id.eq(productCategory.product.id))
-                 .leftJoin(category).on(productCategory.category.id.eq(category.id));
-        }
-        
-        query.where(
-                        notDeleted(product),
-                        keywordContains(condition.getKeyword()),
-                        categoryIdEq(condition.getCategoryId(), productCategory, category),
-                        priceBetween(condition.getMinPrice(), condition.getMaxPrice()),
-                        statusEq(condition.getStatus()),
-                        excludeOutOfStock(condition, product)
-                );
-        
-        // 카테고리 조인 시 중복 방지를 위해 distinct 사용
-        if (condition.getCategoryId() != null) {
-            query.distinct();
+        // 키워드는 인메모리 n-gram 인덱스로 먼저 id 후보를 확정 (LIKE 전체 스캔 회피)
+        // 인덱스 적재 전이거나 후보가 너무 많으면 null → LIKE 폴백
+        Set<Long> keywordIds = resolveKeywordIds(condition.getKeyword());
+        if (keywordIds != null && keywordIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, 0);
         }
+        BooleanExpression keywordPredicate = keywordMatches(condition.getKeyword(), keywordIds);
 
-        // 정렬 적용
-        query.orderBy(getOrderSpecifier(condition, product));
-
-        // 페이징 적용
-        List<Product> content = query
+        // 정렬 + 페이징 적용
+        List<Product> content = contentQuery(condition, keywordPredicate)
+                .orderBy(getOrderSpecifier(condition, product))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
         // 카운트 쿼리 (성능 최적화 - 카운트만 수행)
         JPAQuery<Long> countQuery = queryFactory
-                .select(product.countDistinct())
+                .select(product.count())
                 .from(product);
-        
-        // 카테고리 필터가 있을 때만 조인 (메인 쿼리와 동일하게)
-        if (condition.getCategoryId() != null) {
-            countQuery.leftJoin(productCategory).on(product.id.eq(productCategory.product.id))
-                     .leftJoin(category).on(productCategory.category.id.eq(category.id));
-        }
-        
-        countQuery.where(
-                        notDeleted(product),
-                        keywordContains(condition.getKeyword()),
-                        categoryIdEq(condition.getCategoryId(), productCategory, category),
-                        priceBetween(condition.getMinPrice(), condition.getMaxPrice()),
-                        statusEq(condition.getStatus()),
-                        excludeOutOfStock(condition, product)
-                );
+        applyFilters(countQuery, condition, keywordPredicate);
 
+        // 첫/마지막 페이지로 total이 확정되면 PageableExecutionUtils가 COUNT 자체를 생략
+        if (condition.getCountMode() == ProductCountMode.CACHED) {
+            return PageableExecutionUtils.getPage(content, pageable,
+                    () -> productCountCache.get(condition.countCacheKey(), countQuery::fetchOne));
+        }
         return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
     }
 
+    @Override
+    public Slice<Product> searchSlice(ProductSearchCondition condition, Pageable pageable) {
+        QProduct product = QProduct.product;
+
+        Set<Long> keywordIds = resolveKeywordIds(condition.getKeyword());
+        if (keywordIds != null && keywordIds.isEmpty()) {
+            return new SliceImpl<>(List.of(), pageable, false);
+        }
+        BooleanExpression keywordPredicate = keywordMatches(condition.getKeyword(), keywordIds);
+
+        List<Product> rows = contentQuery(condition, keywordPredicate)
+                .orderBy(getOrderSpecifier(condition, product))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<Product> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    @Override
+    public Slice<Product> searchAfter(ProductSearchCondition condition, ProductSearchCursor cursor, int size) {
+        QProduct product = QProduct.product;
+
+        Set<Long> keywordIds = resolveKeywordIds(condition.getKeyword());
+        if (keywordIds != null && keywordIds.isEmpty()) {
+            return new SliceImpl<>(List.of(), PageRequest.of(0, size), false);
+        }
+        BooleanExpression keywordPredicate = keywordMatches(condition.getKeyword(), keywordIds);
+
+        // (정렬 컬럼, id) 기준으로 커서 이후 행만 읽음 → 깊은 페이지도 O(size)
+        List<Product> rows = contentQuery(condition, keywordPredicate)
+                .where(afterCursor(cursor, product))
+                .orderBy(getOrderSpecifier(condition, product))
+                .limit(size + 1L)
+                .fetch();
+
+        boolean hasNext = rows.size() > size;
+        List<Product> content = hasNext ? rows.subList(0, size) : rows;
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+    }
+
+    /**
+     * 목록 조회용 본문 쿼리 (필터 적용). 정렬/페이징은 호출부에서 적용.
+     */
+    private JPAQuery<Product> contentQuery(ProductSearchCondition condition, BooleanExpression keywordPredicate) {
+        QProduct product = QProduct.product;
+
+        // 기본 쿼리 (2-쿼리 전략: images는 별도 조회)
+        // ManyToOne인 createdBy만 페치 조인 (OneToMany인 images는 제외)
+        JPAQuery<Product> query = queryFactory
+                .selectFrom(product)
+                .leftJoin(product.createdBy).fetchJoin();  // Member 페치 조인 (ManyToOne만)
+
+        // 판매순: 집계 테이블과 PK 조인. 상품마다 집계 행이 있으므로(등록 시 생성 + 1회 백필) inner join,
+        // 원본 컬럼으로 정렬해 (sales_qty, product_id) 인덱스 순서로 읽는다
+        if (condition.resolveSortKey() == ProductSortKey.SALES) {
+            QProductSalesStats stats = QProductSalesStats.productSalesStats;
+            query.join(stats).on(stats.productId.eq(product.id));
+        }
+        applyFilters(query, condition, keywordPredicate);
+        return query;
+    }
+
+    /**
+     * 본문/카운트 쿼리 공통 필터. 카테고리는 EXISTS 세미조인이라 행이 늘지 않아 distinct가 필요 없다.
+     */
+    private void applyFilters(JPAQuery<?> query, ProductSearchCondition condition, BooleanExpression keywordPredicate) {
+        QProduct product = QProduct.product;
+
+        query.where(
+                notDeleted(product),
+                keywordPredicate,
+                categoryIn(condition.getCategoryId(), product),
+                priceBetween(condition.getMinPrice(), condition.getMaxPrice()),
+                statusEq(condition.getStatus()),
+                excludeOutOfStock(condition, product)
+        );
+    }
+
+    /**
+     * keyset 조건: getOrderSpecifier와 같은 순서(정렬 컬럼 order, id DESC)에서 커서 행 "다음" 행들.
+     * - DESC: col &lt; v OR (col = v AND id &lt; lastId)
+     * - ASC : col &gt; v OR (col = v AND id &lt; lastId)
+     */
+    private BooleanExpression afterCursor(ProductSearchCursor cursor, QProduct product) {
+        if (cursor == null) {
+            return null;
+        }
+        boolean asc = cursor.getDirection() == Order.ASC;
+        BooleanExpression idAfter = product.id.lt(cursor.getId());
+        return switch (cursor.getSortKey()) {
+            case PRICE -> {
+                BigDecimal v = cursor.sortValueAsPrice();
+                yield (asc ? product.basePrice.gt(v) : product.basePrice.lt(v))
+                        .or(product.basePrice.eq(v).and(idAfter));
+            }
+            case CREATED_AT -> {
+                Instant v = cursor.sortValueAsInstant();
+                yield (asc ? product.createdAt.gt(v) : product.createdAt.lt(v))
+                        .or(product.createdAt.eq(v).and(idAfter));
+            }
+            case SALES -> {
+                QProductSalesStats stats = QProductSalesStats.productSalesStats;
+                Long v = cursor.sortValueAsSales();
+                yield (asc ? stats.salesQty.gt(v) : stats.salesQty.lt(v))
+                        .or(stats.salesQty.eq(v).and(stats.productId.lt(cursor.getId())));
+            }
+        };
+    }
+
     // 삭제되지 않은 상품만 조회
     private BooleanExpression notDeleted(QProduct product) {
         return product.deletedAt.isNull();
     }
 
+    // 키워드 후보 id 조회 (null: 인덱스 사용 불가 → LIKE 폴백)
+    private Set<Long> resolveKeywordIds(String keyword) {
+        if (keyword == null || keyword.trim().isEmpty()) {
+            return null;
+        }
+        return productNameIndex.findCandidateIds(keyword).orElse(null);
+    }
+
+    // 키워드 검색: 인덱스 후보가 있으면 PK IN, 없으면 LIKE 폴백
+    private BooleanExpression keywordMatches(String keyword, Set<Long> keywordIds) {
+        if (keywordIds != null) {
+            return QProduct.product.id.in(keywordIds);
+        }
+        return keywordContains(keyword);
+    }
+
     // 키워드 검색 (상품명만 - description은 CLOB 타입이라 lower() 함수 사용 불가)
     private BooleanExpression keywordContains(String keyword) {
         if (keyword == null || keyword.trim().isEmpty()) {
@@ -108,16 +213,22 @@ public class ProductSearchImpl implements ProductSearch {
         return product.name.containsIgnoreCase(keyword);
     }
 
-    // 카테고리 필터
-    private BooleanExpression categoryIdEq(Long categoryId, 
-                                           QProductCategory productCategory, 
-                                           QCategory category) {
+    // 카테고리 필터: 지정 카테고리 + 모든 하위 카테고리 (클로저 테이블 세미조인, self 행 포함)
+    // 클로저 밖에서 저장된 카테고리는 기동 시 점검 또는 관리자 재생성(CategoryTreeService#rebuild)으로 경로를 채운다
+    private BooleanExpression categoryIn(Long categoryId, QProduct product) {
         if (categoryId == null) {
             return null;
         }
-        // ProductCategory를 통해 카테고리 필터링
-        // categoryId가 null이 아닐 때만 호출되므로 안전
-        return productCategory.category.id.eq(categoryId);
+        QProductCategory productCategory = QProductCategory.productCategory;
+        QCategoryClosure closure = QCategoryClosure.categoryClosure;
+        return JPAExpressions.selectOne()
+                .from(productCategory)
+                .where(productCategory.id.productId.eq(product.id),
+                       productCategory.id.categoryId.in(
+                               JPAExpressions.select(closure.id.descendantId)
+                                       .from(closure)
+                                       .where(closure.id.ancestorId.eq(categoryId))))
+                .exists();
     }
 
     // 가격 범위 필터
@@ -151,41 +262,26 @@ public class ProductSearchImpl implements ProductSearch {
         if (!condition.isExcludeOutOfStock()) {
             return null;
         }
-        QProductVariant variant = QProductVariant.productVariant;
-        // 품절이 아닌 상품 = variant가 없음 OR (재고 > 0인 variant가 1개 이상 있음)
-        BooleanExpression hasNoVariants = JPAExpressions.selectOne()
-                .from(variant)
-                .where(variant.product.id.eq(product.id))
-                .exists()
-                .not();
-        BooleanExpression hasInStockVariant = JPAExpressions.selectOne()
-                .from(variant)
-                .where(variant.product.id.eq(product.id), variant.stockQty.gt(0))
-                .exists();
-        return hasNoVariants.or(hasInStockVariant);
+        // 비정규화 컬럼(in_stock) 단일 조건 → (status, in_stock) 인덱스 사용, 상관 서브쿼리 제거
+        return product.inStock.isTrue();
     }
 
     // 정렬 조건
     private OrderSpecifier<?>[] getOrderSpecifier(ProductSearchCondition condition, QProduct product) {
         List<OrderSpecifier<?>> orders = new ArrayList<>();
 
-        String sortBy = condition.getSortBy() != null ? condition.getSortBy() : "createdAt";
-        String direction = condition.getDirection() != null ? condition.getDirection() : "DESC";
-        Order order = "ASC".equalsIgnoreCase(direction) ? Order.ASC : Order.DESC;
+        Order order = condition.resolveDirection();
 
-        switch (sortBy.toLowerCase()) {
-            case "baseprice":
-            case "price":
+        switch (condition.resolveSortKey()) {
+            case PRICE:
                 orders.add(new OrderSpecifier<>(order, product.basePrice));
                 break;
-            case "popularity":
-            case "sales":
-                // TODO: 추후 판매량 통계 테이블 추가 시 구현
-                // 현재는 createdAt으로 대체
-                orders.add(new OrderSpecifier<>(order, product.createdAt));
-                break;
-            case "createdat":
-            case "created_at":
+            case SALES:
+                // 동점 정렬도 집계 테이블 컬럼으로 (인덱스 순서 그대로, product_id = products.id)
+                orders.add(new OrderSpecifier<>(order, QProductSalesStats.productSalesStats.salesQty));
+                orders.add(new OrderSpecifier<>(Order.DESC, QProductSalesStats.productSalesStats.productId));
+                return orders.toArray(new OrderSpecifier[0]);
+            case CREATED_AT:
             default:
                 orders.add(new OrderSpecifier<>(order, product.createdAt));
                 break;
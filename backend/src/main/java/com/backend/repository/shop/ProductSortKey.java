@@ -0,0 +1,30 @@
+package com.backend.repository.shop;
+
+/**
+ * 상품 목록 정렬 기준.
+ * 요청 sortBy 문자열 → 정렬 컬럼 매핑을 한 곳에서 관리 (offset/cursor 페이징이 같은 순서를 쓰도록).
+ */
+public enum ProductSortKey {
+    CREATED_AT,
+    PRICE,
+    /** 누적 판매량 (product_sales_stats) */
+    SALES;
+
+    public static ProductSortKey from(String sortBy) {
+        if (sortBy == null) {
+            return CREATED_AT;
+        }
+        switch (sortBy.toLowerCase()) {
+            case "baseprice":
+            case "price":
+                return PRICE;
+            case "popularity":
+            case "sales":
+                return SALES;
+            case "createdat":
+            case "created_at":
+            default:
+                return CREATED_AT;
+        }
+    }
+}
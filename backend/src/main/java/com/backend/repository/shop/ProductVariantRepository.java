@@ -5,10 +5,12 @@ import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +25,19 @@ public interface ProductVariantRepository extends JpaRepository<ProductVariant,
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT pv FROM ProductVariant pv WHERE pv.id = :id")
     Optional<ProductVariant> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 여러 옵션을 id 오름차순으로 한 번에 잠근다 (동시 주문 간 잠금 순서 고정 → 교착 방지).
+     * 프로젝션이라 이미 로딩된 엔티티가 아닌 잠금 시점의 재고 값을 돌려준다.
+     */
+    @Query(value = """
+            SELECT id, stock_qty AS stockQty, reserved_qty AS reservedQty, is_active AS active, hot_sku AS hotSku
+              FROM product_variants
+             WHERE id IN (:ids)
+             ORDER BY id
+               FOR UPDATE
+            """, nativeQuery = true)
+    List<VariantStockProjection> lockStockByIdIn(@Param("ids") Collection<Long> ids);
     
     /**
      * 여러 상품 ID에 해당하는 모든 variant를 한 번에 조회합니다.
@@ -32,4 +47,76 @@ public interface ProductVariantRepository extends JpaRepository<ProductVariant,
     @EntityGraph(attributePaths = {"product"})
     @Query("select pv from ProductVariant pv where pv.product.id in :productIds")
     List<ProductVariant> findByProductIdIn(@Param("productIds") List<Long> productIds);
+
+    /**
+     * variant + product + images 일괄 조회 (Redis 게스트 장바구니 응답 조립용).
+     */
+    @EntityGraph(attributePaths = {"product", "product.images"})
+    @Query("select pv from ProductVariant pv where pv.id in :ids")
+    List<ProductVariant> findWithProductByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select distinct pv.product.id from ProductVariant pv where pv.id in :ids")
+    List<Long> findProductIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 핫 SKU 여부 확인용 (1이면 핫 SKU). 조건부 UPDATE가 0건일 때 원인을 가리는 데 쓰므로
+     * 트랜잭션 스냅샷이 아닌 최신 커밋 값을 잠금 읽기로 본다.
+     */
+    @Query(value = "SELECT COUNT(*) FROM product_variants WHERE id = :id AND hot_sku = 1 FOR UPDATE",
+            nativeQuery = true)
+    long countHotByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 핫 SKU 지정/해제 플래그 변경. 호출부가 행을 잠근 트랜잭션 안에서 Redis 카운터 생성과 함께 호출한다.
+     */
+    @Modifying
+    @Query(value = "UPDATE product_variants SET hot_sku = :hot WHERE id = :id", nativeQuery = true)
+    int updateHotSku(@Param("id") Long id, @Param("hot") boolean hot);
+
+    /**
+     * 재고 예약: 판매 가능 수량(stock_qty - reserved_qty)이 충분할 때만 reserved_qty 증가.
+     * 핫 SKU 행은 Redis 카운터가 기준이므로 건드리지 않는다 (행 잠금 대기 후 조건을 다시 평가하므로
+     * 대기 중 핫 SKU로 지정된 경우도 0건).
+     *
+     * @return 0이면 비활성, 재고 부족 또는 핫 SKU
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE product_variants
+               SET reserved_qty = reserved_qty + :qty
+             WHERE id = :id AND is_active = 1 AND hot_sku = 0 AND stock_qty - reserved_qty >= :qty
+            """, nativeQuery = true)
+    int reserveStock(@Param("id") Long id, @Param("qty") int qty);
+
+    /**
+     * 잠금 없는 조건부 재고 차감: 활성 옵션이고 가용 수량(stock_qty - reserved_qty + 이 주문 예약분)이
+     * 충분할 때만 차감하며, 이 주문의 예약분(held)은 reserved_qty에서 함께 뺀다. 핫 SKU 행은 건드리지 않는다.
+     *
+     * @return 0이면 비활성/미존재, 재고 부족 또는 핫 SKU
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE product_variants
+               SET stock_qty = stock_qty - :qty,
+                   reserved_qty = GREATEST(reserved_qty - :held, 0)
+             WHERE id = :id AND is_active = 1 AND hot_sku = 0 AND stock_qty >= :qty
+               AND stock_qty - reserved_qty + :held >= :qty
+            """, nativeQuery = true)
+    int decreaseStockIfAvailable(@Param("id") Long id, @Param("qty") int qty, @Param("held") int held);
+
+    @Query(value = "SELECT GREATEST(stock_qty - reserved_qty, 0) FROM product_variants WHERE id = :id",
+            nativeQuery = true)
+    Optional<Integer> findAvailableQtyById(@Param("id") Long id);
+
+    /**
+     * 예약 해제: reserved_qty 반환 (핫 SKU 행 제외)
+     *
+     * @return 0이면 미존재 또는 핫 SKU
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE product_variants SET reserved_qty = GREATEST(reserved_qty - :qty, 0)
+             WHERE id = :id AND hot_sku = 0
+            """, nativeQuery = true)
+    int releaseReservedStock(@Param("id") Long id, @Param("qty") int qty);
 }
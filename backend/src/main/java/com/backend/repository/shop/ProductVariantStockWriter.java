@@ -0,0 +1,96 @@
+package com.backend.repository.shop;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 옵션 재고 차감 JDBC 배치 writer.
+ *
+ * <p>결제 후처리처럼 여러 옵션 재고를 함께 바꾸는 경로에서, 행마다 엔티티 dirty flush를
+ * 보내는 대신 batchUpdate 1회로 반영한다. 호출 트랜잭션에 참여한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductVariantStockWriter {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 재고 차감 + 예약 수량 반환. 대상 행은 호출부가 미리 잠그고 핫 SKU가 아님을 확인해 둔다.
+     * 한 행이라도 갱신되지 않으면(행 없음/핫 SKU) 예외로 호출 트랜잭션 전체를 롤백시킨다.
+     *
+     * @param soldQtyByVariantId     variantId → 차감할 재고 수량
+     * @param releasedQtyByVariantId variantId → 함께 줄일 reserved_qty (예약을 전환한 수량, 없으면 0)
+     */
+    public void decreaseStock(Map<Long, Integer> soldQtyByVariantId, Map<Long, Integer> releasedQtyByVariantId) {
+        if (soldQtyByVariantId.isEmpty()) {
+            return;
+        }
+        List<Long> variantIds = new ArrayList<>(soldQtyByVariantId.size());
+        List<Object[]> args = new ArrayList<>(soldQtyByVariantId.size());
+        soldQtyByVariantId.forEach((variantId, qty) -> {
+            variantIds.add(variantId);
+            args.add(new Object[]{qty, releasedQtyByVariantId.getOrDefault(variantId, 0), variantId});
+        });
+
+        int[] updated = jdbcTemplate.batchUpdate("""
+                UPDATE product_variants
+                   SET stock_qty = stock_qty - ?,
+                       reserved_qty = GREATEST(reserved_qty - ?, 0)
+                 WHERE id = ? AND hot_sku = 0
+                """, args);
+        for (int i = 0; i < updated.length; i++) {
+            // SUCCESS_NO_INFO: 드라이버가 행별 건수를 주지 않는 배치 → 호출부 잠금/검증을 믿는다
+            if (updated[i] != 1 && updated[i] != Statement.SUCCESS_NO_INFO) {
+                throw new IllegalStateException(
+                        "Stock decrease not applied: variantId=" + variantIds.get(i) + ", updated=" + updated[i]);
+            }
+        }
+    }
+
+    /**
+     * 재고/예약 수량 절대값 기록 (핫 SKU Redis 카운터 write-behind).
+     * 핫 SKU 행만 쓰므로 DB 경로가 바꾼 값을 덮어쓰지 않는다. 해제 대상은 같은 UPDATE에서 핫 SKU 플래그를 내린다.
+     *
+     * @param stockByVariantId    variantId → stock_qty
+     * @param reservedByVariantId variantId → reserved_qty
+     * @param retiredVariantIds   핫 SKU 해제 대상
+     */
+    public void overwriteStock(Map<Long, Integer> stockByVariantId, Map<Long, Integer> reservedByVariantId,
+                               Set<Long> retiredVariantIds) {
+        if (stockByVariantId.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(stockByVariantId.size());
+        stockByVariantId.forEach((variantId, stockQty) ->
+                args.add(new Object[]{stockQty, reservedByVariantId.getOrDefault(variantId, 0),
+                        !retiredVariantIds.contains(variantId), variantId}));
+
+        jdbcTemplate.batchUpdate("""
+                UPDATE product_variants
+                   SET stock_qty = ?, reserved_qty = ?, hot_sku = ?
+                 WHERE id = ? AND hot_sku = 1
+                """, args);
+    }
+
+    /**
+     * 재고/예약 수량 증감 (핫 SKU 해제 후 Redis 카운터에 늦게 들어온 롤백 보상 반영).
+     *
+     * @return 0이면 미존재 또는 다시 핫 SKU로 지정된 행
+     */
+    public int adjustStock(Long variantId, int stockDelta, int reservedDelta) {
+        return jdbcTemplate.update("""
+                UPDATE product_variants
+                   SET stock_qty = stock_qty + ?,
+                       reserved_qty = GREATEST(reserved_qty + ?, 0)
+                 WHERE id = ? AND hot_sku = 0
+                """, stockDelta, reservedDelta, variantId);
+    }
+}
@@ -0,0 +1,45 @@
+package com.backend.repository.shop;
+
+import com.backend.domain.shop.StockReservation;
+import com.backend.domain.shop.StockReservationStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface StockReservationRepository extends JpaRepository<StockReservation, Long> {
+
+    /**
+     * 주문의 ACTIVE 예약 잠금 조회 (결제 완료 전환용)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM StockReservation r WHERE r.orderId = :orderId AND r.status = com.backend.domain.shop.StockReservationStatus.ACTIVE ORDER BY r.id")
+    List<StockReservation> findActiveByOrderIdForUpdate(@Param("orderId") Long orderId);
+
+    /**
+     * 만료된 ACTIVE 예약 id (잠금 없음, 해제 배치 후보)
+     */
+    @Query("SELECT r.id FROM StockReservation r WHERE r.status = com.backend.domain.shop.StockReservationStatus.ACTIVE AND r.expiresAt < :now ORDER BY r.id")
+    List<Long> findExpiredActiveIds(@Param("now") Instant now, Pageable pageable);
+
+    /**
+     * 후보 예약을 PK로 잠금 조회 (그 사이 전환/해제된 행은 제외)
+     * 범위 잠금 없이 레코드 잠금만 잡아 주문 생성 INSERT와 충돌하지 않게 한다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM StockReservation r WHERE r.id IN :ids AND r.status = com.backend.domain.shop.StockReservationStatus.ACTIVE ORDER BY r.id")
+    List<StockReservation> findActiveByIdInForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE StockReservation r SET r.status = :status WHERE r.id IN :ids")
+    int updateStatus(@Param("ids") Collection<Long> ids, @Param("status") StockReservationStatus status);
+}
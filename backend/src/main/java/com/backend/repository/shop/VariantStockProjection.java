@@ -0,0 +1,13 @@
+package com.backend.repository.shop;
+
+/**
+ * 재고 차감용 variant 잠금 조회 프로젝션 (영속성 컨텍스트를 거치지 않은 잠금 시점 값).
+ */
+public interface VariantStockProjection {
+
+    Long getId();
+    Integer getStockQty();
+    Integer getReservedQty();
+    Boolean getActive();
+    Boolean getHotSku();
+}
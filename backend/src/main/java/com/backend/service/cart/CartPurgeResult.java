@@ -0,0 +1,10 @@
+package com.backend.service.cart;
+
+/**
+ * 게스트 장바구니 정리 청크 1개의 삭제 건수
+ *
+ * @param carts 삭제된 장바구니 수
+ * @param items 삭제된 장바구니 라인 수
+ */
+public record CartPurgeResult(int carts, int items) {
+}
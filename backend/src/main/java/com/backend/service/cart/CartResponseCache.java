@@ -0,0 +1,85 @@
+package com.backend.service.cart;
+
+import com.backend.dto.cart.response.CartResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 조립된 장바구니 응답(CartResponse) 로컬 캐시.
+ *
+ * <ul>
+ *   <li>키: 장바구니 식별자 + 버전. 장바구니가 바뀌면 버전이 올라가므로 별도 무효화가 없다
+ *       (버전은 DB/Redis 기준이라 여러 노드에서도 안전)</li>
+ *   <li>용량 상한(LRU) + TTL: 장바구니 변경 없이 바뀌는 상품 가격/이름/이미지는 TTL 안에서만 지연 반영</li>
+ *   <li>세대: TTL 단위 시간 구간 번호. ETag에 포함해 장바구니 버전이 그대로여도 세대가 바뀌면 304 대신 새 응답을 내려준다
+ *       (모든 노드에서 같은 값이므로 노드가 바뀌어도 ETag가 흔들리지 않음)</li>
+ *   <li>캐시된 응답은 공유 인스턴스이므로 호출부에서 수정하지 않는다</li>
+ * </ul>
+ */
+@Component
+public class CartResponseCache {
+
+    private final int maxSize;
+    private final long ttlMillis;
+
+    // access-order LinkedHashMap = LRU, 모든 접근은 this 동기화
+    private final LinkedHashMap<String, Entry> entries;
+
+    public CartResponseCache(@Value("${shop.cart.response-cache.max-size:10000}") int maxSize,
+                             @Value("${shop.cart.response-cache.ttl:PT1M}") Duration ttl) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl.toMillis();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > CartResponseCache.this.maxSize;
+            }
+        };
+    }
+
+    /**
+     * @return 같은 버전으로 캐시된 응답, 없거나 버전이 다르거나 만료되었으면 null
+     */
+    public CartResponse get(CartKey cartKey, long version) {
+        String key = key(cartKey);
+        synchronized (this) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.version == version && entry.expiresAt > System.currentTimeMillis()) {
+                return entry.response;
+            }
+            entries.remove(key);
+            return null;
+        }
+    }
+
+    public void put(CartKey cartKey, long version, CartResponse response) {
+        if (response == null || maxSize <= 0) {
+            return;
+        }
+        Entry entry = new Entry(version, response, System.currentTimeMillis() + ttlMillis);
+        synchronized (this) {
+            entries.put(key(cartKey), entry);
+        }
+    }
+
+    /**
+     * 현재 세대 번호 (TTL 구간마다 1씩 증가). 이전 세대에 만든 캐시 항목은 다음 세대가 끝나기 전에 만료된다.
+     */
+    public long currentGeneration() {
+        return ttlMillis > 0 ? System.currentTimeMillis() / ttlMillis : System.currentTimeMillis();
+    }
+
+    private static String key(CartKey cartKey) {
+        return cartKey.isMember() ? "m:" + cartKey.getMemberId() : "g:" + cartKey.getGuestToken();
+    }
+
+    private record Entry(long version, CartResponse response, long expiresAt) {
+    }
+}
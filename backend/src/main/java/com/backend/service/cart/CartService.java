@@ -1,6 +1,11 @@
 package com.backend.service.cart;
+import com.backend.dto.cart.request.CartOpsRequest;
 import com.backend.dto.cart.response.CartResponse;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
 
 /**
  * 장바구니 서비스 인터페이스
@@ -10,10 +15,11 @@ public interface CartService {
     /**
      * 장바구니 조회 또는 생성
      * memberId가 있으면 회원 장바구니, 없으면 guestToken으로 게스트 장바구니
+     * 게스트 장바구니는 Redis(GuestCartStore)에만 있으므로 DB 장바구니를 만들지 않는다.
      * 
      * @param memberId 회원 ID (nullable)
      * @param guestToken 게스트 토큰 (nullable)
-     * @return 장바구니 ID
+     * @return 장바구니 ID (게스트면 null)
      */
     Long getOrCreateCart(Long memberId, String guestToken);
     
@@ -48,16 +54,26 @@ public interface CartService {
      * 장바구니 아이템 수량 변경
      * 
      * @param cartKey 장바구니 식별자
-     * @param itemId 장바구니 아이템 ID
+     * @param itemId 장바구니 아이템 ID (게스트 장바구니는 variantId)
      * @param qty 수량 (>=1)
      */
     void updateQty(CartKey cartKey, Long itemId, Integer qty);
     
+    /**
+     * 장바구니 일괄 변경 (추가/수량 변경/삭제를 순서대로 한 트랜잭션에서 적용)
+     * 참조하는 기존 라인과 variant는 각각 IN 쿼리 1회로 조회한다.
+     * 
+     * @param cartKey 장바구니 식별자
+     * @param ops 변경 목록 (순서대로 적용, 하나라도 실패하면 전체 미적용)
+     * @return 변경 후 장바구니 응답
+     */
+    CartResponse applyOps(CartKey cartKey, List<CartOpsRequest.CartOpDto> ops);
+    
     /**
      * 장바구니 아이템 제거
      * 
      * @param cartKey 장바구니 식별자
-     * @param itemId 장바구니 아이템 ID
+     * @param itemId 장바구니 아이템 ID (게스트 장바구니는 variantId)
      */
     void removeItem(CartKey cartKey, Long itemId);
     
@@ -68,11 +84,20 @@ public interface CartService {
      */
     void clearCart(CartKey cartKey);
     
+    /**
+     * 장바구니 버전만 조회 (조건부 GET 판단용, 장바구니 내용은 읽지 않음)
+     * 
+     * @param cartKey 장바구니 식별자
+     * @return 버전 (회원 장바구니가 아직 없으면 empty)
+     */
+    Optional<Long> getCartVersion(CartKey cartKey);
+    
     /**
      * 장바구니 조회 (N+1 방지 최적화 포함)
+     * 같은 버전으로 조립된 응답이 있으면 재사용한다.
      * 
      * @param cartKey 장바구니 식별자
-     * @return 장바구니 응답 DTO
+     * @return 장바구니 응답 DTO (version 포함)
      */
     CartResponse getCart(CartKey cartKey);
     
@@ -83,4 +108,22 @@ public interface CartService {
      * @param memberId 회원 ID
      */
     void mergeGuestCartToMemberCart(String guestToken, Long memberId);
+    
+    /**
+     * 보존 기간이 지난 게스트 장바구니 id 조회 (정리 작업용, id 오름차순 keyset)
+     * 
+     * @param afterId 이 id 이후부터
+     * @param cutoff 카트/라인 모두 이 시각 이전에 마지막으로 변경된 카트만 대상
+     * @param limit 최대 개수
+     * @return 게스트 장바구니 id 목록
+     */
+    List<Long> findStaleGuestCartIds(long afterId, Instant cutoff, int limit);
+    
+    /**
+     * 게스트 장바구니와 라인 일괄 삭제 (정리 작업용, 호출마다 독립된 짧은 트랜잭션)
+     * 
+     * @param cartIds 삭제할 게스트 장바구니 id
+     * @return 삭제된 카트/라인 수
+     */
+    CartPurgeResult purgeGuestCarts(List<Long> cartIds);
 }
@@ -8,24 +8,40 @@ import com.backend.domain.member.Member;
 import com.backend.domain.shop.Product;
 import com.backend.domain.shop.ProductImage;
 import com.backend.domain.shop.ProductVariant;
+import com.backend.dto.cart.request.CartOpsRequest;
 import com.backend.dto.cart.response.CartItemResponse;
 import com.backend.dto.cart.response.CartResponse;
 import com.backend.dto.cart.response.CartTotalsResponse;
+import com.backend.repository.cart.CartItemBulkWriter;
 import com.backend.repository.cart.CartItemRepository;
 import com.backend.repository.cart.CartRepository;
 import com.backend.repository.member.MemberRepository;
 import com.backend.repository.shop.ProductRepository;
 import com.backend.repository.shop.ProductVariantRepository;
 import com.backend.service.file.FileStorageService;
+import com.backend.service.file.ImageRendition;
+import com.backend.service.shop.ProductDetailCache;
+import com.backend.util.TransactionCallbacks;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -36,10 +52,14 @@ public class CartServiceImpl implements CartService {
 
     private final CartRepository cartRepository;
     private final CartItemRepository cartItemRepository;
+    private final CartItemBulkWriter cartItemBulkWriter;
     private final ProductVariantRepository productVariantRepository;
     private final ProductRepository productRepository;
     private final MemberRepository memberRepository;
     private final FileStorageService fileStorageService;
+    private final ProductDetailCache productDetailCache;
+    private final GuestCartStore guestCartStore;
+    private final CartResponseCache cartResponseCache;
 
     @Override
     @Transactional
@@ -58,14 +78,8 @@ public class CartServiceImpl implements CartService {
                         return cartRepository.save(newCart);
                     });
         } else if (guestToken != null && !guestToken.trim().isEmpty()) {
-            // 게스트 장바구니 조회 또는 생성
-            cart = cartRepository.findByGuestToken(guestToken.trim())
-                    .orElseGet(() -> {
-                        Cart newCart = Cart.builder()
-                                .guestToken(guestToken.trim())
-                                .build();
-                        return cartRepository.save(newCart);
-                    });
+            // 게스트 장바구니는 Redis에만 존재 (로그인 병합 전까지 DB 행 없음)
+            return null;
         } else {
             throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
         }
@@ -99,6 +113,17 @@ public class CartServiceImpl implements CartService {
             throw new BusinessException(ErrorCode.SHOP_VARIANT_INACTIVE, variantId);
         }
         
+        // 게스트: Redis 해시만 갱신 (DB 장바구니 미생성)
+        if (cartKey.isGuest()) {
+            // 증가와 재고 한도 검사를 Redis에서 원자적으로 (동시 담기 시 읽고-쓰기 사이 유실 방지)
+            int totalQty = guestCartStore.addQty(cartKey.getGuestToken(), variantId, qty, variant.getAvailableQty());
+            if (totalQty < 0) {
+                throw new BusinessException(ErrorCode.SHOP_VARIANT_OUT_OF_STOCK, -totalQty, variant.getAvailableQty());
+            }
+            log.info("Guest cart item set: variantId={}, qty={}", variantId, totalQty);
+            return;
+        }
+
         // 장바구니 조회 및 소유자 확인
         Cart cart = getCartAndVerifyOwnership(cartKey);
         
@@ -110,8 +135,8 @@ public class CartServiceImpl implements CartService {
         int totalQty = existingItem != null ? existingItem.getQty() + qty : qty;
         
         // 재고 검증
-        if (variant.getStockQty() < totalQty) {
-            throw new BusinessException(ErrorCode.SHOP_VARIANT_OUT_OF_STOCK, totalQty, variant.getStockQty());
+        if (variant.getAvailableQty() < totalQty) {
+            throw new BusinessException(ErrorCode.SHOP_VARIANT_OUT_OF_STOCK, totalQty, variant.getAvailableQty());
         }
 
         if (existingItem != null) {
@@ -132,6 +157,7 @@ public class CartServiceImpl implements CartService {
             log.info("Cart item added: cartId={}, itemId={}, variantId={}, qty={}", 
                     cart.getId(), newItem.getId(), variantId, qty);
         }
+        cartRepository.incrementVersion(cart.getId());
     }
     
     @Override
@@ -162,6 +188,7 @@ public class CartServiceImpl implements CartService {
                     .active(true)
                     .build();
             variant = productVariantRepository.save(variant);
+            productDetailCache.invalidate(productId);
             log.info("Default variant created for product: productId={}, variantId={}", productId, variant.getId());
         }
         
@@ -182,6 +209,19 @@ public class CartServiceImpl implements CartService {
             return;
         }
 
+        // 게스트: itemId = variantId, 라인 존재 확인과 변경은 스크립트에서 원자 처리 (동시에 삭제된 라인을 되살리지 않음)
+        if (cartKey.isGuest()) {
+            ProductVariant variant = productVariantRepository.findById(itemId)
+                    .orElseThrow(() -> new BusinessException(ErrorCode.SHOP_CART_ITEM_NOT_FOUND, itemId));
+            if (!variant.isActive()) {
+                throw new BusinessException(ErrorCode.SHOP_VARIANT_INACTIVE, variant.getId());
+            }
+            applyGuestStoreOps(cartKey.getGuestToken(), List.of(
+                    new GuestCartStore.Op(GuestCartStore.OpType.SET, itemId, qty, variant.getAvailableQty())));
+            log.info("Guest cart item quantity updated: variantId={}, qty={}", itemId, qty);
+            return;
+        }
+
         // 장바구니 조회 및 소유자 확인
         Cart cart = getCartAndVerifyOwnership(cartKey);
 
@@ -198,19 +238,213 @@ public class CartServiceImpl implements CartService {
         if (!variant.isActive()) {
             throw new BusinessException(ErrorCode.SHOP_VARIANT_INACTIVE, variant.getId());
         }
-        if (variant.getStockQty() < qty) {
-            throw new BusinessException(ErrorCode.SHOP_VARIANT_OUT_OF_STOCK, qty, variant.getStockQty());
+        if (variant.getAvailableQty() < qty) {
+            throw new BusinessException(ErrorCode.SHOP_VARIANT_OUT_OF_STOCK, qty, variant.getAvailableQty());
         }
 
         // 수량 변경
         item.updateQty(qty);
         cartItemRepository.save(item);
+        cartRepository.incrementVersion(cart.getId());
         log.info("Cart item quantity updated: cartId={}, itemId={}, qty={}", cart.getId(), itemId, qty);
     }
 
+    @Override
+    @Transactional
+    public CartResponse applyOps(CartKey cartKey, List<CartOpsRequest.CartOpDto> ops) {
+        if (cartKey.isGuest()) {
+            applyGuestOps(cartKey.getGuestToken(), ops);
+            return getCart(cartKey);
+        }
+
+        // 장바구니 조회 및 소유자 확인 (1회)
+        Cart cart = getCartAndVerifyOwnership(cartKey);
+
+        // 참조 id 수집
+        Set<Long> itemIds = new HashSet<>();
+        Set<Long> variantIds = new HashSet<>();
+        for (CartOpsRequest.CartOpDto op : ops) {
+            if (op.getType() == CartOpsRequest.OpType.ADD) {
+                variantIds.add(requireOpId(op.getVariantId(), "variantId"));
+            } else {
+                itemIds.add(requireOpId(op.getItemId(), "itemId"));
+            }
+        }
+
+        // 기존 라인(variant 포함) / 추가 대상 variant를 각각 IN 쿼리 1회로 조회
+        Map<Long, CartItem> itemsById = new HashMap<>();
+        Map<Long, CartItem> itemsByVariantId = new HashMap<>();
+        for (CartItem item : cartItemRepository.findByCartIdAndIdInOrVariantIdIn(cart.getId(), itemIds, variantIds)) {
+            itemsById.put(item.getId(), item);
+            itemsByVariantId.put(item.getVariant().getId(), item);
+        }
+        Map<Long, ProductVariant> variants = variantIds.isEmpty()
+                ? Map.of()
+                : productVariantRepository.findAllById(variantIds).stream()
+                        .collect(Collectors.toMap(ProductVariant::getId, Function.identity()));
+
+        // 순서대로 적용 (실패 시 예외 → 트랜잭션 전체 롤백)
+        for (CartOpsRequest.CartOpDto op : ops) {
+            switch (op.getType()) {
+                case ADD -> {
+                    int qty = requireAddQty(op.getQty());
+                    ProductVariant variant = variants.get(op.getVariantId());
+                    if (variant == null) {
+                        throw new BusinessException(ErrorCode.SHOP_VARIANT_NOT_FOUND, op.getVariantId());
+                    }
+                    CartItem existingItem = itemsByVariantId.get(variant.getId());
+                    int totalQty = existingItem != null ? existingItem.getQty() + qty : qty;
+                    verifyPurchasable(variant, totalQty);
+                    if (existingItem != null) {
+                        existingItem.increaseQty(qty);
+                    } else {
+                        CartItem newItem = CartItem.builder()
+                                .cart(cart)
+                                .variant(variant)
+                                .qty(qty)
+                                .build();
+                        cart.addItem(newItem);
+                        cartItemRepository.save(newItem);
+                        itemsById.put(newItem.getId(), newItem);
+                        itemsByVariantId.put(variant.getId(), newItem);
+                    }
+                }
+                case UPDATE -> {
+                    CartItem item = itemsById.get(op.getItemId());
+                    if (item == null) {
+                        throw new BusinessException(ErrorCode.SHOP_CART_ITEM_NOT_FOUND, op.getItemId());
+                    }
+                    if (op.getQty() == null) {
+                        throw new BusinessException(ErrorCode.SHOP_CART_ITEM_INVALID_QUANTITY);
+                    }
+                    if (op.getQty() <= 0) {
+                        removeLine(cart, item, itemsById, itemsByVariantId);
+                    } else {
+                        verifyPurchasable(item.getVariant(), op.getQty());
+                        item.updateQty(op.getQty());
+                    }
+                }
+                case REMOVE -> {
+                    CartItem item = itemsById.get(op.getItemId());
+                    if (item == null) {
+                        throw new BusinessException(ErrorCode.SHOP_CART_ITEM_NOT_FOUND, op.getItemId());
+                    }
+                    removeLine(cart, item, itemsById, itemsByVariantId);
+                }
+            }
+        }
+        cartRepository.incrementVersion(cart.getId());
+        log.info("Cart ops applied: cartId={}, ops={}", cart.getId(), ops.size());
+
+        return getCart(cartKey);
+    }
+
+    /**
+     * 게스트 장바구니 일괄 변경: 상품/재고 조건은 여기서 검증하고, 현재 라인 기준 검증과 적용은 스크립트 1회로 원자 처리
+     */
+    private void applyGuestOps(String guestToken, List<CartOpsRequest.CartOpDto> ops) {
+        Set<Long> variantIds = new HashSet<>();
+        for (CartOpsRequest.CartOpDto op : ops) {
+            if (op.getType() == CartOpsRequest.OpType.ADD) {
+                variantIds.add(requireOpId(op.getVariantId(), "variantId"));
+            } else {
+                Long itemId = requireOpId(op.getItemId(), "itemId");
+                if (op.getType() == CartOpsRequest.OpType.UPDATE) {
+                    variantIds.add(itemId);
+                }
+            }
+        }
+        Map<Long, ProductVariant> variants = variantIds.isEmpty()
+                ? Map.of()
+                : productVariantRepository.findAllById(variantIds).stream()
+                        .collect(Collectors.toMap(ProductVariant::getId, Function.identity()));
+
+        List<GuestCartStore.Op> storeOps = new ArrayList<>(ops.size());
+        for (CartOpsRequest.CartOpDto op : ops) {
+            switch (op.getType()) {
+                case ADD -> {
+                    int qty = requireAddQty(op.getQty());
+                    ProductVariant variant = variants.get(op.getVariantId());
+                    if (variant == null) {
+                        throw new BusinessException(ErrorCode.SHOP_VARIANT_NOT_FOUND, op.getVariantId());
+                    }
+                    verifyPurchasable(variant, qty);
+                    storeOps.add(new GuestCartStore.Op(GuestCartStore.OpType.ADD, variant.getId(), qty, variant.getAvailableQty()));
+                }
+                case UPDATE -> {
+                    if (op.getQty() == null) {
+                        throw new BusinessException(ErrorCode.SHOP_CART_ITEM_INVALID_QUANTITY);
+                    }
+                    if (op.getQty() <= 0) {
+                        storeOps.add(new GuestCartStore.Op(GuestCartStore.OpType.REMOVE, op.getItemId(), 0, 0));
+                    } else {
+                        ProductVariant variant = variants.get(op.getItemId());
+                        if (variant == null) {
+                            throw new BusinessException(ErrorCode.SHOP_CART_ITEM_NOT_FOUND, op.getItemId());
+                        }
+                        verifyPurchasable(variant, op.getQty());
+                        storeOps.add(new GuestCartStore.Op(GuestCartStore.OpType.SET, op.getItemId(), op.getQty(), variant.getAvailableQty()));
+                    }
+                }
+                case REMOVE -> storeOps.add(new GuestCartStore.Op(GuestCartStore.OpType.REMOVE, op.getItemId(), 0, 0));
+            }
+        }
+        applyGuestStoreOps(guestToken, storeOps);
+        log.info("Guest cart ops applied: ops={}", ops.size());
+    }
+
+    private void applyGuestStoreOps(String guestToken, List<GuestCartStore.Op> ops) {
+        guestCartStore.applyOps(guestToken, ops).ifPresent(rejection -> {
+            if (rejection.notFound()) {
+                throw new BusinessException(ErrorCode.SHOP_CART_ITEM_NOT_FOUND, rejection.variantId());
+            }
+            throw new BusinessException(ErrorCode.SHOP_VARIANT_OUT_OF_STOCK, rejection.qty(), rejection.maxQty());
+        });
+    }
+
+    private static Long requireOpId(Long id, String field) {
+        if (id == null) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, field + "는 필수입니다.");
+        }
+        return id;
+    }
+
+    private static int requireAddQty(Integer qty) {
+        if (qty == null || qty < 1) {
+            throw new BusinessException(ErrorCode.SHOP_CART_ITEM_INVALID_QUANTITY);
+        }
+        return qty;
+    }
+
+    private static void verifyPurchasable(ProductVariant variant, int qty) {
+        if (!variant.isActive()) {
+            throw new BusinessException(ErrorCode.SHOP_VARIANT_INACTIVE, variant.getId());
+        }
+        if (variant.getAvailableQty() < qty) {
+            throw new BusinessException(ErrorCode.SHOP_VARIANT_OUT_OF_STOCK, qty, variant.getAvailableQty());
+        }
+    }
+
+    private void removeLine(Cart cart, CartItem item,
+                            Map<Long, CartItem> itemsById, Map<Long, CartItem> itemsByVariantId) {
+        cart.removeItem(item);
+        cartItemRepository.delete(item);
+        itemsById.remove(item.getId());
+        itemsByVariantId.remove(item.getVariant().getId());
+    }
+
     @Override
     @Transactional
     public void removeItem(CartKey cartKey, Long itemId) {
+        // 게스트: itemId = variantId
+        if (cartKey.isGuest()) {
+            if (!guestCartStore.remove(cartKey.getGuestToken(), itemId)) {
+                throw new BusinessException(ErrorCode.SHOP_CART_ITEM_NOT_FOUND, itemId);
+            }
+            log.info("Guest cart item removed: variantId={}", itemId);
+            return;
+        }
+
         // 장바구니 조회 및 소유자 확인
         Cart cart = getCartAndVerifyOwnership(cartKey);
 
@@ -225,158 +459,231 @@ public class CartServiceImpl implements CartService {
         // 아이템 제거
         cart.removeItem(item);
         cartItemRepository.delete(item);
+        cartRepository.incrementVersion(cart.getId());
         log.info("Cart item removed: cartId={}, itemId={}", cart.getId(), itemId);
     }
 
     @Override
     @Transactional
     public void clearCart(CartKey cartKey) {
+        if (cartKey.isGuest()) {
+            guestCartStore.clear(cartKey.getGuestToken());
+            log.info("Guest cart cleared");
+            return;
+        }
+
         // 장바구니 조회 및 소유자 확인
         Cart cart = getCartAndVerifyOwnership(cartKey);
 
         // 모든 아이템 제거
         cartItemRepository.deleteByCartId(cart.getId());
+        cartRepository.incrementVersion(cart.getId());
         log.info("Cart cleared: cartId={}", cart.getId());
     }
 
+    @Override
+    public Optional<Long> getCartVersion(CartKey cartKey) {
+        if (cartKey.isGuest()) {
+            return Optional.of(guestCartStore.getVersion(cartKey.getGuestToken()));
+        }
+        return cartRepository.findVersionByMember_Id(cartKey.getMemberId());
+    }
+
     @Override
     @Transactional
     public CartResponse getCart(CartKey cartKey) {
-        Cart cart;
-        
-        // N+1 방지를 위해 EntityGraph로 items, variant, product, images를 한 번에 조회
-        if (cartKey.isMember()) {
-            cart = cartRepository.findWithItemsByMember_Id(cartKey.getMemberId())
-                    .orElseGet(() -> {
-                        // 회원 카트가 없으면 생성
-                        Member member = memberRepository.findById(cartKey.getMemberId())
-                                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND, cartKey.getMemberId()));
-                        Cart newCart = Cart.builder()
-                                .member(member)
-                                .build();
-                        return cartRepository.save(newCart);
-                    });
-            
-            // 회원 장바구니인지 확인
-            if (cart.getMember() == null || !cart.getMember().getId().equals(cartKey.getMemberId())) {
-                throw new BusinessException(ErrorCode.SHOP_CART_ACCESS_DENIED);
-            }
-        } else {
-            cart = cartRepository.findWithItemsByGuestToken(cartKey.getGuestToken())
-                    .orElseGet(() -> {
-                        // 게스트 카트가 없으면 생성
-                        Cart newCart = Cart.builder()
-                                .guestToken(cartKey.getGuestToken())
-                                .build();
-                        return cartRepository.save(newCart);
-                    });
-            
-            // 게스트 장바구니인지 확인
-            if (cart.getGuestToken() == null || !cart.getGuestToken().equals(cartKey.getGuestToken())) {
-                throw new BusinessException(ErrorCode.SHOP_CART_ACCESS_DENIED);
+        if (cartKey.isGuest()) {
+            return getGuestCart(cartKey);
+        }
+
+        // 버전 확인 → 같은 버전으로 조립된 응답이 있으면 엔티티 그래프 로딩 생략
+        // (버전 조회와 그래프 로딩은 같은 트랜잭션 스냅샷)
+        Optional<Long> storedVersion = cartRepository.findVersionByMember_Id(cartKey.getMemberId());
+        if (storedVersion.isPresent()) {
+            CartResponse cached = cartResponseCache.get(cartKey, storedVersion.get());
+            if (cached != null) {
+                return cached;
             }
         }
+        long version = storedVersion.orElse(0L);
+
+        // N+1 방지를 위해 EntityGraph로 items, variant, product, images를 한 번에 조회
+        Cart cart = cartRepository.findWithItemsByMember_Id(cartKey.getMemberId())
+                .orElseGet(() -> {
+                    // 회원 카트가 없으면 생성
+                    Member member = memberRepository.findById(cartKey.getMemberId())
+                            .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND, cartKey.getMemberId()));
+                    Cart newCart = Cart.builder()
+                            .member(member)
+                            .build();
+                    return cartRepository.save(newCart);
+                });
+        
+        // 회원 장바구니인지 확인
+        if (cart.getMember() == null || !cart.getMember().getId().equals(cartKey.getMemberId())) {
+            throw new BusinessException(ErrorCode.SHOP_CART_ACCESS_DENIED);
+        }
         
         // CartItemResponse 변환
         List<CartItemResponse> itemResponses = cart.getItems().stream()
                 .map(this::toCartItemResponse)
                 .collect(Collectors.toList());
         
-        // Totals 계산
-        CartTotalsResponse totals = calculateTotals(cart.getItems());
-        
-        return CartResponse.builder()
+        CartResponse response = CartResponse.builder()
                 .cartId(cart.getId())
-                .isGuest(cart.getGuestToken() != null)
+                .version(version)
+                .isGuest(false)
+                .items(itemResponses)
+                .totals(calculateTotals(itemResponses))
+                .build();
+        cartResponseCache.put(cartKey, version, response);
+        return response;
+    }
+
+    /**
+     * 게스트 장바구니 응답 조립 (Redis 라인 + variant/product 일괄 조회, carts 테이블 미사용)
+     * - cartId는 없음(null), itemId는 variantId
+     */
+    private CartResponse getGuestCart(CartKey cartKey) {
+        String guestToken = cartKey.getGuestToken();
+        // 버전을 라인보다 먼저 읽는다 (동시 변경 시 라인이 버전보다 최신일 수는 있어도 오래된 라인이 새 버전으로 캐시되지 않음)
+        long version = guestCartStore.getVersion(guestToken);
+        CartResponse cached = cartResponseCache.get(cartKey, version);
+        if (cached != null) {
+            return cached;
+        }
+
+        Map<Long, Integer> lines = guestCartStore.getItems(guestToken);
+        List<CartItemResponse> itemResponses = List.of();
+        if (!lines.isEmpty()) {
+            Map<Long, ProductVariant> variants = productVariantRepository.findWithProductByIdIn(lines.keySet()).stream()
+                    .collect(Collectors.toMap(ProductVariant::getId, Function.identity()));
+            // 삭제된 variant 라인은 응답에서 제외
+            itemResponses = lines.entrySet().stream()
+                    .filter(line -> variants.containsKey(line.getKey()))
+                    .sorted(Map.Entry.comparingByKey())
+                    .map(line -> toCartItemResponse(line.getKey(), variants.get(line.getKey()), line.getValue()))
+                    .collect(Collectors.toList());
+        }
+
+        CartResponse response = CartResponse.builder()
+                .cartId(null)
+                .version(version)
+                .isGuest(true)
                 .items(itemResponses)
-                .totals(totals)
+                .totals(calculateTotals(itemResponses))
                 .build();
+        cartResponseCache.put(cartKey, version, response);
+        return response;
     }
     
     @Override
     @Transactional
     public void mergeGuestCartToMemberCart(String guestToken, Long memberId) {
-        // 1. 게스트 장바구니 + items 한 번에 조회 (EntityGraph로 N+1/Lazy 방지)
-        Cart guestCart = cartRepository.findWithItemsByGuestToken(guestToken)
+        // 1. 게스트 라인 수집: Redis 장바구니 + 이전 방식(DB)으로 저장된 게스트 장바구니
+        Map<Long, Integer> guestLines = new LinkedHashMap<>(guestCartStore.getItems(guestToken));
+        Cart legacyGuestCart = cartRepository.findWithItemsByGuestToken(guestToken)
                 .orElse(null);
+        if (legacyGuestCart != null) {
+            for (CartItem legacyItem : legacyGuestCart.getItems()) {
+                guestLines.merge(legacyItem.getVariant().getId(), legacyItem.getQty(), Integer::sum);
+            }
+        }
 
-        if (guestCart == null || guestCart.getItems().isEmpty()) {
+        if (guestLines.isEmpty()) {
             log.info("Guest cart is empty or not found, skipping merge: guestToken={}", guestToken);
             return;
         }
+        Map<Long, ProductVariant> variants = productVariantRepository.findAllById(guestLines.keySet()).stream()
+                .collect(Collectors.toMap(ProductVariant::getId, Function.identity()));
 
         // 2. 회원 장바구니 조회 또는 생성
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND, memberId));
-
         Cart memberCart = cartRepository.findByMember_Id(memberId)
                 .orElseGet(() -> {
+                    Member member = memberRepository.findById(memberId)
+                            .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND, memberId));
                     Cart newCart = Cart.builder()
                             .member(member)
                             .build();
                     return cartRepository.save(newCart);
                 });
 
-        // 3. 게스트 아이템 병합: 재고 0 variant 제외, qty=0 CartItem 생성/유지 안 함
-        for (CartItem guestItem : guestCart.getItems()) {
-            ProductVariant variant = guestItem.getVariant();
+        // 3. 회원 카트의 해당 variant 라인을 한 번에 조회 (라인별 조회 없음)
+        Map<Long, Integer> memberQtyByVariantId = new HashMap<>();
+        for (CartItem memberItem : cartItemRepository.findAllByCartIdAndVariantIdIn(memberCart.getId(), guestLines.keySet())) {
+            memberQtyByVariantId.put(memberItem.getVariant().getId(), memberItem.getQty());
+        }
+
+        // 4. 메모리에서 병합 수량 계산: 비활성/재고 0 variant 제외, 재고 초과분은 재고로 클램프, qty=0 라인은 유지 안 함
+        Map<Long, Integer> upserts = new LinkedHashMap<>();
+        List<Long> removals = new ArrayList<>();
+        for (Map.Entry<Long, Integer> guestLine : guestLines.entrySet()) {
+            ProductVariant variant = variants.get(guestLine.getKey());
 
+            if (variant == null) {
+                log.warn("Skipping missing variant during merge: variantId={}", guestLine.getKey());
+                continue;
+            }
             if (!variant.isActive()) {
                 log.warn("Skipping inactive variant during merge: variantId={}", variant.getId());
                 continue;
             }
-            if (variant.getStockQty() <= 0) {
+            if (variant.getAvailableQty() <= 0) {
                 log.warn("Skipping zero-stock variant during merge: variantId={}", variant.getId());
                 continue;
             }
 
-            CartItem existingItem = cartItemRepository
-                    .findByCartIdAndVariantId(memberCart.getId(), variant.getId())
-                    .orElse(null);
-
-            if (existingItem != null) {
-                int newQty = existingItem.getQty() + guestItem.getQty();
-                if (variant.getStockQty() < newQty) {
-                    newQty = variant.getStockQty();
-                }
-                if (newQty <= 0) {
-                    cartItemRepository.delete(existingItem);
-                    log.info("Removed cart item (qty would be 0): cartId={}, variantId={}",
-                            memberCart.getId(), variant.getId());
-                } else {
-                    existingItem.updateQty(newQty);
-                    cartItemRepository.save(existingItem);
-                    log.info("Merged cart item: cartId={}, variantId={}, qty={}",
-                            memberCart.getId(), variant.getId(), newQty);
-                }
-            } else {
-                int qty = Math.min(guestItem.getQty(), variant.getStockQty());
-                if (qty <= 0) {
-                    continue;
-                }
-                CartItem newItem = CartItem.builder()
-                        .cart(memberCart)
-                        .variant(variant)
-                        .qty(qty)
-                        .build();
-                memberCart.addItem(newItem);
-                cartItemRepository.save(newItem);
-                log.info("Added cart item from guest cart: cartId={}, variantId={}, qty={}",
-                        memberCart.getId(), variant.getId(), qty);
+            Integer memberQty = memberQtyByVariantId.get(variant.getId());
+            int newQty = Math.min((memberQty != null ? memberQty : 0) + guestLine.getValue(), variant.getAvailableQty());
+            if (newQty > 0) {
+                upserts.put(variant.getId(), newQty);
+            } else if (memberQty != null) {
+                removals.add(variant.getId());
             }
         }
 
-        // 4. 게스트 장바구니 삭제
-        cartItemRepository.deleteByCartId(guestCart.getId());
-        cartRepository.delete(guestCart);
+        // 5. 배치 upsert 1회 + 일괄 삭제 1회
+        cartItemBulkWriter.upsertQuantities(memberCart.getId(), upserts);
+        if (!removals.isEmpty()) {
+            cartItemRepository.deleteByCartIdAndVariantIdIn(memberCart.getId(), removals);
+        }
+        cartRepository.incrementVersion(memberCart.getId());
+        log.info("Merged guest cart lines: cartId={}, upserted={}, removed={}",
+                memberCart.getId(), upserts.size(), removals.size());
+
+        // 6. 게스트 장바구니 삭제 (벌크 삭제, Redis는 커밋 이후 삭제 → 병합 롤백 시 게스트 카트 보존)
+        if (legacyGuestCart != null) {
+            cartItemRepository.deleteByCartId(legacyGuestCart.getId());
+            cartRepository.deleteAllByIdInBatch(List.of(legacyGuestCart.getId()));
+        }
+        TransactionCallbacks.afterCommit(() -> guestCartStore.delete(guestToken));
         log.info("Guest cart merged and deleted: guestToken={}, memberId={}", guestToken, memberId);
     }
     
+    @Override
+    public List<Long> findStaleGuestCartIds(long afterId, Instant cutoff, int limit) {
+        return cartRepository.findStaleGuestCartIds(afterId, cutoff, PageRequest.of(0, limit));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public CartPurgeResult purgeGuestCarts(List<Long> cartIds) {
+        if (cartIds.isEmpty()) {
+            return new CartPurgeResult(0, 0);
+        }
+        int items = cartItemRepository.deleteByCartIdIn(cartIds);
+        int carts = cartRepository.deleteGuestCartsByIdIn(cartIds);
+        return new CartPurgeResult(carts, items);
+    }
+
     /**
      * CartItem을 CartItemResponse로 변환
      */
     private CartItemResponse toCartItemResponse(CartItem item) {
-        ProductVariant variant = item.getVariant();
+        return toCartItemResponse(item.getId(), item.getVariant(), item.getQty());
+    }
+
+    private CartItemResponse toCartItemResponse(Long itemId, ProductVariant variant, int qty) {
         var product = variant.getProduct();
         
         // Primary 이미지 찾기
@@ -388,7 +695,7 @@ public class CartServiceImpl implements CartService {
                     .map(image -> {
                         String filePath = image.getFilePath();
                         return (filePath != null && !filePath.trim().isEmpty())
-                                ? fileStorageService.getFileUrl(filePath)
+                                ? fileStorageService.getRenditionUrl(filePath, ImageRendition.THUMBNAIL)
                                 : null;
                     })
                     .orElse(null);
@@ -400,9 +707,10 @@ public class CartServiceImpl implements CartService {
                 : product.getBasePrice();
         
         return CartItemResponse.builder()
-                .itemId(item.getId())
+                .itemId(itemId)
                 .variantId(variant.getId())
-                .qty(item.getQty())
+                .qty(qty)
+                .availableQty(variant.getAvailableQty())
                 .productId(product.getId())
                 .productName(product.getName())
                 .price(price)
@@ -414,20 +722,16 @@ public class CartServiceImpl implements CartService {
     /**
      * 장바구니 총계 계산
      */
-    private CartTotalsResponse calculateTotals(List<CartItem> items) {
+    private CartTotalsResponse calculateTotals(List<CartItemResponse> items) {
         int itemCount = items.size();
         int totalQty = items.stream()
-                .mapToInt(CartItem::getQty)
+                .mapToInt(CartItemResponse::getQty)
                 .sum();
         
-        // TODO: 전체 가격 합계 계산 (variant.price 또는 product.basePrice 사용)
+        // 라인 가격(variant.price 또는 product.basePrice)은 응답 변환 시 이미 결정됨
         BigDecimal totalPrice = BigDecimal.ZERO;
-        for (CartItem item : items) {
-            ProductVariant variant = item.getVariant();
-            BigDecimal itemPrice = variant.getPrice() != null 
-                    ? variant.getPrice() 
-                    : variant.getProduct().getBasePrice();
-            totalPrice = totalPrice.add(itemPrice.multiply(BigDecimal.valueOf(item.getQty())));
+        for (CartItemResponse item : items) {
+            totalPrice = totalPrice.add(item.getPrice().multiply(BigDecimal.valueOf(item.getQty())));
         }
         
         return CartTotalsResponse.builder()
@@ -438,7 +742,8 @@ public class CartServiceImpl implements CartService {
     }
 
 /**
- * 장바구니 조회 및 소유자 확인 (없으면 자동 생성)
+ * 회원 장바구니 조회 및 소유자 확인 (없으면 자동 생성)
+ * 게스트 장바구니는 GuestCartStore(Redis)에서 처리하므로 여기로 오지 않는다.
  * 
  * @param cartKey 장바구니 식별자
  * @return 장바구니 엔티티
@@ -463,19 +768,7 @@ private Cart getCartAndVerifyOwnership(CartKey cartKey) {
             throw new BusinessException(ErrorCode.SHOP_CART_ACCESS_DENIED);
         }
     } else {
-        cart = cartRepository.findByGuestToken(cartKey.getGuestToken())
-                .orElseGet(() -> {
-                    // 게스트 카트가 없으면 생성
-                    Cart newCart = Cart.builder()
-                            .guestToken(cartKey.getGuestToken())
-                            .build();
-                    return cartRepository.save(newCart);
-                });
-        
-        // 게스트 장바구니인지 확인
-        if (cart.getGuestToken() == null || !cart.getGuestToken().equals(cartKey.getGuestToken())) {
-            throw new BusinessException(ErrorCode.SHOP_CART_ACCESS_DENIED);
-        }
+        throw new BusinessException(ErrorCode.SHOP_CART_ACCESS_DENIED);
     }
     
     return cart;
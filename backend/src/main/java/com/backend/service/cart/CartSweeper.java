@@ -0,0 +1,133 @@
+package com.backend.service.cart;
+
+import com.backend.dto.cart.response.CartSweeperStatsResponse;
+import com.backend.util.RedisJobLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 방치된 게스트 장바구니 정리 작업.
+ *
+ * <p>신규 게스트 카트는 Redis TTL로 소멸하지만, DB(carts/cart_items)에 남은 게스트 카트는 만료되지 않으므로
+ * 보존 기간(shop.cart.sweeper.retention)이 지난 카트를 id keyset 순서의 청크 단위로 삭제한다.
+ * <ul>
+ *   <li>청크마다 짧은 독립 트랜잭션 → 장바구니 테이블 잠금을 오래 잡지 않음</li>
+ *   <li>Redis 락으로 클러스터 내 1개 노드만 실행, 락 TTL의 절반을 넘기면 다음 주기로 넘김</li>
+ *   <li>삭제 건수/청크 소요 시간은 {@link #stats()}로 조회</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class CartSweeper {
+
+    private static final String JOB_NAME = "cart-sweeper";
+
+    private final CartService cartService;
+    private final RedisJobLock redisJobLock;
+    private final Duration retention;
+    private final int chunkSize;
+    private final Duration lockTtl;
+
+    private final AtomicLong totalRuns = new AtomicLong();
+    private final AtomicLong totalCartsPurged = new AtomicLong();
+    private final AtomicLong totalItemsPurged = new AtomicLong();
+    private volatile CartSweeperStatsResponse lastRun;
+
+    public CartSweeper(CartService cartService,
+                       RedisJobLock redisJobLock,
+                       @Value("${shop.cart.sweeper.retention:P30D}") Duration retention,
+                       @Value("${shop.cart.sweeper.chunk-size:500}") int chunkSize,
+                       @Value("${shop.cart.sweeper.lock-ttl:PT30M}") Duration lockTtl) {
+        this.cartService = cartService;
+        this.redisJobLock = redisJobLock;
+        this.retention = retention;
+        this.chunkSize = chunkSize;
+        this.lockTtl = lockTtl;
+    }
+
+    @Scheduled(initialDelayString = "${shop.cart.sweeper.initial-delay:PT5M}",
+               fixedDelayString = "${shop.cart.sweeper.interval:PT1H}")
+    public void sweep() {
+        Optional<String> lockToken = redisJobLock.tryLock(JOB_NAME, lockTtl);
+        if (lockToken.isEmpty()) {
+            log.debug("Cart sweeper skipped: lock held by another node");
+            return;
+        }
+        try {
+            runOnce();
+        } finally {
+            redisJobLock.unlock(JOB_NAME, lockToken.get());
+        }
+    }
+
+    private void runOnce() {
+        Instant startedAt = Instant.now();
+        Instant cutoff = startedAt.minus(retention);
+        long deadline = System.currentTimeMillis() + lockTtl.toMillis() / 2;
+        long afterId = 0L;
+        int carts = 0;
+        int items = 0;
+        int chunks = 0;
+        long chunkMillisSum = 0L;
+        long chunkMillisMax = 0L;
+
+        while (System.currentTimeMillis() < deadline) {
+            List<Long> cartIds = cartService.findStaleGuestCartIds(afterId, cutoff, chunkSize);
+            if (cartIds.isEmpty()) {
+                break;
+            }
+            afterId = cartIds.get(cartIds.size() - 1);
+
+            long chunkStartedAt = System.currentTimeMillis();
+            try {
+                CartPurgeResult result = cartService.purgeGuestCarts(cartIds);
+                carts += result.carts();
+                items += result.items();
+            } catch (Exception e) {
+                // 한 청크 실패가 전체 정리를 막지 않도록 다음 청크 진행 (다음 주기에 재시도)
+                log.warn("Cart sweeper chunk failed: afterId={}, size={}: {}", afterId, cartIds.size(), e.getMessage(), e);
+            }
+            long chunkMillis = System.currentTimeMillis() - chunkStartedAt;
+            chunks++;
+            chunkMillisSum += chunkMillis;
+            chunkMillisMax = Math.max(chunkMillisMax, chunkMillis);
+        }
+
+        long elapsedMs = Duration.between(startedAt, Instant.now()).toMillis();
+        totalRuns.incrementAndGet();
+        totalCartsPurged.addAndGet(carts);
+        totalItemsPurged.addAndGet(items);
+        lastRun = CartSweeperStatsResponse.builder()
+                .lastRunAt(startedAt)
+                .lastRunCartsPurged(carts)
+                .lastRunItemsPurged(items)
+                .lastRunChunks(chunks)
+                .lastRunElapsedMs(elapsedMs)
+                .lastRunAvgChunkMs(chunks > 0 ? (double) chunkMillisSum / chunks : 0.0)
+                .lastRunMaxChunkMs(chunkMillisMax)
+                .build();
+
+        log.info("Cart sweeper finished: cutoff={}, carts={}, items={}, chunks={}, maxChunkMs={}, elapsedMs={}",
+                cutoff, carts, items, chunks, chunkMillisMax, elapsedMs);
+    }
+
+    public CartSweeperStatsResponse stats() {
+        CartSweeperStatsResponse last = lastRun;
+        CartSweeperStatsResponse.CartSweeperStatsResponseBuilder builder = last != null
+                ? last.toBuilder()
+                : CartSweeperStatsResponse.builder();
+        return builder
+                .totalRuns(totalRuns.get())
+                .totalCartsPurged(totalCartsPurged.get())
+                .totalItemsPurged(totalItemsPurged.get())
+                .build();
+    }
+}
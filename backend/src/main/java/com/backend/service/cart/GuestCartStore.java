@@ -0,0 +1,241 @@
+package com.backend.service.cart;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 게스트 장바구니 Redis 저장소.
+ *
+ * <p>게스트 카트는 carts/cart_items 테이블에 만들지 않고 Redis 해시 1개로 보관한다.
+ * <ul>
+ *   <li>키: {@code cart:guest:{guestToken}}, 필드: variantId, 값: 수량</li>
+ *   <li>버전: 같은 해시의 {@code _version} 필드, 변경마다 HINCRBY (ETag/응답 캐시 키)</li>
+ *   <li>TTL: 쓰기마다 연장 (shop.cart.guest-ttl), 만료되면 자연 소멸 → 빈 게스트 카트가 DB에 쌓이지 않음</li>
+ *   <li>수량 증가/일괄 변경 + 버전 증가 + TTL 연장은 Lua 스크립트 1회로 원자 처리
+ *       (동시 변경에서 수량 유실, 동시에 삭제된 라인의 재생성 방지)</li>
+ *   <li>DB 반영: 로그인 병합(mergeGuestCartToMemberCart) 시점에만 회원 카트로 옮긴다</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class GuestCartStore {
+
+    private static final String KEY_PREFIX = "cart:guest:";
+    private static final String VERSION_FIELD = "_version";
+
+    // ARGV: field, delta, maxQty, ttlSeconds → 증가 후 수량, maxQty 초과면 -(증가 시도 수량)으로 반환하고 변경하지 않음
+    private static final RedisScript<Long> ADD_QTY_SCRIPT = new DefaultRedisScript<>("""
+            local next = tonumber(redis.call('HGET', KEYS[1], ARGV[1]) or '0') + tonumber(ARGV[2])
+            if next > tonumber(ARGV[3]) then
+                return -next
+            end
+            redis.call('HSET', KEYS[1], ARGV[1], next)
+            redis.call('HINCRBY', KEYS[1], '_version', 1)
+            redis.call('EXPIRE', KEYS[1], ARGV[4])
+            return next
+            """, Long.class);
+
+    // ARGV: ttlSeconds, opCount, (type, field, qty, maxQty) * opCount
+    // → 모든 변경을 적용하면 'OK', 하나라도 실패하면 변경 없이 'NOT_FOUND:field' 또는 'OUT_OF_STOCK:field:qty:maxQty'
+    private static final RedisScript<String> APPLY_OPS_SCRIPT = new DefaultRedisScript<>("""
+            local lines = {}
+            local touched = {}
+            for i = 0, tonumber(ARGV[2]) - 1 do
+                local base = 3 + i * 4
+                local op, field = ARGV[base], ARGV[base + 1]
+                local qty, maxQty = tonumber(ARGV[base + 2]), tonumber(ARGV[base + 3])
+                if lines[field] == nil then
+                    lines[field] = tonumber(redis.call('HGET', KEYS[1], field) or '0')
+                end
+                local current = lines[field]
+                local next
+                if op == 'ADD' then
+                    next = current + qty
+                else
+                    if current <= 0 then
+                        return 'NOT_FOUND:' .. field
+                    end
+                    next = op == 'REMOVE' and 0 or qty
+                end
+                if next > maxQty then
+                    return 'OUT_OF_STOCK:' .. field .. ':' .. next .. ':' .. maxQty
+                end
+                lines[field] = next
+                touched[field] = true
+            end
+            for field in pairs(touched) do
+                if lines[field] > 0 then
+                    redis.call('HSET', KEYS[1], field, lines[field])
+                else
+                    redis.call('HDEL', KEYS[1], field)
+                end
+            end
+            redis.call('HINCRBY', KEYS[1], '_version', 1)
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return 'OK'
+            """, String.class);
+
+    // ARGV: ttlSeconds → 버전 +1, TTL 연장
+    private static final RedisScript<Long> TOUCH_SCRIPT = new DefaultRedisScript<>("""
+            local version = redis.call('HINCRBY', KEYS[1], '_version', 1)
+            redis.call('EXPIRE', KEYS[1], ARGV[1])
+            return version
+            """, Long.class);
+
+    // 스크립트 인자는 해시 값(JSON)이 아니라 평문 문자열로 전달
+    private static final RedisSerializer<String> ARGS_SERIALIZER = RedisSerializer.string();
+    private static final RedisSerializer<Long> RESULT_SERIALIZER = new GenericToStringSerializer<>(Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Duration ttl;
+
+    public GuestCartStore(RedisTemplate<String, Object> redisTemplate,
+                          @Value("${shop.cart.guest-ttl:P7D}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.ttl = ttl;
+    }
+
+    /**
+     * 게스트 카트 전체 조회 (variantId → 수량, 없으면 빈 맵)
+     */
+    public Map<Long, Integer> getItems(String guestToken) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(key(guestToken));
+        Map<Long, Integer> items = new LinkedHashMap<>();
+        for (Map.Entry<Object, Object> entry : entries.entrySet()) {
+            if (VERSION_FIELD.equals(entry.getKey())) {
+                continue;
+            }
+            items.put(Long.valueOf(entry.getKey().toString()), ((Number) entry.getValue()).intValue());
+        }
+        return items;
+    }
+
+    /**
+     * 장바구니 버전 조회 (변경 이력이 없으면 0)
+     */
+    public long getVersion(String guestToken) {
+        Object version = redisTemplate.opsForHash().get(key(guestToken), VERSION_FIELD);
+        return version != null ? ((Number) version).longValue() : 0L;
+    }
+
+    /**
+     * 수량 증가 (라인 추가) + 버전 증가 + TTL 연장을 원자적으로 수행.
+     *
+     * @param maxQty 증가 후 허용 최대 수량 (가용 재고)
+     * @return 증가 후 수량. maxQty를 넘으면 변경하지 않고 -(증가 시도 수량)을 반환
+     */
+    public int addQty(String guestToken, Long variantId, int delta, int maxQty) {
+        Long result = redisTemplate.execute(ADD_QTY_SCRIPT, ARGS_SERIALIZER, RESULT_SERIALIZER,
+                List.of(key(guestToken)),
+                variantId.toString(), Integer.toString(delta), Integer.toString(maxQty), Long.toString(ttl.toSeconds()));
+        return result != null ? result.intValue() : 0;
+    }
+
+    /**
+     * 라인 변경을 순서대로 원자 적용 (라인 변경/일괄 변경 API) + 버전 증가 + TTL 연장.
+     * 현재 라인 기준 검증(라인 존재, 변경 후 수량 ≤ maxQty)도 스크립트 안에서 하므로 그 사이 다른 요청의 변경이 끼어들지 않는다.
+     *
+     * @return 하나라도 실패하면 변경 없이 거절 사유, 모두 적용되면 empty
+     */
+    public Optional<OpRejection> applyOps(String guestToken, List<Op> ops) {
+        if (ops.isEmpty()) {
+            return Optional.empty();
+        }
+        List<String> args = new ArrayList<>(2 + ops.size() * 4);
+        args.add(Long.toString(ttl.toSeconds()));
+        args.add(Integer.toString(ops.size()));
+        for (Op op : ops) {
+            args.add(op.type().name());
+            args.add(op.variantId().toString());
+            args.add(Integer.toString(op.qty()));
+            args.add(Integer.toString(op.maxQty()));
+        }
+        String result = redisTemplate.execute(APPLY_OPS_SCRIPT, ARGS_SERIALIZER, ARGS_SERIALIZER,
+                List.of(key(guestToken)), args.toArray());
+        if (result == null || "OK".equals(result)) {
+            return Optional.empty();
+        }
+        String[] parts = result.split(":");
+        Long variantId = Long.valueOf(parts[1]);
+        return Optional.of("NOT_FOUND".equals(parts[0])
+                ? new OpRejection(variantId, true, 0, 0)
+                : new OpRejection(variantId, false, Integer.parseInt(parts[2]), Integer.parseInt(parts[3])));
+    }
+
+    /**
+     * 라인 제거
+     *
+     * @return 제거되었으면 true (라인이 없었으면 false)
+     */
+    public boolean remove(String guestToken, Long variantId) {
+        String key = key(guestToken);
+        Long removed = redisTemplate.opsForHash().delete(key, variantId.toString());
+        if (removed == null || removed == 0) {
+            return false;
+        }
+        touch(key);
+        return true;
+    }
+
+    /**
+     * 게스트 카트 비우기 (버전 필드는 유지하고 증가 → 이전 ETag와 충돌하지 않음)
+     */
+    public void clear(String guestToken) {
+        String key = key(guestToken);
+        Object[] itemFields = redisTemplate.opsForHash().keys(key).stream()
+                .filter(field -> !VERSION_FIELD.equals(field))
+                .toArray();
+        if (itemFields.length > 0) {
+            redisTemplate.opsForHash().delete(key, itemFields);
+        }
+        touch(key);
+    }
+
+    /**
+     * 게스트 카트 키 삭제 (회원 장바구니로 병합 완료, 게스트 토큰도 폐기됨)
+     */
+    public void delete(String guestToken) {
+        redisTemplate.delete(key(guestToken));
+    }
+
+    // 변경 반영: 버전 +1, TTL 연장 (한 스크립트로 원자 처리)
+    private void touch(String key) {
+        redisTemplate.execute(TOUCH_SCRIPT, ARGS_SERIALIZER, RESULT_SERIALIZER,
+                List.of(key), Long.toString(ttl.toSeconds()));
+    }
+
+    private static String key(String guestToken) {
+        return KEY_PREFIX + guestToken;
+    }
+
+    public enum OpType {
+        ADD,    // 수량 증가 (라인이 없으면 추가)
+        SET,    // 수량 변경, 라인이 있어야 함
+        REMOVE  // 라인 삭제, 라인이 있어야 함
+    }
+
+    /**
+     * @param maxQty 변경 후 허용 최대 수량 (가용 재고, REMOVE는 무시)
+     */
+    public record Op(OpType type, Long variantId, int qty, int maxQty) {
+    }
+
+    /**
+     * @param notFound true면 라인 없음, false면 변경 후 수량(qty)이 maxQty 초과
+     */
+    public record OpRejection(Long variantId, boolean notFound, int qty, int maxQty) {
+    }
+}
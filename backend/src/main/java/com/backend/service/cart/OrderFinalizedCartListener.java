@@ -0,0 +1,40 @@
+package com.backend.service.cart;
+
+import com.backend.domain.outbox.OutboxEvent;
+import com.backend.domain.outbox.OutboxEventType;
+import com.backend.service.outbox.OrderFinalizedPayload;
+import com.backend.service.outbox.OutboxEventListener;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * 결제 후처리 완료(ORDER_FINALIZED) 시 회원 장바구니 비우기. 다시 비워도 결과가 같아 재전달에 안전하다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderFinalizedCartListener implements OutboxEventListener {
+
+    private final CartService cartService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String consumerName() {
+        return "cart-clear";
+    }
+
+    @Override
+    public Set<OutboxEventType> eventTypes() {
+        return Set.of(OutboxEventType.ORDER_FINALIZED);
+    }
+
+    @Override
+    public void handle(OutboxEvent event) throws Exception {
+        OrderFinalizedPayload payload = objectMapper.readValue(event.getPayload(), OrderFinalizedPayload.class);
+        if (payload.memberId() != null) {
+            cartService.clearCart(CartKey.ofMember(payload.memberId()));
+        }
+    }
+}
@@ -3,14 +3,16 @@ package com.backend.service.file;
 import org.springframework.core.io.Resource;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.Instant;
+
 /**
  * 파일 저장소 서비스 인터페이스
  * 
  * <p>파일 업로드, 다운로드, 삭제 및 URL 생성 기능을 제공합니다.
  * 
- * <p>TODO (MVP 이후): 미연결 업로드 파일 청소 배치 작업
- * - 상품 이미지 업로드 후 일정 시간(예: 24시간) 내에 ProductImage에 연결되지 않은 파일 정리
- * - 주기적으로 실행되는 배치 작업으로 구현 예정
+ * <p>저장 파일은 참조 수로 관리합니다: 업로드 직후 0, ProductImage 등 참조가 연결되면 {@link #retain},
+ * 참조가 해제되면 {@link #delete}. 참조가 없는 파일은 보존 기간 후 {@link #purgeUnreferenced}로 정리합니다
+ * (업로드 후 연결되지 않은 파일 포함).
  */
 public interface FileStorageService {
     
@@ -32,11 +34,27 @@ public interface FileStorageService {
     Resource download(String filePath);
     
     /**
-     * 파일을 삭제합니다.
+     * 파일 참조를 1 늘립니다. 참조 행 저장과 같은 트랜잭션에서 호출합니다 (롤백되면 함께 취소).
+     *
+     * @param filePath 스토리지 키 (파일 경로)
+     */
+    void retain(String filePath);
+
+    /**
+     * 파일 참조를 1 줄입니다 (참조 행 삭제가 커밋된 뒤 호출).
+     * 참조가 남지 않은 파일은 바로 지우지 않고 보존 기간 후 정리 작업이 지웁니다.
+     * 참조 추적 기록이 없는 파일(추적 도입 전 업로드)은 바로 삭제합니다.
      * 
      * @param filePath 스토리지 키 (파일 경로)
      */
     void delete(String filePath);
+
+    /**
+     * prefix 아래에서 cutoff 이전부터 참조가 없는 파일(및 파생본)을 최대 limit개 삭제합니다.
+     *
+     * @return 삭제한 파일 수
+     */
+    int purgeUnreferenced(String prefix, Instant cutoff, int limit);
     
     /**
      * 스토리지 키를 기반으로 접근 가능한 URL을 생성합니다.
@@ -45,5 +63,15 @@ public interface FileStorageService {
      * @return 접근 가능한 URL
      */
     String getFileUrl(String filePath);
+
+    /**
+     * 이미지 파생본(썸네일 등) URL을 반환합니다.
+     * 파생본이 아직 없으면 생성을 요청하고 원본 URL을 반환합니다.
+     *
+     * @param filePath 원본 스토리지 키 (파일 경로)
+     * @param rendition 파생본 종류
+     * @return 파생본 URL, 없으면 원본 URL
+     */
+    String getRenditionUrl(String filePath, ImageRendition rendition);
 }
 
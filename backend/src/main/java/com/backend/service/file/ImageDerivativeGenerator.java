@@ -0,0 +1,156 @@
+package com.backend.service.file;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 업로드 이미지 파생본(썸네일/중간 크기) 생성기.
+ *
+ * <p>업로드 요청 스레드를 막지 않도록 전용 bounded executor(imageTaskExecutor)에서 ImageIO로 리사이즈한다.
+ * 생성 전에는 URL 조립 시 원본으로 폴백하므로, 큐가 가득 차 작업이 버려져도 기능상 문제는 없다
+ * (다음 조회 시 다시 요청됨).
+ *
+ * <ul>
+ *   <li>대상: JPEG/PNG (GIF/WEBP는 원본 그대로 사용)</li>
+ *   <li>축소만 수행, 원본이 더 작으면 원본 크기로 재인코딩</li>
+ *   <li>임시 파일에 쓴 뒤 원자적 이동 → 반쯤 쓰인 파생본이 노출되지 않음</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class ImageDerivativeGenerator {
+
+    private static final Set<String> SUPPORTED_EXTENSIONS = Set.of("jpg", "jpeg", "png");
+    // 디코딩 전 픽셀 수 상한 (압축 폭탄 방지)
+    private static final long MAX_SOURCE_PIXELS = 40_000_000L;
+
+    private final Executor imageTaskExecutor;
+    // 중복 요청 방지 (원본 절대경로)
+    private final Set<Path> inFlight = ConcurrentHashMap.newKeySet();
+
+    public ImageDerivativeGenerator(@Qualifier("imageTaskExecutor") Executor imageTaskExecutor) {
+        this.imageTaskExecutor = imageTaskExecutor;
+    }
+
+    public static boolean isSupported(String filePath) {
+        return SUPPORTED_EXTENSIONS.contains(extensionOf(filePath));
+    }
+
+    /**
+     * 파생본 생성을 비동기로 요청한다. 이미 진행 중이면 무시.
+     */
+    public void requestAsync(Path original) {
+        if (!isSupported(original.getFileName().toString()) || !inFlight.add(original)) {
+            return;
+        }
+        try {
+            imageTaskExecutor.execute(() -> {
+                try {
+                    generate(original);
+                } finally {
+                    inFlight.remove(original);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.remove(original);
+            log.warn("Image derivative queue full, serving original for now: {}", original.getFileName());
+        }
+    }
+
+    void generate(Path original) {
+        long startedAt = System.currentTimeMillis();
+        String format = "png".equals(extensionOf(original.getFileName().toString())) ? "png" : "jpg";
+        try {
+            BufferedImage source = read(original);
+            if (source == null) {
+                log.warn("Unreadable image, derivatives skipped: {}", original.getFileName());
+                return;
+            }
+            for (ImageRendition rendition : ImageRendition.values()) {
+                Path target = original.resolveSibling(rendition.derive(original.getFileName().toString()));
+                if (Files.exists(target)) {
+                    continue;
+                }
+                BufferedImage resized = resize(source, rendition.getMaxDimension(), "png".equals(format));
+                Path tmp = Files.createTempFile(original.getParent(), ".derivative-", "." + format);
+                try {
+                    ImageIO.write(resized, format, tmp.toFile());
+                    Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } finally {
+                    Files.deleteIfExists(tmp);
+                }
+            }
+            log.debug("Image derivatives generated: file={}, elapsedMs={}",
+                    original.getFileName(), System.currentTimeMillis() - startedAt);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Image derivative generation failed: file={}, msg={}", original.getFileName(), e.getMessage(), e);
+        }
+    }
+
+    private BufferedImage read(Path original) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(original.toFile())) {
+            if (in == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                long pixels = (long) reader.getWidth(0) * reader.getHeight(0);
+                if (pixels > MAX_SOURCE_PIXELS) {
+                    log.warn("Image too large for derivatives: file={}, pixels={}", original.getFileName(), pixels);
+                    return null;
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private BufferedImage resize(BufferedImage source, int maxDimension, boolean keepAlpha) {
+        int width = source.getWidth();
+        int height = source.getHeight();
+        double scale = Math.min(1.0, (double) maxDimension / Math.max(width, height));
+        int targetWidth = Math.max(1, (int) Math.round(width * scale));
+        int targetHeight = Math.max(1, (int) Math.round(height * scale));
+
+        BufferedImage target = new BufferedImage(targetWidth, targetHeight,
+                keepAlpha ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = target.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, targetWidth, targetHeight, null);
+        } finally {
+            g.dispose();
+        }
+        return target;
+    }
+
+    private static String extensionOf(String filename) {
+        int dot = filename.lastIndexOf('.');
+        return dot >= 0 ? filename.substring(dot + 1).toLowerCase(Locale.ROOT) : "";
+    }
+}
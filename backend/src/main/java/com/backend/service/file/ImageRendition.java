@@ -0,0 +1,40 @@
+package com.backend.service.file;
+
+/**
+ * 이미지 파생본(리사이즈) 종류.
+ * 원본 옆에 {@code {이름}.{suffix}.{확장자}}로 저장된다 (예: products/uuid.jpg → products/uuid.thumb.jpg).
+ */
+public enum ImageRendition {
+    /** 목록/장바구니 썸네일 (긴 변 기준) */
+    THUMBNAIL("thumb", 200),
+    /** 상세 화면 본문 이미지 */
+    MEDIUM("medium", 800);
+
+    private final String suffix;
+    private final int maxDimension;
+
+    ImageRendition(String suffix, int maxDimension) {
+        this.suffix = suffix;
+        this.maxDimension = maxDimension;
+    }
+
+    public String getSuffix() {
+        return suffix;
+    }
+
+    public int getMaxDimension() {
+        return maxDimension;
+    }
+
+    /**
+     * 원본 스토리지 키 → 파생본 스토리지 키
+     */
+    public String derive(String filePath) {
+        int slash = filePath.lastIndexOf('/');
+        int dot = filePath.lastIndexOf('.');
+        if (dot <= slash) {
+            return filePath + "." + suffix;
+        }
+        return filePath.substring(0, dot) + "." + suffix + filePath.substring(dot);
+    }
+}
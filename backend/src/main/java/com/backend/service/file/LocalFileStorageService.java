@@ -2,22 +2,40 @@ package com.backend.service.file;
 
 import com.backend.common.exception.BusinessException;
 import com.backend.common.exception.ErrorCode;
+import com.backend.repository.file.StoredBlobRepository;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
 
 /**
  * 로컬 파일 시스템 기반 파일 저장소 서비스
+ *
+ * <p>content-addressed 모드(file.storage.content-addressed=true)에서는 업로드 스트림을
+ * SHA-256으로 해시하면서 임시 파일에 쓰고, {@code 디렉토리/ab/cd/<sha256>.ext} 로 원자적 이동한다.
+ * 같은 내용은 파일 1개만 남긴다.
+ *
+ * <p>두 모드 모두 stored_blobs.ref_count로 활성 참조 수를 관리한다 (업로드 0, retain +1, delete -1).
+ * 실제 파일(및 파생본)은 참조가 0인 채로 보존 기간이 지난 뒤 {@link #purgeUnreferenced}가 지운다.
  */
 @Slf4j
 @Service
@@ -25,15 +43,41 @@ public class LocalFileStorageService implements FileStorageService {
 
     private final Path rootLocation;
     private final String baseUrl;
+    private final Path tempLocation;
+    private final ImageDerivativeGenerator imageDerivativeGenerator;
+    private final StoredBlobRepository storedBlobRepository;
+    private final boolean contentAddressed;
+
+    // 스토리지 키 단위 락 (참조 수 갱신 ↔ 파일 이동/삭제 사이 경합 방지, 단일 노드 로컬 저장소 기준)
+    private final Object[] keyLocks = new Object[64];
 
     public LocalFileStorageService(
             @Value("${file.storage.root-location:uploads}") String rootLocation,
-            @Value("${file.storage.base-url:http://localhost:8080/api/files/view}") String baseUrl) {
+            @Value("${file.storage.base-url:http://localhost:8080/api/files/view}") String baseUrl,
+            @Value("${file.storage.content-addressed:false}") boolean contentAddressed,
+            @Value("${file.storage.temp-location:}") String tempLocation,
+            ImageDerivativeGenerator imageDerivativeGenerator,
+            StoredBlobRepository storedBlobRepository) {
         this.rootLocation = Paths.get(rootLocation).toAbsolutePath().normalize();
+        // 업로드 중인 파일이 서빙되지 않도록 임시 디렉토리는 루트 밖에 두고,
+        // 원자적 이동이 가능하도록 기본값은 같은 파일 시스템일 가능성이 높은 형제 디렉토리(<root>.tmp)
+        this.tempLocation = tempLocation.isBlank()
+                ? this.rootLocation.resolveSibling(this.rootLocation.getFileName() + ".tmp")
+                : Paths.get(tempLocation).toAbsolutePath().normalize();
+        if (this.tempLocation.startsWith(this.rootLocation)) {
+            throw new IllegalStateException("file.storage.temp-location must be outside of root-location: " + this.tempLocation);
+        }
+        this.imageDerivativeGenerator = imageDerivativeGenerator;
+        this.storedBlobRepository = storedBlobRepository;
+        this.contentAddressed = contentAddressed;
         this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        for (int i = 0; i < keyLocks.length; i++) {
+            keyLocks[i] = new Object();
+        }
         
         try {
             Files.createDirectories(this.rootLocation);
+            Files.createDirectories(this.tempLocation);
             log.info("File storage initialized at: {}", this.rootLocation);
         } catch (IOException e) {
             throw new RuntimeException("Could not initialize file storage", e);
@@ -42,6 +86,9 @@ public class LocalFileStorageService implements FileStorageService {
 
     @Override
     public String upload(MultipartFile file, String directory) {
+        if (contentAddressed) {
+            return uploadContentAddressed(file, directory);
+        }
         try {
             // 파일명 생성: UUID + 원본 확장자
             String originalFilename = file.getOriginalFilename();
@@ -55,13 +102,25 @@ public class LocalFileStorageService implements FileStorageService {
             Path directoryPath = this.rootLocation.resolve(directory);
             Files.createDirectories(directoryPath);
             
-            // 파일 저장
+            // 파일 저장: 임시 파일에 다 쓴 뒤 이동 (쓰는 도중의 파일이 서빙되지 않도록)
             Path targetLocation = directoryPath.resolve(filename);
-            Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
+            Path temp = Files.createTempFile(tempLocation, "upload-", extension);
+            try {
+                try (InputStream in = file.getInputStream()) {
+                    Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+                }
+                moveAtomically(temp, targetLocation);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
             
-            // 스토리지 키 반환 (디렉토리/파일명)
+            // 스토리지 키 반환 (디렉토리/파일명), 참조 0으로 기록 (연결되지 않으면 정리 대상)
             String filePath = directory + "/" + filename;
+            storedBlobRepository.registerUpload(filePath, Files.size(targetLocation));
             log.info("File uploaded: {}", filePath);
+
+            // 썸네일/중간 크기 파생본은 비동기 생성 (완료 전에는 원본 URL로 폴백)
+            imageDerivativeGenerator.requestAsync(targetLocation);
             
             return filePath;
         } catch (IOException e) {
@@ -73,6 +132,63 @@ public class LocalFileStorageService implements FileStorageService {
         }
     }
 
+    private String uploadContentAddressed(MultipartFile file, String directory) {
+        Path temp = null;
+        try {
+            String extension = extractExtension(file.getOriginalFilename());
+
+            // 1) 스트리밍 해시 + 임시 파일 기록 (파일 전체를 메모리에 올리지 않음)
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            temp = Files.createTempFile(tempLocation, "upload-", extension);
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+                Files.copy(in, temp, StandardCopyOption.REPLACE_EXISTING);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+            long size = Files.size(temp);
+
+            // 2) 샤딩 경로: 디렉토리/ab/cd/<hash>.ext (디렉토리당 엔트리 수 제한)
+            String filePath = directory + "/" + hash.substring(0, 2) + "/" + hash.substring(2, 4) + "/" + hash + extension;
+            Path targetLocation = this.rootLocation.resolve(filePath).normalize();
+            if (!targetLocation.startsWith(this.rootLocation)) {
+                throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED);
+            }
+
+            // 3) 업로드 기록(참조는 연결 시점에 증가), 최초 업로드일 때만 파일 이동
+            boolean stored = false;
+            synchronized (lockFor(filePath)) {
+                storedBlobRepository.registerUpload(filePath, size);
+                if (!Files.exists(targetLocation)) {
+                    Files.createDirectories(targetLocation.getParent());
+                    moveAtomically(temp, targetLocation);
+                    stored = true;
+                }
+            }
+            log.info("File uploaded: {} (deduplicated={})", filePath, !stored);
+
+            // 썸네일/중간 크기 파생본은 비동기 생성 (중복 업로드면 이미 생성되어 있으므로 생략)
+            if (stored) {
+                imageDerivativeGenerator.requestAsync(targetLocation);
+            }
+            return filePath;
+        } catch (BusinessException e) {
+            throw e;
+        } catch (IOException | NoSuchAlgorithmException e) {
+            log.error("File upload failed: directory={}, filename={}", directory, file.getOriginalFilename(), e);
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, e);
+        } catch (Exception e) {
+            log.error("Unexpected error during file upload: directory={}, filename={}", directory, file.getOriginalFilename(), e);
+            throw new BusinessException(ErrorCode.FILE_UPLOAD_FAILED, e);
+        } finally {
+            if (temp != null) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException e) {
+                    log.warn("Temp upload file cleanup failed: {}", temp, e);
+                }
+            }
+        }
+    }
+
     @Override
     public Resource download(String filePath) {
         try {
@@ -93,22 +209,80 @@ public class LocalFileStorageService implements FileStorageService {
         }
     }
 
+    @Override
+    public void retain(String filePath) {
+        Path file = resolveInRoot(filePath);
+        synchronized (lockFor(filePath)) {
+            // 파일이 없어도 참조는 기록 (같은 내용을 다시 업로드하면 같은 키로 복구됨)
+            long size = 0L;
+            try {
+                size = Files.size(file);
+            } catch (IOException e) {
+                log.warn("Retained file is missing: {}", filePath);
+            }
+            storedBlobRepository.incrementRefCount(filePath, size);
+        }
+    }
+
     @Override
     public void delete(String filePath) {
         try {
-            Path file = this.rootLocation.resolve(filePath).normalize();
-            
-            if (!file.startsWith(this.rootLocation)) {
-                throw new RuntimeException("Cannot delete file outside storage directory");
+            Path file = resolveInRoot(filePath);
+            synchronized (lockFor(filePath)) {
+                if (storedBlobRepository.decrementRefCount(filePath) > 0) {
+                    log.info("File reference released: {}", filePath);
+                    return;
+                }
+                if (storedBlobRepository.existsById(filePath)) {
+                    // 이미 참조가 0인 추적 파일: 보존 기간 후 정리 작업이 지움
+                    log.warn("File reference release ignored: no references left: {}", filePath);
+                    return;
+                }
+                // 추적 기록이 없는 파일 (참조 추적 도입 전 업로드)
+                deleteWithRenditions(file, filePath);
             }
-            
-            Files.deleteIfExists(file);
-            log.info("File deleted: {}", filePath);
         } catch (IOException e) {
             throw new RuntimeException("Could not delete file: " + filePath, e);
         }
     }
 
+    @Override
+    public int purgeUnreferenced(String prefix, Instant cutoff, int limit) {
+        List<String> keys = storedBlobRepository.findUnreferencedKeys(prefix, cutoff, PageRequest.of(0, limit));
+        int purged = 0;
+        for (String storageKey : keys) {
+            synchronized (lockFor(storageKey)) {
+                // 조회 이후 다시 업로드/연결된 파일은 조건부 DELETE에서 제외
+                if (storedBlobRepository.deleteIfUnreferenced(storageKey, cutoff) == 0) {
+                    continue;
+                }
+                try {
+                    deleteWithRenditions(resolveInRoot(storageKey), storageKey);
+                    purged++;
+                } catch (IOException | RuntimeException e) {
+                    log.warn("Unreferenced file purge failed: {}: {}", storageKey, e.getMessage());
+                }
+            }
+        }
+        return purged;
+    }
+
+    private Path resolveInRoot(String filePath) {
+        Path file = this.rootLocation.resolve(filePath).normalize();
+        if (!file.startsWith(this.rootLocation)) {
+            throw new RuntimeException("Cannot access file outside storage directory");
+        }
+        return file;
+    }
+
+    private void deleteWithRenditions(Path file, String filePath) throws IOException {
+        Files.deleteIfExists(file);
+        for (ImageRendition rendition : ImageRendition.values()) {
+            Files.deleteIfExists(this.rootLocation.resolve(rendition.derive(filePath)).normalize());
+        }
+        log.info("File deleted: {}", filePath);
+    }
+
     @Override
     public String getFileUrl(String filePath) {
         if (filePath == null || filePath.trim().isEmpty()) {
@@ -117,5 +291,45 @@ public class LocalFileStorageService implements FileStorageService {
         // URL 인코딩은 필요시 추가
         return baseUrl + "/" + filePath;
     }
-}
 
+    @Override
+    public String getRenditionUrl(String filePath, ImageRendition rendition) {
+        if (filePath == null || filePath.trim().isEmpty()) {
+            return null;
+        }
+        if (!ImageDerivativeGenerator.isSupported(filePath)) {
+            return getFileUrl(filePath);
+        }
+        String derivedPath = rendition.derive(filePath);
+        Path derived = this.rootLocation.resolve(derivedPath).normalize();
+        if (derived.startsWith(this.rootLocation) && Files.exists(derived)) {
+            return getFileUrl(derivedPath);
+        }
+        // 파생본 미생성(업로드 직후 또는 기존 파일) → 생성 요청 후 원본으로 폴백
+        Path original = this.rootLocation.resolve(filePath).normalize();
+        if (original.startsWith(this.rootLocation) && Files.exists(original)) {
+            imageDerivativeGenerator.requestAsync(original);
+        }
+        return getFileUrl(filePath);
+    }
+
+    private Object lockFor(String storageKey) {
+        return keyLocks[Math.floorMod(storageKey.hashCode(), keyLocks.length)];
+    }
+
+    private static String extractExtension(String originalFilename) {
+        if (originalFilename == null || !originalFilename.contains(".")) {
+            return "";
+        }
+        // 같은 내용이 확장자 대소문자만 달라 별도 저장되지 않도록 소문자로 통일
+        return originalFilename.substring(originalFilename.lastIndexOf(".")).toLowerCase(Locale.ROOT);
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.backend.service.file;
+
+import com.backend.repository.file.StoredBlobRepository;
+import com.backend.service.migration.DataMigrationRunner;
+import com.backend.util.RedisJobLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * 참조가 없는 상품 이미지 파일 정리 작업.
+ *
+ * <p>업로드 후 상품에 연결되지 않았거나 마지막 참조가 해제된 파일(stored_blobs.ref_count = 0)을
+ * 보존 기간(file.storage.sweeper.retention)이 지난 뒤 지운다. 보존 기간 동안은 같은 파일을 다시 연결할 수 있다.
+ * <ul>
+ *   <li>Redis 락으로 클러스터 내 1개 노드만 실행, 락 TTL의 절반을 넘기면 다음 주기로 넘김</li>
+ *   <li>기동 시 1회, 업로드 횟수 기준이던 기존 참조 수를 활성 이미지 행 수로 보정</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class StoredBlobSweeper {
+
+    private static final String JOB_NAME = "stored-blob-sweeper";
+    private static final String PRODUCT_IMAGE_PREFIX = "products/";
+
+    private final FileStorageService fileStorageService;
+    private final StoredBlobRepository storedBlobRepository;
+    private final DataMigrationRunner dataMigrationRunner;
+    private final RedisJobLock redisJobLock;
+    private final Duration retention;
+    private final int chunkSize;
+    private final Duration lockTtl;
+
+    public StoredBlobSweeper(FileStorageService fileStorageService,
+                             StoredBlobRepository storedBlobRepository,
+                             DataMigrationRunner dataMigrationRunner,
+                             RedisJobLock redisJobLock,
+                             @Value("${file.storage.sweeper.retention:P1D}") Duration retention,
+                             @Value("${file.storage.sweeper.chunk-size:500}") int chunkSize,
+                             @Value("${file.storage.sweeper.lock-ttl:PT30M}") Duration lockTtl) {
+        this.fileStorageService = fileStorageService;
+        this.storedBlobRepository = storedBlobRepository;
+        this.dataMigrationRunner = dataMigrationRunner;
+        this.redisJobLock = redisJobLock;
+        this.retention = retention;
+        this.chunkSize = chunkSize;
+        this.lockTtl = lockTtl;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void recountReferences() {
+        dataMigrationRunner.runOnce("stored_blobs.ref_count", () -> {
+            int counted = storedBlobRepository.recountImageReferences();
+            int cleared = storedBlobRepository.clearOrphanReferences();
+            log.info("Stored blob references recounted: counted={}, cleared={}", counted, cleared);
+        });
+    }
+
+    @Scheduled(initialDelayString = "${file.storage.sweeper.initial-delay:PT10M}",
+               fixedDelayString = "${file.storage.sweeper.interval:PT1H}")
+    public void sweep() {
+        Optional<String> lockToken = redisJobLock.tryLock(JOB_NAME, lockTtl);
+        if (lockToken.isEmpty()) {
+            log.debug("Stored blob sweeper skipped: lock held by another node");
+            return;
+        }
+        try {
+            runOnce();
+        } finally {
+            redisJobLock.unlock(JOB_NAME, lockToken.get());
+        }
+    }
+
+    private void runOnce() {
+        Instant startedAt = Instant.now();
+        Instant cutoff = startedAt.minus(retention);
+        long deadline = System.currentTimeMillis() + lockTtl.toMillis() / 2;
+        int purged = 0;
+
+        while (System.currentTimeMillis() < deadline) {
+            int chunk = fileStorageService.purgeUnreferenced(PRODUCT_IMAGE_PREFIX, cutoff, chunkSize);
+            purged += chunk;
+            // 더 지울 파일이 없으면 종료
+            if (chunk == 0) {
+                break;
+            }
+        }
+
+        log.info("Stored blob sweeper finished: cutoff={}, purged={}, elapsedMs={}",
+                cutoff, purged, Duration.between(startedAt, Instant.now()).toMillis());
+    }
+}
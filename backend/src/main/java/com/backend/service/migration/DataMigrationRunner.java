@@ -0,0 +1,68 @@
+package com.backend.service.migration;
+
+import com.backend.domain.migration.DataMigration;
+import com.backend.repository.migration.DataMigrationRepository;
+import com.backend.util.RedisJobLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 1회성 데이터 마이그레이션 실행기.
+ *
+ * <p>이름별로 data_migrations에 기록이 없을 때만 실행하고, 끝나면 기록을 남긴다.
+ * <ul>
+ *   <li>Redis 락으로 클러스터 내 1개 노드만 실행, 다른 노드는 기다리지 않고 건너뜀</li>
+ *   <li>실패하면 기록하지 않으므로 다음 기동 때 다시 실행된다 → 작업은 여러 번 실행돼도 결과가 같아야 함</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class DataMigrationRunner {
+
+    private static final String JOB_PREFIX = "data-migration:";
+
+    private final DataMigrationRepository dataMigrationRepository;
+    private final RedisJobLock redisJobLock;
+    private final Duration lockTtl;
+
+    public DataMigrationRunner(DataMigrationRepository dataMigrationRepository,
+                               RedisJobLock redisJobLock,
+                               @Value("${data-migration.lock-ttl:PT1H}") Duration lockTtl) {
+        this.dataMigrationRepository = dataMigrationRepository;
+        this.redisJobLock = redisJobLock;
+        this.lockTtl = lockTtl;
+    }
+
+    /**
+     * @return 이번에 실행해 완료했으면 true
+     */
+    public boolean runOnce(String name, Runnable migration) {
+        if (dataMigrationRepository.existsById(name)) {
+            return false;
+        }
+        Optional<String> lockToken = redisJobLock.tryLock(JOB_PREFIX + name, lockTtl);
+        if (lockToken.isEmpty()) {
+            log.info("Data migration skipped: running on another node: name={}", name);
+            return false;
+        }
+        try {
+            if (dataMigrationRepository.existsById(name)) {
+                return false;
+            }
+            long startedAt = System.currentTimeMillis();
+            migration.run();
+            dataMigrationRepository.save(new DataMigration(name));
+            log.info("Data migration applied: name={}, elapsedMs={}", name, System.currentTimeMillis() - startedAt);
+            return true;
+        } catch (Exception e) {
+            log.error("Data migration failed, will retry on next startup: name={}", name, e);
+            return false;
+        } finally {
+            redisJobLock.unlock(JOB_PREFIX + name, lockToken.get());
+        }
+    }
+}
@@ -24,6 +24,7 @@ import com.backend.repository.member.MemberRepository;
 import com.backend.repository.order.OrderItemSummaryProjection;
 import com.backend.repository.order.OrderRepository;
 import com.backend.repository.order.OrderSummaryBaseProjection;
+import com.backend.service.shop.StockReservationService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -50,6 +51,7 @@ public class OrderServiceImpl implements OrderService {
     private final CartRepository cartRepository;
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
+    private final StockReservationService stockReservationService;
 
     @Override
     @Transactional
@@ -74,8 +76,8 @@ public class OrderServiceImpl implements OrderService {
             if (!variant.isActive()) {
                 throw new BusinessException(ErrorCode.SHOP_VARIANT_INACTIVE, variant.getId());
             }
-            if (variant.getStockQty() < cartItem.getQty()) {
-                throw new BusinessException(ErrorCode.SHOP_VARIANT_OUT_OF_STOCK, cartItem.getQty(), variant.getStockQty());
+            if (variant.getAvailableQty() < cartItem.getQty()) {
+                throw new BusinessException(ErrorCode.SHOP_VARIANT_OUT_OF_STOCK, cartItem.getQty(), variant.getAvailableQty());
             }
             BigDecimal unitPrice = variant.resolvePrice();
             totalItemAmount = totalItemAmount.add(unitPrice.multiply(BigDecimal.valueOf(cartItem.getQty())));
@@ -131,6 +133,8 @@ public class OrderServiceImpl implements OrderService {
         order.setShipToSnapshot(shipToSnapshot);
 
         order = orderRepository.save(order);
+        // 결제 대기 동안 재고 홀드 (부족하면 주문 생성 전체 롤백, 미결제 시 만료 후 해제)
+        stockReservationService.reserveForOrder(order);
 
         return OrderCreateFromCartResponse.builder()
                 .orderNo(order.getOrderNo())
@@ -0,0 +1,12 @@
+package com.backend.service.outbox;
+
+import java.util.Map;
+
+/**
+ * ORDER_FINALIZED 이벤트 본문
+ *
+ * @param memberId           비회원 주문이면 null
+ * @param soldQtyByProductId 상품 ID별 판매 수량 (ORDERED 라인만)
+ */
+public record OrderFinalizedPayload(String orderNo, Long memberId, Map<Long, Integer> soldQtyByProductId) {
+}
@@ -0,0 +1,12 @@
+package com.backend.service.outbox;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * ORDER_PAID 이벤트 본문
+ *
+ * @param memberId 비회원 주문이면 null
+ */
+public record OrderPaidPayload(String orderNo, Long memberId, BigDecimal amount, Instant paidAt) {
+}
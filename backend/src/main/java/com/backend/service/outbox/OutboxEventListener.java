@@ -0,0 +1,28 @@
+package com.backend.service.outbox;
+
+import com.backend.domain.outbox.OutboxEvent;
+import com.backend.domain.outbox.OutboxEventType;
+
+import java.util.Set;
+
+/**
+ * 아웃박스 이벤트 인프로세스 소비자. 빈으로 등록하면 OutboxRelay가 자동으로 전달한다.
+ *
+ * <p>{@link #handle(OutboxEvent)}은 오프셋 전진과 같은 트랜잭션에서 실행된다.
+ * DB만 바꾸는 소비자는 사실상 1회 반영이 되고, 외부 호출(메일/알림 등)은 커밋 전 장애 시 재전달될 수 있으므로
+ * (at-least-once) 멱등하게 구현한다.
+ */
+public interface OutboxEventListener {
+
+    /**
+     * 오프셋 키. 바꾸면 새 소비자로 취급되어 그 시점 이후 이벤트부터 받는다.
+     */
+    String consumerName();
+
+    /**
+     * 받을 이벤트 종류. 그 외 이벤트는 전달 없이 오프셋만 전진한다.
+     */
+    Set<OutboxEventType> eventTypes();
+
+    void handle(OutboxEvent event) throws Exception;
+}
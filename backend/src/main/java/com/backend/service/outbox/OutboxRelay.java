@@ -0,0 +1,218 @@
+package com.backend.service.outbox;
+
+import com.backend.domain.outbox.OutboxEvent;
+import com.backend.util.RedisJobLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 아웃박스 이벤트 전달 작업.
+ *
+ * <p>등록된 {@link OutboxEventListener}마다 오프셋 이후 이벤트를 배치로 읽어 id 순서대로 전달한다.
+ * 소비자끼리는 스레드 풀에서 병렬로, 한 소비자 안에서는 순서대로 처리하며 이벤트마다 처리와 오프셋 전진을 한 트랜잭션으로 커밋한다.
+ * 실패한 이벤트는 소비자 오프셋 행에 기록한 지수 백오프 시각 이후 같은 소비자에게 다시 전달되고(at-least-once),
+ * max-attempts에 도달하면 outbox_dead_letters에 남기고 건너뛴다 ({@link OutboxService#recordFailure}).
+ * IDENTITY id는 커밋 순서와 다를 수 있어, 오프셋 다음 번호가 비어 있으면(앞 번호 트랜잭션이 아직 커밋 전) 그 앞에서 멈추고
+ * gap-timeout 동안 기다린다. 그래도 채워지지 않으면 롤백된 번호로 보고 경고 로그와 함께 넘어간다.
+ * (id는 1씩 증가한다고 가정한다: auto_increment_increment = 1)
+ * 오프셋이 어긋나지 않도록 Redis 락으로 클러스터 내 1개 노드만 실행한다.
+ */
+@Slf4j
+@Component
+public class OutboxRelay implements DisposableBean {
+
+    private static final String JOB_NAME = "outbox-relay";
+    private static final int PURGE_CHUNK_SIZE = 1000;
+
+    private final List<OutboxEventListener> listeners;
+    private final OutboxService outboxService;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisJobLock redisJobLock;
+    private final ExecutorService relayPool;
+    private final int batchSize;
+    private final Duration lockTtl;
+    private final Duration gapTimeout;
+
+    // 소비자별 대기 중인 빈 id (빈 번호, 처음 발견한 시각 ms)
+    private final Map<String, long[]> gaps = new ConcurrentHashMap<>();
+
+    public OutboxRelay(List<OutboxEventListener> listeners,
+                       OutboxService outboxService,
+                       TransactionTemplate transactionTemplate,
+                       RedisJobLock redisJobLock,
+                       @Value("${shop.outbox.relay.threads:4}") int threads,
+                       @Value("${shop.outbox.relay.batch-size:200}") int batchSize,
+                       @Value("${shop.outbox.relay.lock-ttl:PT1M}") Duration lockTtl,
+                       @Value("${shop.outbox.relay.gap-timeout:PT1M}") Duration gapTimeout) {
+        this.listeners = listeners;
+        this.outboxService = outboxService;
+        this.transactionTemplate = transactionTemplate;
+        this.redisJobLock = redisJobLock;
+        this.batchSize = batchSize;
+        this.lockTtl = lockTtl;
+        this.gapTimeout = gapTimeout;
+        AtomicInteger threadSeq = new AtomicInteger();
+        this.relayPool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "outbox-relay-" + threadSeq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${shop.outbox.relay.poll-interval:PT1S}")
+    public void relay() {
+        if (listeners.isEmpty()) {
+            return;
+        }
+        Optional<String> lockToken = redisJobLock.tryLock(JOB_NAME, lockTtl);
+        if (lockToken.isEmpty()) {
+            return;
+        }
+        try {
+            long deadline = System.currentTimeMillis() + lockTtl.toMillis() / 2;
+            List<Future<?>> futures = new ArrayList<>(listeners.size());
+            for (OutboxEventListener listener : listeners) {
+                futures.add(relayPool.submit(() -> drain(listener, deadline)));
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (ExecutionException e) {
+                    log.warn("Outbox relay worker error: {}", e.getCause().getMessage(), e.getCause());
+                }
+            }
+        } finally {
+            redisJobLock.unlock(JOB_NAME, lockToken.get());
+        }
+    }
+
+    @Scheduled(initialDelayString = "${shop.outbox.purge-interval:PT1H}",
+               fixedDelayString = "${shop.outbox.purge-interval:PT1H}")
+    public void purge() {
+        List<String> consumers = listeners.stream().map(OutboxEventListener::consumerName).toList();
+        int purged = 0;
+        int count;
+        do {
+            count = outboxService.purgeDelivered(consumers, PURGE_CHUNK_SIZE);
+            purged += count;
+        } while (count == PURGE_CHUNK_SIZE);
+        if (purged > 0) {
+            log.info("Delivered outbox events purged: count={}", purged);
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        relayPool.shutdown();
+        if (!relayPool.awaitTermination(10, TimeUnit.SECONDS)) {
+            relayPool.shutdownNow();
+        }
+    }
+
+    /**
+     * 한 소비자의 오프셋 이후 이벤트를 배치로 전달. 실패하거나 빈 id를 만나면 이번 주기는 멈추고 다음 주기에 이어서 처리한다.
+     */
+    private void drain(OutboxEventListener listener, long deadline) {
+        String consumer = listener.consumerName();
+        long offset = outboxService.getOrInitOffset(consumer);
+        if (outboxService.isRetryPending(consumer)) {
+            return;
+        }
+        while (System.currentTimeMillis() < deadline) {
+            List<OutboxEvent> events = outboxService.findDeliverable(offset, batchSize);
+            if (events.isEmpty()) {
+                return;
+            }
+            long skippedUpTo = offset;
+            boolean waitingForGap = false;
+            for (OutboxEvent event : events) {
+                // 직전 처리 번호 바로 다음이 아니면 앞 번호가 아직 커밋 전일 수 있으므로 대기
+                if (event.getId() > skippedUpTo + 1 && !gapExpired(consumer, skippedUpTo + 1, event.getId())) {
+                    waitingForGap = true;
+                    break;
+                }
+                if (!listener.eventTypes().contains(event.getEventType())) {
+                    skippedUpTo = event.getId();
+                    continue;
+                }
+                // 앞서 건너뛴 이벤트까지 포함해 오프셋을 이 이벤트로 전진
+                if (!deliver(listener, event)) {
+                    if (skippedUpTo > offset) {
+                        outboxService.advanceOffset(consumer, skippedUpTo);
+                    }
+                    return;
+                }
+                offset = event.getId();
+                skippedUpTo = offset;
+            }
+            if (skippedUpTo > offset) {
+                outboxService.advanceOffset(consumer, skippedUpTo);
+                offset = skippedUpTo;
+            }
+            if (waitingForGap || events.size() < batchSize) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 빈 id 구간 [missingFrom, nextId)을 gap-timeout 넘게 기다렸는지. 처음 보는 구간이면 대기를 시작한다.
+     *
+     * @return true면 롤백 등으로 영영 채워지지 않는 번호로 보고 건너뛴다
+     */
+    private boolean gapExpired(String consumer, long missingFrom, long nextId) {
+        long now = System.currentTimeMillis();
+        long[] gap = gaps.compute(consumer, (k, prev) ->
+                prev != null && prev[0] == missingFrom ? prev : new long[]{missingFrom, now});
+        if (now - gap[1] < gapTimeout.toMillis()) {
+            return false;
+        }
+        gaps.remove(consumer);
+        log.warn("Outbox id gap skipped after {}. consumer={}, missingIds=[{}, {})",
+                gapTimeout, consumer, missingFrom, nextId);
+        return true;
+    }
+
+    /**
+     * @return 전달(또는 최대 시도 도달로 데드레터 기록)되어 오프셋이 전진했으면 true
+     */
+    private boolean deliver(OutboxEventListener listener, OutboxEvent event) {
+        String consumer = listener.consumerName();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                try {
+                    listener.handle(event);
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+                outboxService.advanceOffset(consumer, event.getId());
+            });
+            return true;
+        } catch (Exception e) {
+            log.debug("Outbox event handler error. consumer={}, eventId={}", consumer, event.getId(), e);
+            return outboxService.recordFailure(consumer, event, e.getClass().getSimpleName() + ": " + e.getMessage());
+        }
+    }
+}
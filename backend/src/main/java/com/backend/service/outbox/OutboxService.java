@@ -0,0 +1,59 @@
+package com.backend.service.outbox;
+
+import com.backend.domain.outbox.OutboxEvent;
+import com.backend.domain.outbox.OutboxEventType;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxService {
+
+    /**
+     * 이벤트 기록. 상태 변경과 같은 트랜잭션에서 호출해야 한다 (트랜잭션 밖이면 예외).
+     *
+     * @param payload JSON으로 직렬화할 본문
+     */
+    void publish(OutboxEventType eventType, String aggregateId, Object payload);
+
+    /**
+     * 소비자 오프셋 조회. 처음 보는 소비자는 gap-timeout 이전에 생성된 마지막 이벤트 id로 시작한다
+     * (오래된 이벤트 재생은 막고, 아직 커밋 중일 수 있는 최근 이벤트는 놓치지 않음).
+     */
+    long getOrInitOffset(String consumer);
+
+    /**
+     * 소비자 오프셋 행을 잠그고 현재 값을 반환한다 (없으면 생성). 호출자 트랜잭션이 끝날 때까지 해당 소비자의 전달이 멈추므로,
+     * 소비자 처리 결과를 재계산하는 작업이 전달과 겹치지 않게 할 때 사용한다.
+     */
+    long lockOffset(String consumer);
+
+    /**
+     * 오프셋 이후 커밋된 이벤트 (id 순, 중간에 빈 번호가 있을 수 있음)
+     */
+    List<OutboxEvent> findDeliverable(long afterId, int limit);
+
+    /**
+     * 오프셋 전진. 호출자 트랜잭션에 참여한다 (소비자 처리와 함께 커밋).
+     */
+    void advanceOffset(String consumer, long eventId);
+
+    /**
+     * 소비자가 처리 실패 후 백오프 중인지 (next_attempt_at 이전이면 전달을 건너뛴다)
+     */
+    boolean isRetryPending(String consumer);
+
+    /**
+     * 소비자의 이벤트 처리 실패 기록. 지수 백오프로 다음 전달 시각을 미루고,
+     * 최대 시도 횟수에 도달하면 outbox_dead_letters에 기록하고 오프셋을 이 이벤트로 전진한다 (한 트랜잭션).
+     *
+     * @return 데드레터로 넘겨 오프셋이 전진했으면 true
+     */
+    boolean recordFailure(String consumer, OutboxEvent event, String error);
+
+    /**
+     * 주어진 소비자 모두에게 전달되고 보관 기간이 지난 이벤트 삭제
+     *
+     * @return 삭제한 행 수
+     */
+    int purgeDelivered(Collection<String> consumers, int limit);
+}
@@ -0,0 +1,154 @@
+package com.backend.service.outbox;
+
+import com.backend.domain.outbox.OutboxConsumerOffset;
+import com.backend.domain.outbox.OutboxDeadLetter;
+import com.backend.domain.outbox.OutboxEvent;
+import com.backend.domain.outbox.OutboxEventType;
+import com.backend.repository.outbox.OutboxConsumerOffsetRepository;
+import com.backend.repository.outbox.OutboxDeadLetterRepository;
+import com.backend.repository.outbox.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class OutboxServiceImpl implements OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxConsumerOffsetRepository outboxConsumerOffsetRepository;
+    private final OutboxDeadLetterRepository outboxDeadLetterRepository;
+    private final ObjectMapper objectMapper;
+
+    /** 빈 id를 미커밋 트랜잭션으로 보고 기다리는 최대 시간 (OutboxRelay와 같은 값) */
+    @Value("${shop.outbox.relay.gap-timeout:PT1M}")
+    private Duration gapTimeout;
+
+    @Value("${shop.outbox.retention:P3D}")
+    private Duration retention;
+
+    @Value("${shop.outbox.relay.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${shop.outbox.relay.retry-base-delay:PT1S}")
+    private Duration retryBaseDelay;
+
+    @Value("${shop.outbox.relay.retry-max-delay:PT5M}")
+    private Duration retryMaxDelay;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(OutboxEventType eventType, String aggregateId, Object payload) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Outbox payload serialization failed: " + eventType, e);
+        }
+        outboxEventRepository.save(OutboxEvent.builder()
+                .eventType(eventType)
+                .aggregateId(aggregateId)
+                .payload(json)
+                .build());
+    }
+
+    @Override
+    @Transactional
+    public long getOrInitOffset(String consumer) {
+        // 현재 최대 id에서 시작하면 그보다 앞 번호로 아직 커밋 중인 이벤트를 놓치므로,
+        // gap-timeout 이전 이벤트까지만 건너뛰고 이후는 릴레이의 빈 번호 대기 규칙으로 전달한다
+        return outboxConsumerOffsetRepository.findById(consumer)
+                .orElseGet(() -> outboxConsumerOffsetRepository.save(new OutboxConsumerOffset(consumer,
+                        outboxEventRepository.findMaxIdCreatedBefore(Instant.now().minus(gapTimeout)))))
+                .getLastEventId();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public long lockOffset(String consumer) {
+        getOrInitOffset(consumer);
+        return outboxConsumerOffsetRepository.findByIdForUpdate(consumer)
+                .orElseThrow(() -> new IllegalStateException("Outbox consumer offset not found: " + consumer))
+                .getLastEventId();
+    }
+
+    @Override
+    public List<OutboxEvent> findDeliverable(long afterId, int limit) {
+        return outboxEventRepository.findAfter(afterId, PageRequest.of(0, limit));
+    }
+
+    @Override
+    @Transactional
+    public void advanceOffset(String consumer, long eventId) {
+        outboxConsumerOffsetRepository.advance(consumer, eventId, Instant.now());
+    }
+
+    @Override
+    public boolean isRetryPending(String consumer) {
+        return outboxConsumerOffsetRepository.findById(consumer)
+                .map(OutboxConsumerOffset::getNextAttemptAt)
+                .filter(nextAttemptAt -> nextAttemptAt.isAfter(Instant.now()))
+                .isPresent();
+    }
+
+    @Override
+    @Transactional
+    public boolean recordFailure(String consumer, OutboxEvent event, String error) {
+        OutboxConsumerOffset offset = outboxConsumerOffsetRepository.findByIdForUpdate(consumer)
+                .orElseThrow(() -> new IllegalStateException("Outbox consumer offset not found: " + consumer));
+        if (offset.getLastEventId() >= event.getId()) {
+            return true;
+        }
+        Instant now = Instant.now();
+        // 지수 백오프: base * 2^(attempt-1), 상한 retryMaxDelay
+        int attempt = Objects.equals(offset.getFailedEventId(), event.getId()) ? offset.getAttempts() + 1 : 1;
+        Duration delay = retryBaseDelay.multipliedBy(1L << Math.min(attempt - 1, 20));
+        if (delay.compareTo(retryMaxDelay) > 0) {
+            delay = retryMaxDelay;
+        }
+        offset.recordFailure(event.getId(), error, now.plus(delay));
+        if (attempt < maxAttempts) {
+            log.warn("Outbox event delivery failed, will retry. consumer={}, eventId={}, attempt={}, retryInMs={}, error={}",
+                    consumer, event.getId(), attempt, delay.toMillis(), error);
+            return false;
+        }
+        outboxDeadLetterRepository.save(OutboxDeadLetter.builder()
+                .consumer(consumer)
+                .event(event)
+                .attempts(attempt)
+                .lastError(offset.getLastError())
+                .build());
+        offset.clearFailure();
+        outboxConsumerOffsetRepository.advance(consumer, event.getId(), now);
+        log.error("Outbox event dead-lettered after {} attempts. consumer={}, eventId={}, type={}, aggregateId={}, error={}",
+                attempt, consumer, event.getId(), event.getEventType(), event.getAggregateId(), error);
+        return true;
+    }
+
+    @Override
+    @Transactional
+    public int purgeDelivered(Collection<String> consumers, int limit) {
+        if (consumers.isEmpty()) {
+            return 0;
+        }
+        Long upToId = outboxConsumerOffsetRepository.findMinLastEventId(consumers);
+        if (upToId == null) {
+            return 0;
+        }
+        return outboxEventRepository.deleteDelivered(upToId, Instant.now().minus(retention), limit);
+    }
+}
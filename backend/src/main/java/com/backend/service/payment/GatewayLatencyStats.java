@@ -0,0 +1,82 @@
+package com.backend.service.payment;
+
+import com.backend.dto.payment.response.PaymentGatewayStatsResponse;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 결제 대행사 엔드포인트별 호출 지연 통계.
+ * 분위수는 고정 버킷 히스토그램으로 근사한다 (버킷 상한값을 보고).
+ */
+class GatewayLatencyStats {
+
+    // 버킷 상한(ms), 마지막 버킷은 그 이상 전부
+    private static final long[] BUCKET_UPPER_MILLIS = {25, 50, 100, 200, 300, 500, 750, 1000, 2000, 3000, 5000, 10000};
+
+    private final String endpoint;
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder totalMillis = new LongAdder();
+    private final AtomicLong maxMillis = new AtomicLong();
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_UPPER_MILLIS.length + 1);
+
+    GatewayLatencyStats(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    void record(long elapsedMillis, boolean failed) {
+        calls.increment();
+        if (failed) {
+            failures.increment();
+        }
+        totalMillis.add(elapsedMillis);
+        maxMillis.accumulateAndGet(elapsedMillis, Math::max);
+        buckets.incrementAndGet(bucketIndex(elapsedMillis));
+    }
+
+    PaymentGatewayStatsResponse.EndpointStats snapshot() {
+        long count = calls.sum();
+        return PaymentGatewayStatsResponse.EndpointStats.builder()
+                .endpoint(endpoint)
+                .calls(count)
+                .failures(failures.sum())
+                .avgMillis(count == 0 ? 0 : totalMillis.sum() / (double) count)
+                .p50Millis(percentile(0.50))
+                .p95Millis(percentile(0.95))
+                .p99Millis(percentile(0.99))
+                .maxMillis(maxMillis.get())
+                .build();
+    }
+
+    private long percentile(double quantile) {
+        long total = 0;
+        long[] counts = new long[buckets.length()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(total * quantile);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return i < BUCKET_UPPER_MILLIS.length ? BUCKET_UPPER_MILLIS[i] : maxMillis.get();
+            }
+        }
+        return maxMillis.get();
+    }
+
+    private static int bucketIndex(long elapsedMillis) {
+        for (int i = 0; i < BUCKET_UPPER_MILLIS.length; i++) {
+            if (elapsedMillis <= BUCKET_UPPER_MILLIS[i]) {
+                return i;
+            }
+        }
+        return BUCKET_UPPER_MILLIS.length;
+    }
+}
@@ -0,0 +1,65 @@
+package com.backend.service.payment;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 결제 승인 도중 중단된 주문 복구 작업.
+ *
+ * <p>승인은 짧은 트랜잭션(선점 → Toss 호출 → 결과 반영 → 후처리)으로 나뉘어 있어 단계 사이에서 프로세스가 죽거나
+ * Toss 응답이 타임아웃되면 주문이 중간 상태로 남는다. 주기적으로 다음 두 경우를 이어서 처리한다.
+ * <ul>
+ *   <li>승인 선점(confirming_at)이 오래된 PAYMENT_PENDING 주문: Toss 결제 조회로 PAID 반영 또는 실패 확정</li>
+ *   <li>PAID지만 finalized = false인 주문: 후처리(재고 차감 + 이벤트 기록) 재시도</li>
+ * </ul>
+ * 후처리가 finalize-max-attempts번 실패했거나 finalize-max-age가 지난 주문은 finalize_failed_at을 기록하고
+ * ERROR 로그를 남긴 뒤 재시도 대상에서 제외한다 (수동 확인: 환불 또는 재고 조정).
+ * 주문별 처리는 confirming_at / finalizing CAS로 선점하므로 여러 노드가 동시에 돌아도 중복 처리되지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentRecoveryJob {
+
+    private final PaymentService paymentService;
+
+    @Value("${shop.payment.recovery.batch-size:100}")
+    private int batchSize;
+
+    @Scheduled(initialDelayString = "${shop.payment.recovery.initial-delay:PT1M}",
+               fixedDelayString = "${shop.payment.recovery.interval:PT1M}")
+    public void recover() {
+        long startedAt = System.currentTimeMillis();
+        try {
+            paymentService.failAgedOutFinalizations();
+        } catch (Exception e) {
+            log.warn("Failed to mark aged-out unfinalized orders: {}", e.getMessage(), e);
+        }
+        int confirms = recoverEach(paymentService.findStaleConfirmingOrderNos(batchSize),
+                paymentService::recoverStaleConfirm, "stale confirm");
+        int finalizes = recoverEach(paymentService.findUnfinalizedPaidOrderNos(batchSize),
+                paymentService::recoverUnfinalized, "unfinalized order");
+        if (confirms + finalizes > 0) {
+            log.info("Payment recovery done: staleConfirms={}, unfinalized={}, elapsedMs={}",
+                    confirms, finalizes, System.currentTimeMillis() - startedAt);
+        }
+    }
+
+    private int recoverEach(List<String> orderNos, Consumer<String> action, String kind) {
+        for (String orderNo : orderNos) {
+            try {
+                action.accept(orderNo);
+            } catch (Exception e) {
+                // 다음 주기에 재시도
+                log.warn("Payment recovery failed: kind={}, orderNo={}, msg={}", kind, orderNo, e.getMessage(), e);
+            }
+        }
+        return orderNos.size();
+    }
+}
@@ -4,6 +4,9 @@ import com.backend.dto.payment.request.TossPaymentConfirmRequest;
 import com.backend.dto.payment.response.PaymentReadyResponse;
 import com.backend.dto.payment.response.TossPaymentConfirmResponse;
 
+import java.time.Instant;
+import java.util.List;
+
 public interface PaymentService {
 
     PaymentReadyResponse prepareTossPayment(String orderNo, Long memberId);
@@ -11,12 +14,46 @@ public interface PaymentService {
     TossPaymentConfirmResponse confirmTossPayment(TossPaymentConfirmRequest request);
 
     /**
-     * Toss 웹훅 처리 (결제 상태 동기화)
+     * 승인 선점(confirming_at) 후 shop.payment.confirm-stale-after가 지나도록 결과가 반영되지 않은 주문번호
+     */
+    List<String> findStaleConfirmingOrderNos(int limit);
+
+    /**
+     * 결제 완료(PAID) 후 후처리(finalized)가 끝나지 않은 주문번호
+     */
+    List<String> findUnfinalizedPaidOrderNos(int limit);
+
+    /**
+     * 복구 기간(shop.payment.recovery.finalize-max-age)이 지나도록 후처리되지 않은 주문을 수동 확인 대상으로 전환
+     *
+     * @return 이번에 전환된 주문 수
+     */
+    int failAgedOutFinalizations();
+
+    /**
+     * 중단된 승인 복구: Toss 결제 조회 결과로 PAID 반영 또는 실패 확정
+     */
+    void recoverStaleConfirm(String orderNo);
+
+    /**
+     * 후처리 미완료 주문의 후처리(재고 차감 + ORDER_FINALIZED 기록) 재시도 (finalized/finalizing CAS로 중복 실행 방지)
+     */
+    void recoverUnfinalized(String orderNo);
+
+    /**
+     * Toss 웹훅 수신 (검증 후 수신함에 추가만 하고 반환, 중복 재전송은 1건으로 합쳐짐)
      *
      * @param payload           웹훅 JSON 본문
      * @param transmissionTime  헤더 tosspayments-webhook-transmission-time
      * @param signature         헤더 tosspayments-webhook-signature (선택)
      */
     void handleTossWebhook(String payload, String transmissionTime, String signature);
+
+    /**
+     * 수신함의 웹훅 1건을 주문/결제에 반영 (멱등, 반영과 완료 마킹이 한 트랜잭션)
+     *
+     * @return 반영한 웹훅의 수신 시각, 이미 처리된 건이면 null
+     */
+    Instant applyTossWebhook(Long inboxId);
 }
 
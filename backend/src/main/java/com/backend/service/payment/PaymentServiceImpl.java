@@ -5,40 +5,52 @@ import com.backend.common.exception.ErrorCode;
 import com.backend.common.exception.PaymentAlreadyProcessedException;
 import com.backend.domain.order.Order;
 import com.backend.domain.order.OrderStatus;
+import com.backend.domain.outbox.OutboxEventType;
 import com.backend.domain.payment.Payment;
 import com.backend.domain.payment.PaymentProvider;
 import com.backend.domain.payment.PaymentStatus;
+import com.backend.domain.payment.PaymentWebhookInbox;
+import com.backend.domain.payment.PaymentWebhookInboxStatus;
 import com.backend.dto.payment.request.TossPaymentConfirmRequest;
 import com.backend.dto.payment.response.PaymentReadyResponse;
 import com.backend.dto.payment.response.TossPaymentConfirmResponse;
 import com.backend.domain.order.OrderItem;
+import com.backend.domain.order.OrderItemStatus;
 import com.backend.repository.order.OrderRepository;
 import com.backend.repository.payment.PaymentRepository;
-import com.backend.repository.shop.ProductVariantRepository;
-import com.backend.service.cart.CartKey;
-import com.backend.service.cart.CartService;
+import com.backend.repository.payment.PaymentWebhookInboxRepository;
+import com.backend.repository.shop.ProductRepository;
+import com.backend.service.outbox.OrderFinalizedPayload;
+import com.backend.service.outbox.OrderPaidPayload;
+import com.backend.service.outbox.OutboxService;
+import com.backend.service.shop.ProductDetailCache;
+import com.backend.service.shop.StockDeductionService;
+import com.backend.service.shop.StockReservationService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.HttpStatusCodeException;
-import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.Base64;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javax.crypto.Mac;
 import javax.crypto.spec.SecretKeySpec;
@@ -49,13 +61,23 @@ import javax.crypto.spec.SecretKeySpec;
 @Transactional(readOnly = true)
 public class PaymentServiceImpl implements PaymentService {
 
-    private static final String TOSS_CONFIRM_URL = "https://api.tosspayments.com/v1/payments/confirm";
+    /** Toss 결제 상태 중 승인되지 않았음이 확정된 값 (READY/IN_PROGRESS는 승인 요청 전 또는 미완료 후 만료 대기) */
+    private static final Set<String> NOT_APPROVED_TOSS_STATUSES =
+            Set.of("READY", "IN_PROGRESS", "ABORTED", "EXPIRED", "CANCELED");
+
+    private static final String UNPARSABLE_TOSS_STATUS = "UNPARSABLE";
 
     private final OrderRepository orderRepository;
     private final PaymentRepository paymentRepository;
-    private final ProductVariantRepository productVariantRepository;
-    private final CartService cartService;
+    private final PaymentWebhookInboxRepository paymentWebhookInboxRepository;
+    private final ProductRepository productRepository;
+    private final ProductDetailCache productDetailCache;
+    private final StockReservationService stockReservationService;
+    private final StockDeductionService stockDeductionService;
+    private final OutboxService outboxService;
+    private final TossPaymentsClient tossPaymentsClient;
     private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${toss.payments.client-key:}")
     private String tossClientKey;
@@ -63,6 +85,21 @@ public class PaymentServiceImpl implements PaymentService {
     @Value("${toss.payments.secret-key:}")
     private String tossSecretKey;
 
+    /** 승인 선점 후 이 시간이 지나도록 결과가 반영되지 않으면 중단된 것으로 본다 (Toss 읽기 타임아웃보다 길게) */
+    @Value("${shop.payment.confirm-stale-after:PT2M}")
+    private Duration confirmStaleAfter;
+
+    /** 후처리 복구 대상: 결제 후 grace가 지난 주문부터 max-age 이내 주문까지 */
+    @Value("${shop.payment.recovery.finalize-grace:PT1M}")
+    private Duration finalizeGrace;
+
+    @Value("${shop.payment.recovery.finalize-max-age:P1D}")
+    private Duration finalizeMaxAge;
+
+    /** 후처리 실패가 이 횟수에 도달하면 재시도를 멈추고 수동 확인 대상으로 전환 */
+    @Value("${shop.payment.recovery.finalize-max-attempts:10}")
+    private int finalizeMaxAttempts;
+
     /**
      * PaymentStatus 우선순위 (역행 방지용).
      * APPROVED > READY > FAILED 순으로 간주한다.
@@ -115,14 +152,67 @@ public class PaymentServiceImpl implements PaymentService {
                 .build();
     }
 
+    /**
+     * 결제 승인. Toss 호출 동안 DB 커넥션/트랜잭션을 잡지 않도록 짧은 트랜잭션으로 나눈다.
+     * <ol>
+     *   <li>검증 + 승인 선점 (confirming_at CAS) — 트랜잭션 1</li>
+     *   <li>Toss 승인 API 호출 — 트랜잭션 없음</li>
+     *   <li>결과 반영 (PAID/APPROVED 또는 실패 확정) — 트랜잭션 2</li>
+     *   <li>재고 차감 + ORDER_FINALIZED 아웃박스 기록 (finalized/finalizing CAS) — 트랜잭션 3</li>
+     * </ol>
+     * 2~4 사이에서 중단되면 PaymentRecoveryJob이 confirming_at / finalized 플래그를 보고 이어서 처리한다.
+     */
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TossPaymentConfirmResponse confirmTossPayment(TossPaymentConfirmRequest request) {
         String paymentKey = request.getPaymentKey();
         String orderNo = request.getOrderId();
+
+        // 1) 검증 + 승인 선점 (이미 결제 완료면 멱등 성공 응답)
+        TossPaymentConfirmResponse alreadyPaid = transactionTemplate.execute(status -> beginConfirm(request));
+        if (alreadyPaid != null) {
+            return alreadyPaid;
+        }
+
+        // 2) Toss 승인 API 호출 (커넥션 미점유)
+        String rawResponse;
+        try {
+            rawResponse = callTossConfirmApi(request);
+        } catch (PaymentAlreadyProcessedException e) {
+            // 토스 "이미 처리된 결제" → 이전 시도가 승인된 뒤 로컬 반영 전에 중단된 경우. 결과만 반영한다.
+            rawResponse = "{\"alreadyProcessed\":true}";
+        } catch (BusinessException e) {
+            if (e.getErrorCode() == ErrorCode.SHOP_PAYMENT_CONFIRM_UNKNOWN) {
+                // 승인 여부 불명 → 선점을 유지한 채 복구 잡이 Toss 조회로 확정
+                log.warn("Toss confirm result unknown. Leaving order for recovery. orderNo={}", orderNo);
+                throw e;
+            }
+            // 승인 실패 확정 → READY Payment를 FAILED로, 선점 해제 (주문은 PAYMENT_PENDING 유지, 재시도 가능)
+            transactionTemplate.executeWithoutResult(status -> abortConfirm(orderNo));
+            throw e;
+        }
+
+        // 3) 결제 결과 반영 (OrderStatus/PaymentStatus) - 1단계
+        String raw = rawResponse;
+        TossPaymentConfirmResponse response =
+                transactionTemplate.execute(status -> completeConfirm(orderNo, paymentKey, raw));
+
+        // 4) 재고 차감 + 후속 처리 이벤트 기록 - 2단계
+        finalizeQuietly(orderNo);
+        return response;
+    }
+
+    /**
+     * 트랜잭션 1: 검증 후 승인 선점.
+     *
+     * @return 이미 결제 완료된 주문이면 멱등 성공 응답, 선점에 성공하면 null
+     */
+    private TossPaymentConfirmResponse beginConfirm(TossPaymentConfirmRequest request) {
+        String paymentKey = request.getPaymentKey();
+        String orderNo = request.getOrderId();
         BigDecimal expectedAmount = BigDecimal.valueOf(request.getAmount());
 
-        // 1) paymentKey 기준 멱등: 이미 APPROVED면 그대로 성공 응답 (finalize 재실행 금지)
+        // paymentKey 기준 멱등: 이미 APPROVED면 그대로 성공 응답 (finalize 재실행 금지)
         var existingByKey = paymentRepository.findByPaymentKey(paymentKey);
         if (existingByKey.isPresent() && existingByKey.get().getStatus() == PaymentStatus.APPROVED) {
             Payment p = existingByKey.get();
@@ -130,7 +220,7 @@ public class PaymentServiceImpl implements PaymentService {
                     p.getOrder().getOrderNo(), OrderStatus.PAID, p.getOrder().getTotalPayableAmount(), p.getApprovedAt());
         }
 
-        Order order = orderRepository.findDetailByOrderNo(orderNo)
+        Order order = orderRepository.findByOrderNo(orderNo)
                 .orElseThrow(() -> new BusinessException(ErrorCode.SHOP_ORDER_NOT_FOUND, orderNo));
 
         if (order.getTotalPayableAmount().compareTo(expectedAmount) != 0) {
@@ -148,63 +238,162 @@ public class PaymentServiceImpl implements PaymentService {
             throw new BusinessException(ErrorCode.SHOP_PAYMENT_INVALID_ORDER_STATE, orderNo, order.getStatus());
         }
 
-        Payment readyPayment = paymentRepository.findByOrder_OrderNoAndStatus(orderNo, PaymentStatus.READY).orElse(null);
-
-        // 2) Toss 승인 API 호출 (실패 시 READY Payment를 FAILED로)
-        String rawResponse;
-        try {
-            rawResponse = callTossConfirmApi(request);
-        } catch (PaymentAlreadyProcessedException e) {
-            // 토스 "이미 처리된 결제" → 멱등: 이미 해당 paymentKey로 APPROVED가 있으면 그대로 성공 (동시 요청 등)
-            // Toss "이미 처리된 결제" → 멱등: 이미 해당 paymentKey로 APPROVED가 있으면 그대로 성공
-            var existingPayment = paymentRepository.findByPaymentKey(request.getPaymentKey());
-            if (existingPayment.isPresent() && existingPayment.get().getStatus() == PaymentStatus.APPROVED) {
-                Payment p = existingPayment.get();
-                return TossPaymentConfirmResponse.of(
-                        p.getOrder().getOrderNo(), OrderStatus.PAID, p.getOrder().getTotalPayableAmount(), p.getApprovedAt());
-            }
-            // 주문이 이미 PAID면 그대로 반환 (finalize 재실행 금지)
-            if (order.getStatus() == OrderStatus.PAID) {
-                Instant at = order.getPaidAt() != null ? order.getPaidAt() : Instant.now();
-                return TossPaymentConfirmResponse.of(orderNo, OrderStatus.PAID, order.getTotalPayableAmount(), at);
-            }
-            // 그 외 케이스에서는 Toss 측이 이미 결제를 승인했으나 로컬 상태가 뒤쳐진 것으로 보고,
-            // 결제 결과만 반영(applyPaymentResult) 후 finalize는 수행하지 않는다.
-            Instant approvedAt = Instant.now();
-            applyPaymentResult(order, request.getPaymentKey(), "{\"alreadyProcessed\":true}", approvedAt);
-            return TossPaymentConfirmResponse.of(orderNo, OrderStatus.PAID, order.getTotalPayableAmount(), approvedAt);
-        } catch (BusinessException e) {
-            if (readyPayment != null) {
-                readyPayment.setStatus(PaymentStatus.FAILED);
-                paymentRepository.save(readyPayment);
-            }
-            throw e;
+        Instant now = Instant.now();
+        int updated = orderRepository.markConfirming(
+                orderNo, paymentKey, OrderStatus.PAYMENT_PENDING, now, now.minus(confirmStaleAfter));
+        if (updated == 0) {
+            // 같은 주문의 승인 호출이 다른 요청에서 진행 중
+            throw new BusinessException(ErrorCode.SHOP_PAYMENT_CONFIRM_IN_PROGRESS, orderNo);
         }
-        Instant approvedAt = Instant.now();
+        return null;
+    }
 
-        // 3) 결제 결과 반영 (OrderStatus/PaymentStatus) - 1단계
-        applyPaymentResult(order, paymentKey, rawResponse, approvedAt);
+    /**
+     * 트랜잭션 2: 승인 결과 반영 + 선점 해제.
+     */
+    private TossPaymentConfirmResponse completeConfirm(String orderNo, String paymentKey, String rawResponse) {
+        Order order = orderRepository.findByOrderNo(orderNo)
+                .orElseThrow(() -> new BusinessException(ErrorCode.SHOP_ORDER_NOT_FOUND, orderNo));
+        applyPaymentResult(order, paymentKey, rawResponse, Instant.now());
+        order.clearConfirming();
+        return TossPaymentConfirmResponse.of(orderNo, order.getStatus(), order.getTotalPayableAmount(), order.getPaidAt());
+    }
+
+    /**
+     * 트랜잭션 2 (실패): READY Payment를 FAILED로 바꾸고 선점을 해제한다.
+     */
+    private void abortConfirm(String orderNo) {
+        paymentRepository.findByOrder_OrderNoAndStatus(orderNo, PaymentStatus.READY)
+                .ifPresent(readyPayment -> {
+                    readyPayment.setStatus(PaymentStatus.FAILED);
+                    paymentRepository.save(readyPayment);
+                });
+        orderRepository.findByOrderNo(orderNo).ifPresent(Order::clearConfirming);
+    }
 
-        // 4) 재고 및 카트 정리 - 2단계 (confirm 경로에서만 수행)
-        // 여기서 CartItem 등 동시성/낙관락 이슈가 나더라도,
-        // 결제/주문 자체는 이미 PAID 로 반영된 상태이므로 승인 트랜잭션까지 롤백시키지 않는다.
+    /**
+     * 트랜잭션 3: 후처리. 결제/주문은 이미 PAID로 커밋된 상태이므로 실패해도 승인 응답은 그대로 돌려주고,
+     * 미완료분(finalized = false)은 PaymentRecoveryJob이 재시도한다.
+     */
+    private void finalizeQuietly(String orderNo) {
         try {
-            finalizeAfterPaid(orderNo);
+            transactionTemplate.executeWithoutResult(status -> finalizeAfterPaid(orderNo));
         } catch (ObjectOptimisticLockingFailureException |
                  jakarta.persistence.OptimisticLockException |
                  org.hibernate.StaleObjectStateException e) {
             log.warn("Optimistic lock during finalizeAfterPaid. " +
-                            "Order is already marked PAID, skipping cart cleanup. orderNo={}, msg={}",
+                            "Order is already marked PAID, finalize will be retried by recovery job. orderNo={}, msg={}",
                     orderNo, e.getMessage(), e);
+        } catch (RuntimeException e) {
+            log.warn("finalizeAfterPaid failed. Order stays PAID and will be retried by recovery job. orderNo={}",
+                    orderNo, e);
+            recordFinalizeFailure(orderNo, e);
+        }
+    }
+
+    /**
+     * 후처리 실패 횟수 기록. 한도에 도달하면 재시도를 멈추고 수동 확인(환불/재고 조정) 대상으로 전환한다.
+     * (예: 예약 만료 후 재고가 소진되어 차감이 계속 실패하는 주문이 max-age까지 조용히 재시도되다 사라지지 않도록)
+     */
+    private void recordFinalizeFailure(String orderNo, RuntimeException cause) {
+        try {
+            Boolean exhausted = transactionTemplate.execute(status -> {
+                orderRepository.incrementFinalizeAttempts(orderNo);
+                return orderRepository.markFinalizeFailedIfExhausted(orderNo, finalizeMaxAttempts, Instant.now()) == 1;
+            });
+            if (Boolean.TRUE.equals(exhausted)) {
+                log.error("finalizeAfterPaid gave up after {} attempts. Order is PAID but not finalized, " +
+                                "needs manual review (refund or stock adjustment). orderNo={}, lastError={}",
+                        finalizeMaxAttempts, orderNo, cause.getMessage());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to record finalize failure. orderNo={}", orderNo, e);
         }
+    }
+
+    @Override
+    public List<String> findStaleConfirmingOrderNos(int limit) {
+        return orderRepository.findStaleConfirmingOrderNos(
+                OrderStatus.PAYMENT_PENDING, Instant.now().minus(confirmStaleAfter), PageRequest.of(0, limit));
+    }
+
+    @Override
+    public List<String> findUnfinalizedPaidOrderNos(int limit) {
+        Instant now = Instant.now();
+        return orderRepository.findUnfinalizedPaidOrderNos(
+                OrderStatus.PAID, now.minus(finalizeMaxAge), now.minus(finalizeGrace), PageRequest.of(0, limit));
+    }
 
-        return TossPaymentConfirmResponse.of(orderNo, order.getStatus(), order.getTotalPayableAmount(), approvedAt);
+    @Override
+    @Transactional
+    public int failAgedOutFinalizations() {
+        Instant now = Instant.now();
+        int failed = orderRepository.markFinalizeFailedPaidBefore(OrderStatus.PAID, now.minus(finalizeMaxAge), now);
+        if (failed > 0) {
+            log.error("Unfinalized PAID orders exceeded finalize-max-age ({}). Marked for manual review. count={}",
+                    finalizeMaxAge, failed);
+        }
+        return failed;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void recoverStaleConfirm(String orderNo) {
+        // 1) 복구 선점: 오래된 선점을 같은 paymentKey로 다시 CAS (여러 노드 중 1곳만 진행)
+        String paymentKey = transactionTemplate.execute(status -> {
+            Order order = orderRepository.findByOrderNo(orderNo).orElse(null);
+            if (order == null || order.getConfirmingPaymentKey() == null) {
+                return null;
+            }
+            Instant now = Instant.now();
+            int updated = orderRepository.markConfirming(orderNo, order.getConfirmingPaymentKey(),
+                    OrderStatus.PAYMENT_PENDING, now, now.minus(confirmStaleAfter));
+            return updated == 1 ? order.getConfirmingPaymentKey() : null;
+        });
+        if (paymentKey == null) {
+            return;
+        }
+
+        // 2) Toss 결제 조회 (커넥션 미점유). 조회 실패 시 선점 유지 → confirmStaleAfter 후 재시도
+        Optional<String> rawResponse = tossPaymentsClient.getPayment(paymentKey);
+        String tossStatus = rawResponse.map(this::readTossStatus).orElse(null);
+
+        // 3) 결과 확정
+        if ("DONE".equals(tossStatus)) {
+            transactionTemplate.execute(status -> completeConfirm(orderNo, paymentKey, rawResponse.get()));
+            finalizeQuietly(orderNo);
+            log.info("Recovered stale confirm as PAID. orderNo={}, paymentKey={}", orderNo, paymentKey);
+        } else if (tossStatus == null || NOT_APPROVED_TOSS_STATUSES.contains(tossStatus)) {
+            // 승인되지 않았음이 확정 → 실패 처리 후 선점 해제 (구매자는 다시 결제 가능)
+            transactionTemplate.executeWithoutResult(status -> abortConfirm(orderNo));
+            log.info("Recovered stale confirm as not approved. orderNo={}, paymentKey={}, tossStatus={}",
+                    orderNo, paymentKey, tossStatus);
+        } else {
+            log.info("Stale confirm still unresolved. orderNo={}, paymentKey={}, tossStatus={}",
+                    orderNo, paymentKey, tossStatus);
+        }
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void recoverUnfinalized(String orderNo) {
+        finalizeQuietly(orderNo);
+    }
+
+    private String readTossStatus(String rawResponse) {
+        try {
+            return objectMapper.readTree(rawResponse).path("status").asText(null);
+        } catch (Exception e) {
+            log.warn("Failed to parse Toss payment response: {}", e.getMessage());
+            return UNPARSABLE_TOSS_STATUS;
+        }
     }
 
     /**
      * 1단계: 결제 결과 반영.
      * - Order: CREATED/PAYMENT_PENDING → PAID 전이
      * - Payment: paymentKey 기준 upsert + APPROVED 상태 반영
+     * - ORDER_PAID 아웃박스 이벤트 기록 (호출자 트랜잭션 안에서만 호출)
      * - 멱등: 이미 PAID/APPROVED면 상태를 역행시키지 않음.
      */
     @Transactional
@@ -216,21 +405,26 @@ public class PaymentServiceImpl implements PaymentService {
 
         order.markPaid(approvedAt);
         upsertPaymentByKey(order, paymentKey, PaymentStatus.APPROVED, approvedAt, rawResponse);
+        outboxService.publish(OutboxEventType.ORDER_PAID, order.getOrderNo(), new OrderPaidPayload(
+                order.getOrderNo(), memberIdOf(order), order.getTotalPayableAmount(), approvedAt));
+    }
+
+    private Long memberIdOf(Order order) {
+        return order.getMember() != null ? order.getMember().getId() : null;
     }
 
     /**
      * 2단계: 결제 완료 이후 후처리.
-     * - 재고 락 + 차감
-     * - 장바구니 정리
-     * 멱등 요구사항에 따라, 이미 PAID/APPROVED인 경우라도 이 메서드를 재호출하지 않도록
-     * 호출부에서 제어한다(Confirm 경로에서만 1회 호출).
+     * - 재고 차감 (StockDeductionService, shop.stock.decrement-strategy)
+     * - ORDER_FINALIZED 아웃박스 이벤트 기록 (판매량 집계, 장바구니 정리 등은 이벤트 소비자가 수행)
+     * confirm 경로와 PaymentRecoveryJob에서 독립 트랜잭션(finalizeQuietly)으로 호출한다.
+     * CAS 선점과 후처리가 한 트랜잭션이므로 도중에 실패하면 finalizing도 함께 롤백되어 재시도 대상이 된다.
      *
      * 동시성 제어:
      * - Order 테이블의 finalized/finalizing 플래그와 CAS UPDATE를 이용해
-     *   한 시점에 하나의 트랜잭션만 재고/카트 후처리를 수행하도록 한다.
+     *   한 시점에 하나의 트랜잭션만 후처리를 수행하도록 한다.
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
-    protected void finalizeAfterPaid(String orderNo) {
+    private void finalizeAfterPaid(String orderNo) {
         // 1) 결제 완료 & 미-finalize 상태인 주문만 선점 시도
         int updated = orderRepository.markFinalizingForPaidOrder(orderNo, OrderStatus.PAID);
         if (updated == 0) {
@@ -244,23 +438,38 @@ public class PaymentServiceImpl implements PaymentService {
         Order order = orderRepository.findDetailByOrderNo(orderNo)
                 .orElseThrow(() -> new BusinessException(ErrorCode.SHOP_ORDER_NOT_FOUND, orderNo));
 
-        // 3) 재고 재검증 + 차감 (락)
+        // 3) 주문 생성 시 잡아 둔 재고 예약을 차감으로 전환 (만료/해제된 라인은 포함되지 않음)
+        Map<Long, Integer> heldQtyByVariantId = stockReservationService.commitForOrder(order.getId());
+
+        // 3-0) 재검증 + 차감 (설정된 방식: 일괄 잠금 또는 조건부 UPDATE)
+        Map<Long, Integer> orderedQtyByVariantId = new HashMap<>();
         for (OrderItem oi : order.getItems()) {
-            var variant = productVariantRepository.findByIdForUpdate(oi.getVariant().getId())
-                    .orElseThrow(() -> new BusinessException(ErrorCode.SHOP_VARIANT_NOT_FOUND, oi.getVariant().getId()));
-            if (!variant.isActive()) {
-                throw new BusinessException(ErrorCode.SHOP_VARIANT_INACTIVE, variant.getId());
-            }
-            if (variant.getStockQty() < oi.getQty()) {
-                throw new BusinessException(ErrorCode.SHOP_VARIANT_OUT_OF_STOCK, oi.getQty(), variant.getStockQty());
+            orderedQtyByVariantId.merge(oi.getVariant().getId(), oi.getQty(), Integer::sum);
+        }
+        Set<Long> deductedVariantIds = stockDeductionService.deduct(orderedQtyByVariantId, heldQtyByVariantId);
+        // DB에서 차감한 옵션의 상품만 in_stock 갱신 (핫 SKU는 write-behind 반영 시 갱신)
+        Set<Long> productIds = new HashSet<>();
+        for (OrderItem oi : order.getItems()) {
+            if (deductedVariantIds.contains(oi.getVariant().getId())) {
+                productIds.add(oi.getProduct().getId());
             }
-            variant.decreaseStock(oi.getQty());
         }
+        if (!productIds.isEmpty()) {
+            productRepository.refreshInStockByIdIn(productIds);
+        }
+
+        // 옵션 재고가 바뀐 상품의 상세 캐시 무효화
+        productIds.forEach(productDetailCache::invalidate);
 
-        // 4) 서버에서 장바구니 비우기
-        if (order.getMember() != null) {
-            cartService.clearCart(CartKey.ofMember(order.getMember().getId()));
+        // 4) 판매량 집계/장바구니 정리 등 후속 처리는 아웃박스 이벤트로 (같은 트랜잭션에 기록, OutboxRelay가 비동기 전달)
+        Map<Long, Integer> soldQtyByProductId = new HashMap<>();
+        for (OrderItem oi : order.getItems()) {
+            if (oi.getStatus() == OrderItemStatus.ORDERED) {
+                soldQtyByProductId.merge(oi.getProduct().getId(), oi.getQty(), Integer::sum);
+            }
         }
+        outboxService.publish(OutboxEventType.ORDER_FINALIZED, orderNo,
+                new OrderFinalizedPayload(orderNo, memberIdOf(order), soldQtyByProductId));
 
         // 5) 후처리 완료 플래그 설정 (멱등 보장)
         order.markFinalized();
@@ -313,53 +522,13 @@ public class PaymentServiceImpl implements PaymentService {
     }
 
     private String callTossConfirmApi(TossPaymentConfirmRequest request) {
-        if (tossSecretKey == null || tossSecretKey.isBlank()) {
-            throw new BusinessException(ErrorCode.SHOP_PAYMENT_CONFIG_NOT_FOUND);
-        }
-
-        RestTemplate restTemplate = new RestTemplate();
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        String basicAuthValue = Base64.getEncoder()
-                .encodeToString((tossSecretKey + ":").getBytes(StandardCharsets.UTF_8));
-        headers.set("Authorization", "Basic " + basicAuthValue);
-
-        Map<String, Object> body = new HashMap<>();
-        body.put("paymentKey", request.getPaymentKey());
-        body.put("orderId", request.getOrderId());
-        body.put("amount", request.getAmount());
-
-        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(body, headers);
-
-        ResponseEntity<String> response;
-        try {
-            response = restTemplate.exchange(TOSS_CONFIRM_URL, HttpMethod.POST, entity, String.class);
-        } catch (RestClientException e) {
-            log.error("Toss confirm API call failed: {}", e.getMessage(), e);
-            String msg = e.getMessage() != null ? e.getMessage() : "";
-            if (e instanceof HttpStatusCodeException hex) {
-                String responseBody = hex.getResponseBodyAsString();
-                if (responseBody != null) msg = msg + " " + responseBody;
-            }
-            if (msg.contains("ALREADY_PROCESSED_PAYMENT") || msg.contains("이미 처리된 결제")) {
-                throw new PaymentAlreadyProcessedException(request.getOrderId());
-            }
-            if (msg.contains("S008") || msg.contains("기존 요청을 처리중") || msg.contains("FAILED_PAYMENT_INTERNAL_SYSTEM_PROCESSING")) {
-                throw new BusinessException(ErrorCode.SHOP_PAYMENT_PROCESSING_RETRY);
-            }
-            throw new BusinessException(ErrorCode.SHOP_PAYMENT_CONFIRM_FAILED, e.getMessage());
-        }
-
-        if (!response.getStatusCode().is2xxSuccessful()) {
-            log.error("Toss confirm API response not successful. status={}, body={}",
-                    response.getStatusCode(), response.getBody());
-            throw new BusinessException(ErrorCode.SHOP_PAYMENT_CONFIRM_FAILED, response.getStatusCode());
-        }
-
-        return response.getBody();
+        return tossPaymentsClient.confirm(request.getPaymentKey(), request.getOrderId(), request.getAmount());
     }
 
+    /**
+     * 웹훅 수신: 검증/파싱 후 수신함(payment_webhook_inbox)에 추가만 하고 반환한다.
+     * 주문/결제 반영은 PaymentWebhookInboxWorker가 비동기로 수행 ({@link #applyTossWebhook(Long)}).
+     */
     @Override
     @Transactional
     public void handleTossWebhook(String payload, String transmissionTime, String signature) {
@@ -399,10 +568,34 @@ public class PaymentServiceImpl implements PaymentService {
             return;
         }
 
-        Order order = orderRepository.findDetailByOrderNo(orderId).orElse(null);
+        // 3) 수신함에 추가 (같은 결제의 같은 상태 재전송은 1건으로 합쳐짐)
+        String dedupKey = eventType + ":" + paymentKey + ":" + paymentStatus;
+        paymentWebhookInboxRepository.appendIgnoringDuplicate(
+                dedupKey, eventType, orderId, paymentKey, paymentStatus, payload);
+    }
+
+    @Override
+    @Transactional
+    public Instant applyTossWebhook(Long inboxId) {
+        PaymentWebhookInbox event = paymentWebhookInboxRepository.findById(inboxId).orElse(null);
+        if (event == null || event.getStatus() != PaymentWebhookInboxStatus.PENDING) {
+            return null;
+        }
+        // 처리 선점 + 완료 마킹 (반영이 실패해 롤백되면 PENDING으로 남음)
+        int updated = paymentWebhookInboxRepository.markDone(
+                inboxId, PaymentWebhookInboxStatus.PENDING, PaymentWebhookInboxStatus.DONE, Instant.now());
+        if (updated == 0) {
+            return null;
+        }
+
+        String orderId = event.getOrderNo();
+        String paymentKey = event.getPaymentKey();
+        String paymentStatus = event.getPaymentStatus();
+
+        Order order = orderRepository.findByOrderNo(orderId).orElse(null);
         if (order == null) {
             log.warn("Order not found for Toss webhook. orderId={}", orderId);
-            return;
+            return event.getCreatedAt();
         }
 
         // 상태 동기화: DONE 상태를 결제 완료로 간주
@@ -410,14 +603,15 @@ public class PaymentServiceImpl implements PaymentService {
             // 이미 결제 완료면 멱등 처리
             if (order.getStatus() == OrderStatus.PAID) {
                 log.info("Order already PAID. Ignoring duplicated webhook. orderId={}", orderId);
-                return;
+                return event.getCreatedAt();
             }
 
             // CREATED 또는 PAYMENT_PENDING 상태일 때만 결제 결과를 반영 (정합성 보정).
-            // 재고/카트는 confirm 경로가 원칙이므로 여기서는 applyPaymentResult까지만 수행한다.
+            // 재고 차감은 confirm 경로가 원칙이므로 여기서는 applyPaymentResult까지만 수행한다.
+            // (confirm이 끝내 오지 않으면 finalized = false 주문으로 PaymentRecoveryJob이 후처리)
             if (order.getStatus() == OrderStatus.CREATED || order.getStatus() == OrderStatus.PAYMENT_PENDING) {
                 Instant approvedAt = Instant.now();
-                applyPaymentResult(order, paymentKey, payload, approvedAt);
+                applyPaymentResult(order, paymentKey, event.getPayload(), approvedAt);
                 log.info("Order/payment updated from Toss webhook (apply only). orderId={}, paymentKey={}", orderId, paymentKey);
             } else {
                 log.info("Order status is not CREATED or PAYMENT_PENDING. Skipping webhook state change. orderId={}, status={}",
@@ -427,6 +621,7 @@ public class PaymentServiceImpl implements PaymentService {
             // 그 외 상태는 일단 로그만 (취소/실패 동기화는 필요 시 확장)
             log.info("Unhandled Toss payment status from webhook. orderId={}, status={}", orderId, paymentStatus);
         }
+        return event.getCreatedAt();
     }
 
     private void verifySignatureSoft(String payload, String transmissionTime, String signatureHeader) {
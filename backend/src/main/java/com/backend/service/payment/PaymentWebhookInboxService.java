@@ -0,0 +1,32 @@
+package com.backend.service.payment;
+
+import com.backend.dto.payment.response.PaymentGatewayStatsResponse;
+import com.backend.dto.payment.response.PaymentWebhookInboxStatsResponse;
+
+import java.util.List;
+import java.util.Map;
+
+public interface PaymentWebhookInboxService {
+
+    /**
+     * 처리할 웹훅 배치 조회.
+     *
+     * @return 주문번호 → 수신 순서대로의 inbox id (주문 안에서는 이 순서로 처리해야 함).
+     *         앞선 이벤트가 백오프 대기 중인 주문은 제외
+     */
+    Map<String, List<Long>> findDueBatch(int limit);
+
+    /**
+     * 처리 실패 기록: 지수 백오프로 다음 시도 시각을 미루고, 최대 횟수를 넘으면 FAILED로 포기
+     */
+    void recordFailure(Long inboxId, String error);
+
+    /**
+     * 보관 기간이 지난 처리 완료 행 삭제
+     *
+     * @return 삭제한 행 수
+     */
+    int purgeProcessed(int limit);
+
+    PaymentWebhookInboxStatsResponse stats(PaymentGatewayStatsResponse.EndpointStats lag);
+}
@@ -0,0 +1,121 @@
+package com.backend.service.payment;
+
+import com.backend.domain.payment.PaymentWebhookInbox;
+import com.backend.domain.payment.PaymentWebhookInboxStatus;
+import com.backend.dto.payment.response.PaymentGatewayStatsResponse;
+import com.backend.dto.payment.response.PaymentWebhookInboxStatsResponse;
+import com.backend.repository.payment.PaymentWebhookInboxHeadProjection;
+import com.backend.repository.payment.PaymentWebhookInboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PaymentWebhookInboxServiceImpl implements PaymentWebhookInboxService {
+
+    private final PaymentWebhookInboxRepository paymentWebhookInboxRepository;
+
+    @Value("${shop.payment.webhook-inbox.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${shop.payment.webhook-inbox.retry-base-delay:PT5S}")
+    private Duration retryBaseDelay;
+
+    @Value("${shop.payment.webhook-inbox.retry-max-delay:PT10M}")
+    private Duration retryMaxDelay;
+
+    @Value("${shop.payment.webhook-inbox.retention:P7D}")
+    private Duration retention;
+
+    @Override
+    public Map<String, List<Long>> findDueBatch(int limit) {
+        List<PaymentWebhookInbox> due = paymentWebhookInboxRepository.findDue(
+                PaymentWebhookInboxStatus.PENDING, Instant.now(), PageRequest.of(0, limit));
+        if (due.isEmpty()) {
+            return Map.of();
+        }
+
+        Set<String> orderNos = new LinkedHashSet<>();
+        due.forEach(row -> orderNos.add(row.getOrderNo()));
+        Map<String, Long> headIdByOrderNo = new HashMap<>();
+        for (PaymentWebhookInboxHeadProjection head :
+                paymentWebhookInboxRepository.findHeadIds(PaymentWebhookInboxStatus.PENDING, orderNos)) {
+            headIdByOrderNo.put(head.getOrderNo(), head.getHeadId());
+        }
+
+        Map<String, List<Long>> batch = new LinkedHashMap<>();
+        for (PaymentWebhookInbox row : due) {
+            List<Long> ids = batch.get(row.getOrderNo());
+            if (ids == null) {
+                // 같은 주문의 앞선 이벤트가 백오프 대기 중이면 이번 주기에는 건너뜀 (주문별 순서 유지)
+                if (!row.getId().equals(headIdByOrderNo.get(row.getOrderNo()))) {
+                    continue;
+                }
+                ids = new ArrayList<>();
+                batch.put(row.getOrderNo(), ids);
+            }
+            ids.add(row.getId());
+        }
+        return batch;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void recordFailure(Long inboxId, String error) {
+        PaymentWebhookInbox row = paymentWebhookInboxRepository.findById(inboxId).orElse(null);
+        if (row == null || row.getStatus() != PaymentWebhookInboxStatus.PENDING) {
+            return;
+        }
+        Instant now = Instant.now();
+        int attempt = row.getAttempts() + 1;
+        if (attempt >= maxAttempts) {
+            row.recordFailure(error, null, now);
+            log.error("Payment webhook gave up after {} attempts. inboxId={}, orderNo={}, error={}",
+                    attempt, inboxId, row.getOrderNo(), error);
+            return;
+        }
+        // 지수 백오프: base * 2^(attempt-1), 상한 retryMaxDelay
+        Duration delay = retryBaseDelay.multipliedBy(1L << Math.min(attempt - 1, 20));
+        if (delay.compareTo(retryMaxDelay) > 0) {
+            delay = retryMaxDelay;
+        }
+        row.recordFailure(error, now.plus(delay), now);
+        log.warn("Payment webhook failed, will retry. inboxId={}, orderNo={}, attempt={}, retryInMs={}, error={}",
+                inboxId, row.getOrderNo(), attempt, delay.toMillis(), error);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int purgeProcessed(int limit) {
+        return paymentWebhookInboxRepository.deleteDoneBefore(Instant.now().minus(retention), limit);
+    }
+
+    @Override
+    public PaymentWebhookInboxStatsResponse stats(PaymentGatewayStatsResponse.EndpointStats lag) {
+        Instant oldestPending = paymentWebhookInboxRepository.findOldestCreatedAt(PaymentWebhookInboxStatus.PENDING);
+        return PaymentWebhookInboxStatsResponse.builder()
+                .pending(paymentWebhookInboxRepository.countByStatus(PaymentWebhookInboxStatus.PENDING))
+                .failed(paymentWebhookInboxRepository.countByStatus(PaymentWebhookInboxStatus.FAILED))
+                .oldestPendingAgeMillis(oldestPending == null ? 0
+                        : Math.max(0, Duration.between(oldestPending, Instant.now()).toMillis()))
+                .lag(lag)
+                .build();
+    }
+}
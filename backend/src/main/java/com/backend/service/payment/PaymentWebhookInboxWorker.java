@@ -0,0 +1,155 @@
+package com.backend.service.payment;
+
+import com.backend.dto.payment.response.PaymentWebhookInboxStatsResponse;
+import com.backend.util.RedisJobLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 결제 웹훅 수신함 처리 작업.
+ *
+ * <p>웹훅 엔드포인트가 쌓아 둔 이벤트를 배치로 가져와 주문번호별로 묶고, 워커 풀에서 주문 단위로 병렬 처리한다.
+ * 같은 주문의 이벤트는 한 워커가 수신 순서대로 처리하며, 하나가 실패하면 뒤 이벤트는 다음 주기로 미룬다.
+ * 여러 노드가 같은 배치를 나눠 갖지 않도록 Redis 락으로 1개 노드만 드레인한다
+ * (락이 만료돼 겹치더라도 inbox 행 CAS로 이벤트당 1회만 반영된다).
+ */
+@Slf4j
+@Component
+public class PaymentWebhookInboxWorker implements DisposableBean {
+
+    private static final String JOB_NAME = "payment-webhook-inbox";
+    private static final int PURGE_CHUNK_SIZE = 1000;
+
+    private final PaymentWebhookInboxService paymentWebhookInboxService;
+    private final PaymentService paymentService;
+    private final RedisJobLock redisJobLock;
+    private final ExecutorService workers;
+    private final int batchSize;
+    private final Duration lockTtl;
+    private final GatewayLatencyStats lagStats = new GatewayLatencyStats(JOB_NAME);
+
+    public PaymentWebhookInboxWorker(PaymentWebhookInboxService paymentWebhookInboxService,
+                                     PaymentService paymentService,
+                                     RedisJobLock redisJobLock,
+                                     @Value("${shop.payment.webhook-inbox.workers:4}") int workerCount,
+                                     @Value("${shop.payment.webhook-inbox.batch-size:200}") int batchSize,
+                                     @Value("${shop.payment.webhook-inbox.lock-ttl:PT1M}") Duration lockTtl) {
+        this.paymentWebhookInboxService = paymentWebhookInboxService;
+        this.paymentService = paymentService;
+        this.redisJobLock = redisJobLock;
+        this.batchSize = batchSize;
+        this.lockTtl = lockTtl;
+        AtomicInteger threadSeq = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerCount, r -> {
+            Thread t = new Thread(r, "payment-webhook-" + threadSeq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${shop.payment.webhook-inbox.poll-interval:PT1S}")
+    public void drain() {
+        Optional<String> lockToken = redisJobLock.tryLock(JOB_NAME, lockTtl);
+        if (lockToken.isEmpty()) {
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        try {
+            // 락 TTL 절반 안에서 가득 찬 배치가 나오는 동안 계속 드레인
+            while (System.currentTimeMillis() - startedAt < lockTtl.toMillis() / 2) {
+                Map<String, List<Long>> batch = paymentWebhookInboxService.findDueBatch(batchSize);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                List<Future<?>> futures = new ArrayList<>(batch.size());
+                int events = 0;
+                for (List<Long> inboxIds : batch.values()) {
+                    futures.add(workers.submit(() -> processInOrder(inboxIds)));
+                    events += inboxIds.size();
+                }
+                awaitAll(futures);
+                if (events < batchSize) {
+                    break;
+                }
+            }
+        } finally {
+            redisJobLock.unlock(JOB_NAME, lockToken.get());
+        }
+    }
+
+    @Scheduled(initialDelayString = "${shop.payment.webhook-inbox.purge-interval:PT1H}",
+               fixedDelayString = "${shop.payment.webhook-inbox.purge-interval:PT1H}")
+    public void purge() {
+        int purged = 0;
+        int count;
+        do {
+            count = paymentWebhookInboxService.purgeProcessed(PURGE_CHUNK_SIZE);
+            purged += count;
+        } while (count == PURGE_CHUNK_SIZE);
+        if (purged > 0) {
+            log.info("Processed payment webhooks purged: count={}", purged);
+        }
+    }
+
+    public PaymentWebhookInboxStatsResponse stats() {
+        return paymentWebhookInboxService.stats(lagStats.snapshot());
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        workers.shutdown();
+        if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+            workers.shutdownNow();
+        }
+    }
+
+    /**
+     * 한 주문의 이벤트를 수신 순서대로 반영. 실패하면 기록 후 나머지는 다음 주기로 미룬다.
+     */
+    private void processInOrder(List<Long> inboxIds) {
+        for (Long inboxId : inboxIds) {
+            try {
+                Instant receivedAt = paymentService.applyTossWebhook(inboxId);
+                if (receivedAt != null) {
+                    lagStats.record(Math.max(0, Duration.between(receivedAt, Instant.now()).toMillis()), false);
+                }
+            } catch (Exception e) {
+                try {
+                    paymentWebhookInboxService.recordFailure(inboxId, e.getMessage());
+                } catch (Exception recordError) {
+                    log.warn("Failed to record payment webhook failure. inboxId={}", inboxId, recordError);
+                }
+                return;
+            }
+        }
+    }
+
+    private void awaitAll(List<Future<?>> futures) {
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException e) {
+                log.warn("Payment webhook worker error: {}", e.getCause().getMessage(), e.getCause());
+            }
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package com.backend.service.payment;
+
+import com.backend.common.exception.BusinessException;
+import com.backend.common.exception.ErrorCode;
+import com.backend.common.exception.PaymentAlreadyProcessedException;
+import com.backend.dto.payment.response.PaymentGatewayStatsResponse;
+import com.backend.util.CircuitBreaker;
+import io.netty.channel.ChannelOption;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ReactorClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Toss Payments API 클라이언트.
+ *
+ * <p>요청마다 RestTemplate(SimpleClientHttpRequestFactory)을 만들던 방식 대신 애플리케이션 수명 동안 1개를 재사용한다.
+ * <ul>
+ *   <li>연결: Reactor Netty 커넥션 풀 (keep-alive + TLS 세션 재사용), 풀 크기/유휴 시간/연결·읽기 타임아웃 명시</li>
+ *   <li>서킷 브레이커: 네트워크 오류·타임아웃·5xx가 연속되면 일정 시간 호출 없이 즉시 실패
+ *       (Toss 장애 시 요청 스레드가 읽기 타임아웃만큼 묶이지 않도록). 4xx 업무 오류는 실패로 세지 않는다</li>
+ *   <li>통계: 엔드포인트별 호출 수/실패 수/지연 분위수 ({@link #stats()})</li>
+ *   <li>결과 불명: 타임아웃/5xx는 Toss 측 승인 여부를 알 수 없으므로 SHOP_PAYMENT_CONFIRM_UNKNOWN으로 구분한다
+ *       (호출부는 실패로 확정하지 않고 {@link #getPayment(String)} 조회로 결과를 확인)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class TossPaymentsClient implements DisposableBean {
+
+    static final String CONFIRM_ENDPOINT = "/v1/payments/confirm";
+    static final String PAYMENT_ENDPOINT = "/v1/payments/{paymentKey}";
+
+    private final String baseUrl;
+    private final String authorization;
+    private final ConnectionProvider connectionProvider;
+    private final RestTemplate restTemplate;
+    private final CircuitBreaker circuitBreaker;
+    private final Map<String, GatewayLatencyStats> latencyStats = new ConcurrentHashMap<>();
+
+    public TossPaymentsClient(@Value("${toss.payments.api-base-url:https://api.tosspayments.com}") String baseUrl,
+                              @Value("${toss.payments.secret-key:}") String secretKey,
+                              @Value("${toss.payments.client.connect-timeout:PT3S}") Duration connectTimeout,
+                              @Value("${toss.payments.client.read-timeout:PT30S}") Duration readTimeout,
+                              @Value("${toss.payments.client.max-connections:50}") int maxConnections,
+                              @Value("${toss.payments.client.max-idle-time:PT30S}") Duration maxIdleTime,
+                              @Value("${toss.payments.circuit.failure-threshold:5}") int failureThreshold,
+                              @Value("${toss.payments.circuit.open-duration:PT30S}") Duration openDuration) {
+        this.baseUrl = baseUrl;
+        this.authorization = (secretKey == null || secretKey.isBlank())
+                ? null
+                : "Basic " + Base64.getEncoder().encodeToString((secretKey + ":").getBytes(StandardCharsets.UTF_8));
+
+        this.connectionProvider = ConnectionProvider.builder("toss-payments")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(connectTimeout)
+                .maxIdleTime(maxIdleTime)
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .responseTimeout(readTimeout)
+                .keepAlive(true);
+        ReactorClientHttpRequestFactory requestFactory = new ReactorClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+        this.restTemplate = new RestTemplate(requestFactory);
+
+        this.circuitBreaker = new CircuitBreaker("toss-payments", failureThreshold, openDuration);
+    }
+
+    /**
+     * 결제 승인 (POST /v1/payments/confirm)
+     *
+     * @return Toss 응답 원문 (JSON)
+     * @throws PaymentAlreadyProcessedException ALREADY_PROCESSED_PAYMENT
+     * @throws BusinessException SHOP_PAYMENT_PROCESSING_RETRY(S008), SHOP_PAYMENT_GATEWAY_UNAVAILABLE(서킷 OPEN),
+     *                           SHOP_PAYMENT_CONFIRM_UNKNOWN(타임아웃/5xx, 승인 여부 불명),
+     *                           SHOP_PAYMENT_CONFIRM_FAILED(그 외)
+     */
+    public String confirm(String paymentKey, String orderId, Long amount) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("paymentKey", paymentKey);
+        body.put("orderId", orderId);
+        body.put("amount", amount);
+        return call(HttpMethod.POST, CONFIRM_ENDPOINT, body, orderId);
+    }
+
+    /**
+     * 결제 조회 (GET /v1/payments/{paymentKey}). 승인 결과가 불명확한 주문의 복구용.
+     *
+     * @return Toss 응답 원문 (JSON). 해당 paymentKey의 결제가 없으면(404) empty
+     */
+    public Optional<String> getPayment(String paymentKey) {
+        return Optional.ofNullable(call(HttpMethod.GET, PAYMENT_ENDPOINT, null, paymentKey, paymentKey));
+    }
+
+    public PaymentGatewayStatsResponse stats() {
+        List<PaymentGatewayStatsResponse.EndpointStats> endpoints = latencyStats.values().stream()
+                .map(GatewayLatencyStats::snapshot)
+                .toList();
+        return PaymentGatewayStatsResponse.builder()
+                .circuitState(circuitBreaker.getState().name())
+                .circuitOpenCount(circuitBreaker.getOpenCount())
+                .circuitRejected(circuitBreaker.getRejectedCount())
+                .endpoints(endpoints)
+                .build();
+    }
+
+    CircuitBreaker.State circuitState() {
+        return circuitBreaker.getState();
+    }
+
+    @Override
+    public void destroy() {
+        connectionProvider.dispose();
+    }
+
+    /**
+     * @param endpoint     URI 템플릿 (통계 키로도 사용)
+     * @param logKey       로그용 식별자 (orderId 또는 paymentKey)
+     * @param uriVariables endpoint 템플릿 변수
+     * @return 응답 원문. GET 404는 null
+     */
+    private String call(HttpMethod method, String endpoint, Map<String, Object> body, String logKey,
+                        Object... uriVariables) {
+        if (authorization == null) {
+            throw new BusinessException(ErrorCode.SHOP_PAYMENT_CONFIG_NOT_FOUND);
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            log.warn("Toss API call rejected: circuit open. endpoint={}, key={}", endpoint, logKey);
+            throw new BusinessException(ErrorCode.SHOP_PAYMENT_GATEWAY_UNAVAILABLE);
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        if (body != null) {
+            headers.setContentType(MediaType.APPLICATION_JSON);
+        }
+        headers.set(HttpHeaders.AUTHORIZATION, authorization);
+
+        long startedAt = System.nanoTime();
+        boolean gatewayFailure = true;
+        try {
+            ResponseEntity<String> response = restTemplate.exchange(
+                    baseUrl + endpoint, method, new HttpEntity<>(body, headers), String.class, uriVariables);
+            gatewayFailure = false;
+            if (!response.getStatusCode().is2xxSuccessful()) {
+                log.error("Toss API response not successful. endpoint={}, status={}, body={}",
+                        endpoint, response.getStatusCode(), response.getBody());
+                throw new BusinessException(ErrorCode.SHOP_PAYMENT_CONFIRM_FAILED, response.getStatusCode());
+            }
+            return response.getBody();
+        } catch (HttpClientErrorException.NotFound e) {
+            gatewayFailure = false;
+            if (method == HttpMethod.GET) {
+                return null;
+            }
+            log.error("Toss API call failed. endpoint={}, key={}, msg={}", endpoint, logKey, describe(e), e);
+            throw new BusinessException(ErrorCode.SHOP_PAYMENT_CONFIRM_FAILED, e.getMessage());
+        } catch (RestClientException e) {
+            String msg = describe(e);
+            boolean processing = isProcessing(msg);
+            boolean ambiguous = e instanceof ResourceAccessException || e instanceof HttpServerErrorException;
+            // 네트워크 오류/타임아웃/5xx만 장애로 본다 (S008은 Toss가 정상 응답한 재시도 안내)
+            gatewayFailure = !processing && ambiguous;
+            log.error("Toss API call failed. endpoint={}, key={}, msg={}", endpoint, logKey, msg, e);
+            if (msg.contains("ALREADY_PROCESSED_PAYMENT") || msg.contains("이미 처리된 결제")) {
+                throw new PaymentAlreadyProcessedException(logKey);
+            }
+            if (processing) {
+                throw new BusinessException(ErrorCode.SHOP_PAYMENT_PROCESSING_RETRY);
+            }
+            if (ambiguous) {
+                // 요청이 Toss에 도달해 처리되었을 수 있음 → 실패로 확정하지 않는다
+                throw new BusinessException(ErrorCode.SHOP_PAYMENT_CONFIRM_UNKNOWN, e);
+            }
+            throw new BusinessException(ErrorCode.SHOP_PAYMENT_CONFIRM_FAILED, e.getMessage());
+        } finally {
+            long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+            latencyStats.computeIfAbsent(endpoint, GatewayLatencyStats::new).record(elapsedMillis, gatewayFailure);
+            if (gatewayFailure) {
+                circuitBreaker.onFailure();
+            } else {
+                circuitBreaker.onSuccess();
+            }
+        }
+    }
+
+    private static String describe(RestClientException e) {
+        String msg = e.getMessage() != null ? e.getMessage() : "";
+        if (e instanceof HttpStatusCodeException hex) {
+            String responseBody = hex.getResponseBodyAsString();
+            if (responseBody != null) {
+                msg = msg + " " + responseBody;
+            }
+        }
+        return msg;
+    }
+
+    private static boolean isProcessing(String msg) {
+        return msg.contains("S008") || msg.contains("기존 요청을 처리중")
+                || msg.contains("FAILED_PAYMENT_INTERNAL_SYSTEM_PROCESSING");
+    }
+}
@@ -0,0 +1,91 @@
+package com.backend.service.shop;
+
+import com.backend.domain.shop.Category;
+import com.backend.domain.shop.CategoryType;
+import com.backend.dto.shop.response.CategoryResponse;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카테고리 트리 불변 스냅샷.
+ *
+ * <p>카테고리는 수가 적고 거의 바뀌지 않으므로 전체를 메모리에 올려두고,
+ * 응답 렌더링(CategoryResponse) 시 카테고리 엔티티 지연 로딩 없이 id로 바로 조회한다.
+ * 변경 시에는 새 스냅샷을 만들어 통째로 교체한다 (읽기 쪽 동기화 불필요).
+ */
+public final class CategoryTree {
+
+    public static final CategoryTree EMPTY = new CategoryTree(Map.of(), List.of());
+
+    private final Map<Long, Node> nodes;
+    private final List<Long> rootIds;
+
+    private CategoryTree(Map<Long, Node> nodes, List<Long> rootIds) {
+        this.nodes = nodes;
+        this.rootIds = rootIds;
+    }
+
+    public static CategoryTree of(List<Category> categories) {
+        Map<Long, Long> parentById = new HashMap<>();
+        Map<Long, List<Category>> childrenByParentId = new HashMap<>();
+        List<Category> roots = new ArrayList<>();
+        for (Category c : categories) {
+            Long parentId = c.getParent() != null ? c.getParent().getId() : null;
+            parentById.put(c.getId(), parentId);
+            if (parentId == null) {
+                roots.add(c);
+            } else {
+                childrenByParentId.computeIfAbsent(parentId, k -> new ArrayList<>()).add(c);
+            }
+        }
+
+        Comparator<Category> order = Comparator.comparing(Category::getSortOrder).thenComparing(Category::getId);
+        Map<Long, Node> nodes = new HashMap<>();
+        for (Category c : categories) {
+            List<Long> childIds = childrenByParentId.getOrDefault(c.getId(), List.of()).stream()
+                    .sorted(order)
+                    .map(Category::getId)
+                    .toList();
+            nodes.put(c.getId(), new Node(c.getId(), c.getCategoryType(), parentById.get(c.getId()),
+                    c.getSortOrder(), childIds));
+        }
+        List<Long> rootIds = roots.stream().sorted(order).map(Category::getId).toList();
+        return new CategoryTree(Collections.unmodifiableMap(nodes), rootIds);
+    }
+
+    public Node get(Long categoryId) {
+        return nodes.get(categoryId);
+    }
+
+    public List<Long> getRootIds() {
+        return rootIds;
+    }
+
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * @return 스냅샷에 없는 id(방금 생성되어 아직 반영 전 등)면 null
+     */
+    public CategoryResponse toResponse(Long categoryId) {
+        Node node = nodes.get(categoryId);
+        if (node == null) {
+            return null;
+        }
+        return CategoryResponse.builder()
+                .id(node.id())
+                .name(node.categoryType().getDisplayName())
+                .categoryType(node.categoryType().name())
+                .parentId(node.parentId())
+                .build();
+    }
+
+    public record Node(Long id, CategoryType categoryType, Long parentId, int sortOrder, List<Long> childIds) {
+    }
+}
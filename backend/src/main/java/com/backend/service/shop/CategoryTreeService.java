@@ -0,0 +1,26 @@
+package com.backend.service.shop;
+
+import com.backend.domain.shop.Category;
+
+/**
+ * 카테고리 계층 유지 서비스 (클로저 테이블 + 인메모리 트리 스냅샷)
+ */
+public interface CategoryTreeService {
+
+    /**
+     * 현재 트리 스냅샷 (불변)
+     */
+    CategoryTree getTree();
+
+    /**
+     * 카테고리 생성 직후 호출. 클로저 경로를 추가하고 커밋 이후 스냅샷을 갱신한다.
+     * 호출자 트랜잭션에 참여한다.
+     */
+    void onCategoryCreated(Category category);
+
+    /**
+     * 부모 변경/삭제 등 구조 변경 후, 또는 서비스 밖에서 카테고리를 바꾼 뒤(관리자 API) 호출.
+     * 클로저 전체를 parent_id 기준으로 재생성한다.
+     */
+    void rebuild();
+}
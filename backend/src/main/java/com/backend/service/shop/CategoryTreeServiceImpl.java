@@ -0,0 +1,68 @@
+package com.backend.service.shop;
+
+import com.backend.domain.shop.Category;
+import com.backend.repository.shop.CategoryClosureRepository;
+import com.backend.repository.shop.CategoryRepository;
+import com.backend.util.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CategoryTreeServiceImpl implements CategoryTreeService {
+
+    private final CategoryRepository categoryRepository;
+    private final CategoryClosureRepository categoryClosureRepository;
+
+    private volatile CategoryTree tree = CategoryTree.EMPTY;
+
+    /**
+     * 기동 시 클로저 백필(비어 있거나 카테고리와 어긋난 경우) 후 스냅샷 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initialize() {
+        long categoryCount = categoryRepository.count();
+        long selfPathCount = categoryClosureRepository.countSelfPaths();
+        if (selfPathCount != categoryCount) {
+            rebuildPaths();
+            log.info("Category closure rebuilt on startup: categories={}", categoryCount);
+        }
+        reloadSnapshot();
+    }
+
+    @Override
+    public CategoryTree getTree() {
+        return tree;
+    }
+
+    @Override
+    @Transactional
+    public void onCategoryCreated(Category category) {
+        Long parentId = category.getParent() != null ? category.getParent().getId() : null;
+        categoryClosureRepository.insertPaths(category.getId(), parentId);
+        TransactionCallbacks.afterCommit(this::reloadSnapshot);
+    }
+
+    @Override
+    @Transactional
+    public void rebuild() {
+        rebuildPaths();
+        TransactionCallbacks.afterCommit(this::reloadSnapshot);
+    }
+
+    private void rebuildPaths() {
+        categoryClosureRepository.deleteAllPaths();
+        categoryClosureRepository.insertAllPathsFromParents();
+    }
+
+    private void reloadSnapshot() {
+        tree = CategoryTree.of(categoryRepository.findAll());
+        log.debug("Category tree snapshot reloaded: size={}", tree.size());
+    }
+}
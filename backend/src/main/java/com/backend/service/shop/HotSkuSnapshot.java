@@ -0,0 +1,13 @@
+package com.backend.service.shop;
+
+/**
+ * Redis 핫 SKU 재고 카운터 스냅샷.
+ *
+ * @param retired 핫 SKU 모드 해제 대상의 마지막 스냅샷 여부 (DB 반영이 커밋되면 Redis 카운터 삭제)
+ */
+public record HotSkuSnapshot(Long variantId, int stockQty, int reservedQty, boolean retired) {
+
+    public int availableQty() {
+        return Math.max(stockQty - reservedQty, 0);
+    }
+}
@@ -0,0 +1,87 @@
+package com.backend.service.shop;
+
+import com.backend.util.RedisJobLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 핫 SKU 재고 카운터 write-behind 반영 작업.
+ *
+ * <p>주기마다 변경된(dirty) 카운터만 스냅샷으로 떼어 product_variants에 절대값(stock_qty, reserved_qty)으로 일괄 기록한다.
+ * 절대값 기록이라 같은 스냅샷을 다시 써도 결과가 같고, 반영이 실패하면 스냅샷을 dirty로 되돌려 다음 주기에 재시도한다.
+ * 핫 SKU의 DB 행은 hot_sku 플래그로 DB 경로 UPDATE가 막혀 이 작업만 쓰므로 Redis 락으로 클러스터 내 1개 노드만 실행한다.
+ * 해제 대상은 플래그 해제까지 커밋된 뒤에 카운터를 삭제해, 그 전까지 DB 경로가 열리지 않게 한다.
+ */
+@Slf4j
+@Component
+public class HotSkuStockReconciler {
+
+    private static final String JOB_NAME = "hot-sku-flush";
+
+    private final HotSkuStockStore hotSkuStockStore;
+    private final HotSkuStockService hotSkuStockService;
+    private final RedisJobLock redisJobLock;
+    private final Duration lockTtl;
+
+    public HotSkuStockReconciler(HotSkuStockStore hotSkuStockStore,
+                                 HotSkuStockService hotSkuStockService,
+                                 RedisJobLock redisJobLock,
+                                 @Value("${shop.hot-sku.flush-lock-ttl:PT30S}") Duration lockTtl) {
+        this.hotSkuStockStore = hotSkuStockStore;
+        this.hotSkuStockService = hotSkuStockService;
+        this.redisJobLock = redisJobLock;
+        this.lockTtl = lockTtl;
+    }
+
+    @Scheduled(fixedDelayString = "${shop.hot-sku.flush-interval:PT1S}")
+    public void flush() {
+        Set<Long> hotVariantIds = hotSkuStockStore.hotVariantIds();
+        if (hotVariantIds.isEmpty()) {
+            return;
+        }
+        Optional<String> lockToken = redisJobLock.tryLock(JOB_NAME, lockTtl);
+        if (lockToken.isEmpty()) {
+            return;
+        }
+        try {
+            List<HotSkuSnapshot> snapshots = new ArrayList<>();
+            for (Long variantId : hotVariantIds) {
+                hotSkuStockStore.snapshotIfDirty(variantId).ifPresent(snapshots::add);
+            }
+            if (snapshots.isEmpty()) {
+                return;
+            }
+            try {
+                hotSkuStockService.persist(snapshots);
+            } catch (Exception e) {
+                log.warn("Hot SKU flush failed, will retry: variants={}, msg={}", snapshots.size(), e.getMessage(), e);
+                snapshots.forEach(hotSkuStockStore::restore);
+                return;
+            }
+            snapshots.stream()
+                    .filter(HotSkuSnapshot::retired)
+                    .forEach(this::drop);
+        } finally {
+            redisJobLock.unlock(JOB_NAME, lockToken.get());
+        }
+    }
+
+    private void drop(HotSkuSnapshot snapshot) {
+        try {
+            hotSkuStockStore.drop(snapshot);
+            log.info("Hot SKU disabled: variantId={}, stockQty={}, reservedQty={}",
+                    snapshot.variantId(), snapshot.stockQty(), snapshot.reservedQty());
+        } catch (Exception e) {
+            // DB는 이미 기준이 됐으므로 남은 카운터는 frozen 상태로 주문을 받지 않는다
+            log.error("Hot SKU counter drop failed: variantId={}", snapshot.variantId(), e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.backend.service.shop;
+
+import com.backend.dto.shop.response.HotSkuStockResponse;
+
+import java.util.List;
+
+/**
+ * 핫 SKU(Redis 재고 카운터) 운영 서비스
+ */
+public interface HotSkuStockService {
+
+    /**
+     * 옵션을 핫 SKU로 지정한다. 옵션 행을 잠근 상태에서 현재 재고/예약 수량으로 Redis 카운터를 만들고
+     * 같은 트랜잭션에서 hot_sku 플래그를 켜, 이후 DB 경로의 재고 UPDATE가 이 행을 건드리지 않게 한다.
+     * 이미 지정된 옵션이면 카운터를 다시 만들지 않는다.
+     */
+    HotSkuStockResponse enable(Long variantId);
+
+    /**
+     * 핫 SKU 지정을 해제한다. 다음 반영 주기에 마지막 카운터 값과 플래그 해제가 DB에 기록된 뒤 카운터가 삭제된다.
+     */
+    void disable(Long variantId);
+
+    /**
+     * Redis 카운터 스냅샷을 product_variants에 절대값으로 기록한다 (독립 트랜잭션, 배치 UPDATE 1회).
+     * 해제 스냅샷은 같은 UPDATE에서 hot_sku 플래그를 내린다.
+     */
+    void persist(List<HotSkuSnapshot> snapshots);
+}
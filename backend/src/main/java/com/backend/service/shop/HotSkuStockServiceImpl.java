@@ -0,0 +1,106 @@
+package com.backend.service.shop;
+
+import com.backend.common.exception.BusinessException;
+import com.backend.common.exception.ErrorCode;
+import com.backend.dto.shop.response.HotSkuStockResponse;
+import com.backend.repository.shop.ProductRepository;
+import com.backend.repository.shop.ProductVariantRepository;
+import com.backend.repository.shop.ProductVariantStockWriter;
+import com.backend.repository.shop.VariantStockProjection;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class HotSkuStockServiceImpl implements HotSkuStockService {
+
+    private final HotSkuStockStore hotSkuStockStore;
+    private final ProductVariantRepository productVariantRepository;
+    private final ProductVariantStockWriter productVariantStockWriter;
+    private final ProductRepository productRepository;
+    private final ProductDetailCache productDetailCache;
+
+    @Override
+    @Transactional
+    public HotSkuStockResponse enable(Long variantId) {
+        // 카운터를 만드는 동안 DB 경로의 예약/차감이 끼어들지 않도록 옵션 행을 잠근다
+        List<VariantStockProjection> locked = productVariantRepository.lockStockByIdIn(List.of(variantId));
+        if (locked.isEmpty()) {
+            throw new BusinessException(ErrorCode.SHOP_VARIANT_NOT_FOUND, variantId);
+        }
+        VariantStockProjection variant = locked.get(0);
+        // 플래그와 카운터를 같은 트랜잭션에서 켠다. 행 잠금을 기다리던 DB 경로 UPDATE는 커밋 후 플래그를 보고 0건이 된다
+        productVariantRepository.updateHotSku(variantId, true);
+        long seeded = hotSkuStockStore.seed(variantId, variant.getStockQty(), variant.getReservedQty());
+        if (seeded == HotSkuStockStore.BUSY) {
+            throw new BusinessException(ErrorCode.SHOP_VARIANT_STOCK_BUSY, variantId);
+        }
+        if (seeded == 1L) {
+            log.info("Hot SKU enabled: variantId={}, stockQty={}, reservedQty={}",
+                    variantId, variant.getStockQty(), variant.getReservedQty());
+        }
+        long available = hotSkuStockStore.available(variantId);
+        return HotSkuStockResponse.builder()
+                .variantId(variantId)
+                .stockQty(variant.getStockQty())
+                .reservedQty(variant.getReservedQty())
+                .availableQty((int) Math.max(available, 0))
+                .build();
+    }
+
+    @Override
+    @Transactional
+    public void disable(Long variantId) {
+        if (hotSkuStockStore.retire(variantId)) {
+            log.info("Hot SKU disable requested: variantId={}", variantId);
+            return;
+        }
+        // 카운터 없이 플래그만 남은 경우 (Redis 데이터 유실 등): DB 값을 기준으로 플래그만 내린다
+        List<VariantStockProjection> locked = productVariantRepository.lockStockByIdIn(List.of(variantId));
+        if (locked.isEmpty() || !Boolean.TRUE.equals(locked.get(0).getHotSku())) {
+            return;
+        }
+        if (hotSkuStockStore.retire(variantId)) {
+            log.info("Hot SKU disable requested: variantId={}", variantId);
+            return;
+        }
+        productVariantRepository.updateHotSku(variantId, false);
+        log.warn("Hot SKU flag cleared without counter: variantId={}", variantId);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void persist(List<HotSkuSnapshot> snapshots) {
+        if (snapshots.isEmpty()) {
+            return;
+        }
+        Map<Long, Integer> stockByVariantId = new HashMap<>();
+        Map<Long, Integer> reservedByVariantId = new HashMap<>();
+        Set<Long> retiredVariantIds = new HashSet<>();
+        for (HotSkuSnapshot snapshot : snapshots) {
+            stockByVariantId.put(snapshot.variantId(), snapshot.stockQty());
+            reservedByVariantId.put(snapshot.variantId(), snapshot.reservedQty());
+            if (snapshot.retired()) {
+                retiredVariantIds.add(snapshot.variantId());
+            }
+        }
+        productVariantStockWriter.overwriteStock(stockByVariantId, reservedByVariantId, retiredVariantIds);
+
+        List<Long> productIds = productVariantRepository.findProductIdsByIdIn(stockByVariantId.keySet());
+        if (!productIds.isEmpty()) {
+            productRepository.refreshInStockByIdIn(productIds);
+            productIds.forEach(productDetailCache::invalidate);
+        }
+    }
+}
@@ -0,0 +1,373 @@
+package com.backend.service.shop;
+
+import com.backend.repository.shop.ProductVariantStockWriter;
+import com.backend.util.TransactionCallbacks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 핫 SKU(한정 판매 등 주문이 몰리는 옵션) 재고 Redis 카운터.
+ *
+ * <p>핫 SKU로 지정된 옵션은 판매 가능 수량 판단의 기준이 product_variants 행이 아니라 이 카운터가 된다.
+ * 예약/차감/해제를 Lua 스크립트 1회로 원자 처리하므로 DB 행 잠금 대기 없이 Redis 처리량만큼 주문을 받는다.
+ * <ul>
+ *   <li>키: {@code stock:sku:{variantId}} 해시 (stock, reserved, dirty, retire, frozen), 핫 SKU 목록: {@code stock:sku:hot} 셋</li>
+ *   <li>DB 반영: {@link HotSkuStockReconciler}가 dirty 카운터의 절대값을 주기적으로 일괄 기록 (write-behind)</li>
+ *   <li>DB 경로 차단: product_variants.hot_sku가 켜진 행은 DB 경로의 재고 UPDATE가 0건이 되어 write-behind 값과 섞이지 않는다</li>
+ *   <li>지정/해제 전환: DB 플래그가 커밋될 때까지 카운터를 frozen으로 두어 예약/차감을 받지 않는다 (-2, 잠시 재시도)</li>
+ *   <li>트랜잭션: 카운터는 즉시 바뀌므로, 호출 트랜잭션이 롤백되면 반대 방향 조정을 실행해 되돌린다</li>
+ *   <li>모든 스크립트는 키가 없으면 -1 → 호출부는 DB 경로로 처리 (해제 직후 등)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class HotSkuStockStore {
+
+    static final long MISSING = -1L;
+    static final long BUSY = -2L;
+
+    private static final String KEY_PREFIX = "stock:sku:";
+    private static final String HOT_SET_KEY = "stock:sku:hot";
+    private static final long BUSY_POLL_MILLIS = 10L;
+
+    // 가용 수량(stock - reserved)이 need 이상일 때만 조정
+    private static final RedisScript<Long> TAKE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('exists', KEYS[1]) == 0 then return -1 end
+            if redis.call('hget', KEYS[1], 'frozen') == '1' then return -2 end
+            local stock = tonumber(redis.call('hget', KEYS[1], 'stock'))
+            local reserved = tonumber(redis.call('hget', KEYS[1], 'reserved'))
+            if stock - reserved < tonumber(ARGV[1]) then return 0 end
+            redis.call('hincrby', KEYS[1], 'stock', ARGV[2])
+            redis.call('hincrby', KEYS[1], 'reserved', ARGV[3])
+            redis.call('hset', KEYS[1], 'dirty', '1')
+            return 1
+            """, Long.class);
+
+    // 무조건 조정 (예약 전환/해제)
+    private static final RedisScript<Long> ADJUST_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('exists', KEYS[1]) == 0 then return -1 end
+            if redis.call('hget', KEYS[1], 'frozen') == '1' then return -2 end
+            redis.call('hincrby', KEYS[1], 'stock', ARGV[1])
+            if redis.call('hincrby', KEYS[1], 'reserved', ARGV[2]) < 0 then
+                redis.call('hset', KEYS[1], 'reserved', '0')
+            end
+            redis.call('hset', KEYS[1], 'dirty', '1')
+            return 1
+            """, Long.class);
+
+    // 롤백 보상: 이미 반영된 조정을 되돌리는 것이라 frozen이어도 적용 (해제 중이면 drop에서 차이를 DB로 넘김)
+    private static final RedisScript<Long> COMPENSATE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('exists', KEYS[1]) == 0 then return -1 end
+            redis.call('hincrby', KEYS[1], 'stock', ARGV[1])
+            if redis.call('hincrby', KEYS[1], 'reserved', ARGV[2]) < 0 then
+                redis.call('hset', KEYS[1], 'reserved', '0')
+            end
+            redis.call('hset', KEYS[1], 'dirty', '1')
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> AVAILABLE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('exists', KEYS[1]) == 0 then return -1 end
+            local available = tonumber(redis.call('hget', KEYS[1], 'stock')) - tonumber(redis.call('hget', KEYS[1], 'reserved'))
+            if available < 0 then return 0 end
+            return available
+            """, Long.class);
+
+    // KEYS[1]=카운터, KEYS[2]=핫 SKU 셋, ARGV: stock, reserved, variantId
+    // 새 카운터는 frozen으로 만들고 지정 트랜잭션 커밋 후 풀어 준다. 이미 있으면 해제 요청만 취소 (해제 반영 중이면 -2)
+    private static final RedisScript<Long> SEED_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('exists', KEYS[1]) == 1 then
+                if redis.call('hget', KEYS[1], 'frozen') == '1' then
+                    if redis.call('hget', KEYS[1], 'retire') then return -2 end
+                    redis.call('hdel', KEYS[1], 'frozen')
+                end
+                redis.call('hdel', KEYS[1], 'retire')
+                redis.call('sadd', KEYS[2], ARGV[3])
+                return 0
+            end
+            redis.call('hset', KEYS[1], 'stock', ARGV[1], 'reserved', ARGV[2], 'dirty', '0', 'frozen', '1')
+            redis.call('sadd', KEYS[2], ARGV[3])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> UNFREEZE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('exists', KEYS[1]) == 0 then return 0 end
+            redis.call('hdel', KEYS[1], 'frozen')
+            return 1
+            """, Long.class);
+
+    // 지정 트랜잭션 롤백: 아직 frozen인 (주문을 한 건도 받지 않은) 카운터만 삭제
+    private static final RedisScript<Long> DISCARD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('hget', KEYS[1], 'frozen') ~= '1' then return 0 end
+            redis.call('del', KEYS[1])
+            redis.call('srem', KEYS[2], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> RETIRE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('exists', KEYS[1]) == 0 then return 0 end
+            redis.call('hset', KEYS[1], 'retire', '1')
+            return 1
+            """, Long.class);
+
+    // 반영 실패: frozen 해제 + 다시 dirty (retire 요청은 그대로 남아 다음 주기에 재시도)
+    private static final RedisScript<Long> RESTORE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('exists', KEYS[1]) == 0 then return 0 end
+            redis.call('hdel', KEYS[1], 'frozen')
+            redis.call('hset', KEYS[1], 'dirty', '1')
+            return 1
+            """, Long.class);
+
+    // dirty/retire 카운터만 {stock, reserved, retired} 반환 후 dirty 해제. retire면 DB 반영이 커밋될 때까지 frozen
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SNAPSHOT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('exists', KEYS[1]) == 0 then
+                redis.call('srem', KEYS[2], ARGV[1])
+                return {}
+            end
+            if redis.call('hget', KEYS[1], 'frozen') == '1' then return {} end
+            local retire = redis.call('hget', KEYS[1], 'retire')
+            if redis.call('hget', KEYS[1], 'dirty') ~= '1' and not retire then return {} end
+            local stock = tonumber(redis.call('hget', KEYS[1], 'stock'))
+            local reserved = tonumber(redis.call('hget', KEYS[1], 'reserved'))
+            redis.call('hset', KEYS[1], 'dirty', '0')
+            if retire then
+                redis.call('hset', KEYS[1], 'frozen', '1')
+                return {stock, reserved, 1}
+            end
+            return {stock, reserved, 0}
+            """, List.class);
+
+    // 해제 반영 커밋 후 카운터 삭제, 삭제 직전 값 {stock, reserved} 반환 (스냅샷 이후 들어온 롤백 보상 확인용)
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> DROP_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('srem', KEYS[2], ARGV[1])
+            if redis.call('exists', KEYS[1]) == 0 then return {} end
+            local stock = tonumber(redis.call('hget', KEYS[1], 'stock'))
+            local reserved = tonumber(redis.call('hget', KEYS[1], 'reserved'))
+            redis.call('del', KEYS[1])
+            return {stock, reserved}
+            """, List.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ProductVariantStockWriter productVariantStockWriter;
+    private final Duration busyWait;
+
+    public HotSkuStockStore(RedisTemplate<String, Object> redisTemplate,
+                            ProductVariantStockWriter productVariantStockWriter,
+                            @Value("${shop.hot-sku.busy-wait:PT0.1S}") Duration busyWait) {
+        this.redisTemplate = redisTemplate;
+        this.productVariantStockWriter = productVariantStockWriter;
+        this.busyWait = busyWait;
+    }
+
+    /**
+     * 주어진 옵션 중 핫 SKU로 지정된 것 (SMISMEMBER 1회)
+     */
+    public Set<Long> filterHot(Collection<Long> variantIds) {
+        if (variantIds.isEmpty()) {
+            return Set.of();
+        }
+        Map<Object, Boolean> members = redisTemplate.opsForSet().isMember(HOT_SET_KEY, variantIds.toArray());
+        Set<Long> hot = new HashSet<>();
+        if (members != null) {
+            members.forEach((id, member) -> {
+                if (Boolean.TRUE.equals(member)) {
+                    hot.add(((Number) id).longValue());
+                }
+            });
+        }
+        return hot;
+    }
+
+    public Set<Long> hotVariantIds() {
+        Set<Object> members = redisTemplate.opsForSet().members(HOT_SET_KEY);
+        Set<Long> ids = new HashSet<>();
+        if (members != null) {
+            members.forEach(id -> ids.add(((Number) id).longValue()));
+        }
+        return ids;
+    }
+
+    /**
+     * 예약: 가용 수량이 충분하면 reserved += qty
+     *
+     * @return 1 성공, 0 재고 부족, -1 핫 SKU 아님, -2 지정/해제 전환 중
+     */
+    public long reserve(Long variantId, int qty) {
+        long result = executeWhenReady(TAKE_SCRIPT, variantId, qty, 0, qty);
+        if (result == 1L) {
+            compensateOnRollback(variantId, 0, -qty);
+        }
+        return result;
+    }
+
+    /**
+     * 예약 없는 판매: 가용 수량이 충분하면 stock -= qty
+     *
+     * @return 1 성공, 0 재고 부족, -1 핫 SKU 아님, -2 지정/해제 전환 중
+     */
+    public long sell(Long variantId, int qty) {
+        long result = executeWhenReady(TAKE_SCRIPT, variantId, qty, -qty, 0);
+        if (result == 1L) {
+            compensateOnRollback(variantId, qty, 0);
+        }
+        return result;
+    }
+
+    /**
+     * 예약 → 판매 전환: stock, reserved 함께 차감
+     *
+     * @return 1 성공, -1 핫 SKU 아님, -2 지정/해제 전환 중
+     */
+    public long commitReserved(Long variantId, int qty) {
+        long result = executeWhenReady(ADJUST_SCRIPT, variantId, -qty, -qty);
+        if (result == 1L) {
+            compensateOnRollback(variantId, qty, qty);
+        }
+        return result;
+    }
+
+    /**
+     * 예약 해제: reserved -= qty
+     *
+     * @return 1 성공, -1 핫 SKU 아님, -2 지정/해제 전환 중
+     */
+    public long releaseReserved(Long variantId, int qty) {
+        long result = executeWhenReady(ADJUST_SCRIPT, variantId, 0, -qty);
+        if (result == 1L) {
+            compensateOnRollback(variantId, 0, qty);
+        }
+        return result;
+    }
+
+    /**
+     * @return 판매 가능 수량, 핫 SKU가 아니면 -1
+     */
+    public long available(Long variantId) {
+        return execute(AVAILABLE_SCRIPT, variantId);
+    }
+
+    /**
+     * 핫 SKU 지정: DB 값으로 카운터를 만든다 (이미 있으면 해제 요청만 취소).
+     * 호출 트랜잭션(핫 SKU 플래그를 켜는 트랜잭션)이 커밋되면 카운터를 열고, 롤백되면 삭제한다.
+     *
+     * @return 1 새로 만듦, 0 이미 있음, -2 해제 반영 중
+     */
+    public long seed(Long variantId, int stockQty, int reservedQty) {
+        Long result = redisTemplate.execute(SEED_SCRIPT, List.of(key(variantId), HOT_SET_KEY),
+                stockQty, reservedQty, variantId);
+        long seeded = result != null ? result : MISSING;
+        if (seeded == 1L) {
+            TransactionCallbacks.afterCommit(() -> execute(UNFREEZE_SCRIPT, variantId));
+            TransactionCallbacks.afterRollback(() ->
+                    redisTemplate.execute(DISCARD_SCRIPT, List.of(key(variantId), HOT_SET_KEY), variantId));
+        }
+        return seeded;
+    }
+
+    /**
+     * 핫 SKU 해제 요청: 다음 반영 주기에 마지막 값을 DB에 기록하고 카운터를 삭제한다
+     *
+     * @return 핫 SKU였으면 true
+     */
+    public boolean retire(Long variantId) {
+        return execute(RETIRE_SCRIPT, variantId) == 1L;
+    }
+
+    /**
+     * 반영 대상 스냅샷 (dirty 또는 retire 카운터만, dirty는 해제, retire는 frozen)
+     */
+    public Optional<HotSkuSnapshot> snapshotIfDirty(Long variantId) {
+        List<?> values = redisTemplate.execute(SNAPSHOT_SCRIPT, List.of(key(variantId), HOT_SET_KEY), variantId);
+        if (values == null || values.size() < 3) {
+            return Optional.empty();
+        }
+        return Optional.of(new HotSkuSnapshot(variantId,
+                ((Number) values.get(0)).intValue(),
+                ((Number) values.get(1)).intValue(),
+                ((Number) values.get(2)).intValue() == 1));
+    }
+
+    /**
+     * DB 반영 실패 시 스냅샷을 다시 반영 대상으로 되돌린다
+     */
+    public void restore(HotSkuSnapshot snapshot) {
+        execute(RESTORE_SCRIPT, snapshot.variantId());
+    }
+
+    /**
+     * 해제 스냅샷의 DB 반영(핫 SKU 플래그 해제 포함)이 커밋된 뒤 카운터를 삭제한다.
+     * 스냅샷 이후 카운터에 들어온 롤백 보상은 DB에 증감으로 넘긴다.
+     */
+    public void drop(HotSkuSnapshot snapshot) {
+        Long variantId = snapshot.variantId();
+        List<?> values = redisTemplate.execute(DROP_SCRIPT, List.of(key(variantId), HOT_SET_KEY), variantId);
+        if (values == null || values.size() < 2) {
+            return;
+        }
+        int stockDelta = ((Number) values.get(0)).intValue() - snapshot.stockQty();
+        int reservedDelta = ((Number) values.get(1)).intValue() - snapshot.reservedQty();
+        if (stockDelta != 0 || reservedDelta != 0) {
+            applyToDatabase(variantId, stockDelta, reservedDelta);
+        }
+    }
+
+    private void compensateOnRollback(Long variantId, int stockDelta, int reservedDelta) {
+        TransactionCallbacks.afterRollback(() -> {
+            try {
+                if (execute(COMPENSATE_SCRIPT, variantId, stockDelta, reservedDelta) == MISSING) {
+                    // 그 사이 핫 SKU가 해제되어 DB가 기준이 됨
+                    applyToDatabase(variantId, stockDelta, reservedDelta);
+                }
+            } catch (Exception e) {
+                log.error("Hot SKU rollback compensation failed: variantId={}, stockDelta={}, reservedDelta={}",
+                        variantId, stockDelta, reservedDelta, e);
+            }
+        });
+    }
+
+    private void applyToDatabase(Long variantId, int stockDelta, int reservedDelta) {
+        if (productVariantStockWriter.adjustStock(variantId, stockDelta, reservedDelta) == 0) {
+            log.error("Hot SKU stock adjustment not applied: variantId={}, stockDelta={}, reservedDelta={}",
+                    variantId, stockDelta, reservedDelta);
+        }
+    }
+
+    // 지정/해제 전환 중(frozen)이면 DB 플래그 커밋을 잠시 기다렸다 다시 시도
+    private long executeWhenReady(RedisScript<Long> script, Long variantId, Object... args) {
+        long deadline = System.nanoTime() + busyWait.toNanos();
+        long result = execute(script, variantId, args);
+        while (result == BUSY && System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(BUSY_POLL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return result;
+            }
+            result = execute(script, variantId, args);
+        }
+        return result;
+    }
+
+    private long execute(RedisScript<Long> script, Long variantId, Object... args) {
+        Long result = redisTemplate.execute(script, List.of(key(variantId)), args);
+        return result != null ? result : MISSING;
+    }
+
+    private static String key(Long variantId) {
+        return KEY_PREFIX + variantId;
+    }
+}
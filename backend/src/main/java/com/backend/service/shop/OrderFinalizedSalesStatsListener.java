@@ -0,0 +1,49 @@
+package com.backend.service.shop;
+
+import com.backend.domain.outbox.OutboxEvent;
+import com.backend.domain.outbox.OutboxEventType;
+import com.backend.service.outbox.OrderFinalizedPayload;
+import com.backend.service.outbox.OutboxEventListener;
+import com.backend.service.outbox.OutboxService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * 결제 후처리 완료(ORDER_FINALIZED) 시 판매량 집계 증분 반영.
+ * 증분과 오프셋 전진이 한 트랜잭션이라 같은 이벤트가 두 번 더해지지 않는다.
+ * 주기 재집계(ProductSalesStatsRebuildJob)는 이 소비자의 오프셋까지 반영된 주문만 세고,
+ * 둘 다 오프셋 행을 먼저 잠그므로 재집계 구간과 증분 반영이 겹치지 않는다. 건너뛴 이벤트의 오차는 재집계가 보정한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderFinalizedSalesStatsListener implements OutboxEventListener {
+
+    public static final String CONSUMER_NAME = "sales-stats";
+
+    private final ProductSalesStatsService productSalesStatsService;
+    private final OutboxService outboxService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String consumerName() {
+        return CONSUMER_NAME;
+    }
+
+    @Override
+    public Set<OutboxEventType> eventTypes() {
+        return Set.of(OutboxEventType.ORDER_FINALIZED);
+    }
+
+    @Override
+    public void handle(OutboxEvent event) throws Exception {
+        OrderFinalizedPayload payload = objectMapper.readValue(event.getPayload(), OrderFinalizedPayload.class);
+        if (payload.soldQtyByProductId() != null && !payload.soldQtyByProductId().isEmpty()) {
+            // 재집계와 같은 순서(오프셋 행 → 집계 행)로 잠가 교착을 피함
+            outboxService.lockOffset(CONSUMER_NAME);
+            productSalesStatsService.recordSales(payload.soldQtyByProductId());
+        }
+    }
+}
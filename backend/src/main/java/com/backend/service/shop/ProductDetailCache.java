@@ -0,0 +1,174 @@
+package com.backend.service.shop;
+
+import com.backend.dto.shop.response.ProductDetailCacheStatsResponse;
+import com.backend.dto.shop.response.ProductResponse;
+import com.backend.util.TransactionCallbacks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 조립된 상품 상세 응답(ProductResponse) 로컬 캐시.
+ *
+ * <ul>
+ *   <li>상품 ID 키, 용량 상한(LRU) + TTL 만료</li>
+ *   <li>상품/이미지/옵션 재고/리뷰 변경 지점에서 상품 단위로 무효화 (즉시 + 커밋 이후 한 번 더)</li>
+ *   <li>커밋 이후 무효화는 Redis pub/sub({@value #INVALIDATION_CHANNEL})으로 다른 노드에도 전파.
+ *       구독이 끊긴 동안 놓친 메시지는 TTL이 지나야 반영되므로 TTL이 노드 간 불일치의 상한이다</li>
+ *   <li>세대(generation) 값으로 "무효화 이전에 읽은 값"이 뒤늦게 저장되는 경합을 막는다</li>
+ *   <li>저장/반환 시 얕은 복사 → 호출부의 회원별 오버레이(canReview)가 캐시 원본을 오염시키지 않음</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class ProductDetailCache {
+
+    static final String INVALIDATION_CHANNEL = "cache:product-detail:invalidate";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final int maxSize;
+    private final long ttlMillis;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong generation = new AtomicLong();
+
+    // access-order LinkedHashMap = LRU, 모든 접근은 this 동기화
+    private final LinkedHashMap<Long, Entry> entries;
+
+    public ProductDetailCache(RedisTemplate<String, Object> redisTemplate,
+                              RedisMessageListenerContainer listenerContainer,
+                              @Value("${shop.product-cache.max-size:1000}") int maxSize,
+                              @Value("${shop.product-cache.ttl:PT5M}") Duration ttl) {
+        this.redisTemplate = redisTemplate;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl.toMillis();
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                if (size() > ProductDetailCache.this.maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+        listenerContainer.addMessageListener(this::onInvalidation, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * @return 캐시된 응답의 복사본, 없거나 만료되었으면 null
+     */
+    public ProductResponse get(Long productId) {
+        synchronized (this) {
+            Entry entry = entries.get(productId);
+            if (entry != null && entry.expiresAt > System.currentTimeMillis()) {
+                hits.incrementAndGet();
+                return copy(entry.response);
+            }
+            if (entry != null) {
+                entries.remove(productId);
+                evictions.incrementAndGet();
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * 조회 시작 전 세대 값. 조회 도중 무효화가 있었으면 {@link #put}이 무시된다.
+     */
+    public long currentGeneration() {
+        return generation.get();
+    }
+
+    public void put(Long productId, ProductResponse response, long generationAtLoad) {
+        if (productId == null || response == null || maxSize <= 0) {
+            return;
+        }
+        Entry entry = new Entry(copy(response), System.currentTimeMillis() + ttlMillis);
+        synchronized (this) {
+            if (generation.get() != generationAtLoad) {
+                return;
+            }
+            entries.put(productId, entry);
+        }
+    }
+
+    /**
+     * 상품 변경 시 무효화. 즉시 제거하고, 트랜잭션 안이면 커밋 이후에도 한 번 더 제거한다
+     * (커밋 전 다른 요청이 변경 전 데이터를 다시 채운 경우 대비). 커밋 이후 제거는 다른 노드에도 전파한다.
+     */
+    public void invalidate(Long productId) {
+        if (productId == null) {
+            return;
+        }
+        evict(productId);
+        TransactionCallbacks.afterCommit(() -> {
+            evict(productId);
+            broadcast(productId);
+        });
+    }
+
+    public ProductDetailCacheStatsResponse stats() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        long total = hitCount + missCount;
+        int size;
+        synchronized (this) {
+            size = entries.size();
+        }
+        return ProductDetailCacheStatsResponse.builder()
+                .size(size)
+                .maxSize(maxSize)
+                .hits(hitCount)
+                .misses(missCount)
+                .evictions(evictions.get())
+                .invalidations(invalidations.get())
+                .hitRatio(total > 0 ? (double) hitCount / total : 0.0)
+                .build();
+    }
+
+    private void broadcast(Long productId) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, productId);
+        } catch (RuntimeException e) {
+            log.warn("Product detail cache invalidation broadcast failed: productId={}, msg={}", productId, e.getMessage());
+        }
+    }
+
+    // 다른 노드(및 자기 자신)가 보낸 무효화. 자기 메시지는 이미 제거한 항목을 한 번 더 제거할 뿐이다
+    private void onInvalidation(Message message, byte[] pattern) {
+        Object productId = redisTemplate.getValueSerializer().deserialize(message.getBody());
+        if (productId instanceof Number id) {
+            evict(id.longValue());
+        }
+    }
+
+    private void evict(Long productId) {
+        synchronized (this) {
+            generation.incrementAndGet();
+            if (entries.remove(productId) != null) {
+                invalidations.incrementAndGet();
+            }
+        }
+    }
+
+    private static ProductResponse copy(ProductResponse response) {
+        return response.toBuilder().build();
+    }
+
+    private record Entry(ProductResponse response, long expiresAt) {
+    }
+}
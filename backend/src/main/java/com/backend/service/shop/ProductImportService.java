@@ -0,0 +1,17 @@
+package com.backend.service.shop;
+
+import com.backend.dto.shop.response.ProductImportResponse;
+
+import java.io.InputStream;
+
+/**
+ * 상품 대량 등록 서비스
+ */
+public interface ProductImportService {
+
+    /**
+     * NDJSON(한 줄에 ProductCreateRequest JSON 1개) 스트림을 청크 단위로 등록한다.
+     * 상품명이 이미 있거나 파일 안에서 중복되면 건너뛰고, 잘못된 행은 오류로 기록 후 계속 진행한다.
+     */
+    ProductImportResponse importNdjson(InputStream in, Long createdBy);
+}
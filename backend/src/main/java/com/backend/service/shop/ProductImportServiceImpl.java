@@ -0,0 +1,291 @@
+package com.backend.service.shop;
+
+import com.backend.common.exception.BusinessException;
+import com.backend.common.exception.ErrorCode;
+import com.backend.domain.shop.Category;
+import com.backend.domain.shop.CategoryType;
+import com.backend.domain.shop.ProductStatus;
+import com.backend.dto.shop.request.ProductCreateRequest;
+import com.backend.dto.shop.request.ProductVariantRequest;
+import com.backend.dto.shop.response.ProductImportResponse;
+import com.backend.repository.member.MemberRepository;
+import com.backend.repository.shop.CategoryRepository;
+import com.backend.repository.shop.ProductBulkWriter;
+import com.backend.repository.shop.ProductImportRow;
+import com.backend.repository.shop.ProductNameProjection;
+import com.backend.repository.shop.ProductRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 대량 등록.
+ *
+ * <p>단건 create는 상품마다 이름 중복 확인/카테고리 조회/행 단위 INSERT를 반복하므로,
+ * 스트림을 청크로 끊어 다음 순서로 처리한다.
+ * <ol>
+ *   <li>행 파싱 + Bean Validation (오류 행은 기록 후 제외)</li>
+ *   <li>청크 상품명 IN 조회 1회로 기존 상품과의 충돌 배제 (파일 내 중복은 메모리 Set)</li>
+ *   <li>카테고리 ID는 청크 단위 findAllById 1회, 카테고리 타입은 루트 카테고리 맵으로 해석</li>
+ *   <li>ProductBulkWriter가 청크별 독립 트랜잭션에서 JDBC 배치 INSERT</li>
+ * </ol>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductImportServiceImpl implements ProductImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final MemberRepository memberRepository;
+    private final ProductRepository productRepository;
+    private final CategoryRepository categoryRepository;
+    private final CategoryTreeService categoryTreeService;
+    private final ProductBulkWriter productBulkWriter;
+
+    @Value("${shop.product-import.chunk-size:500}")
+    private int chunkSize;
+
+    @Override
+    public ProductImportResponse importNdjson(InputStream in, Long createdBy) {
+        if (!memberRepository.existsById(createdBy)) {
+            throw new BusinessException(ErrorCode.MEMBER_NOT_FOUND, createdBy);
+        }
+
+        ImportContext ctx = new ImportContext(createdBy);
+        long startedAt = System.currentTimeMillis();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            int lineNo = 0;
+            List<ParsedLine> chunk = new ArrayList<>(chunkSize);
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                ctx.total++;
+                ParsedLine parsed = parse(lineNo, line, ctx);
+                if (parsed != null) {
+                    chunk.add(parsed);
+                }
+                if (chunk.size() >= chunkSize) {
+                    flush(chunk, ctx);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            flush(chunk, ctx);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        log.info("Product import finished: total={}, imported={}, skipped={}, failed={}, elapsedMs={}",
+                ctx.total, ctx.imported, ctx.skipped, ctx.failed, System.currentTimeMillis() - startedAt);
+
+        return ProductImportResponse.builder()
+                .total(ctx.total)
+                .imported(ctx.imported)
+                .skipped(ctx.skipped)
+                .failed(ctx.failed)
+                .errors(ctx.errors)
+                .build();
+    }
+
+    private ParsedLine parse(int lineNo, String line, ImportContext ctx) {
+        ProductCreateRequest request;
+        try {
+            request = objectMapper.readValue(line, ProductCreateRequest.class);
+        } catch (IOException e) {
+            ctx.fail(lineNo, null, "JSON 형식 오류: " + e.getOriginalMessage());
+            return null;
+        }
+
+        Set<ConstraintViolation<ProductCreateRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+            ctx.fail(lineNo, request.getName(), message);
+            return null;
+        }
+
+        String name = request.getName().trim();
+        if (!ctx.seenNames.add(name)) {
+            ctx.skipped++;
+            return null;
+        }
+        return new ParsedLine(lineNo, name, request);
+    }
+
+    private void flush(List<ParsedLine> chunk, ImportContext ctx) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        // 기존 상품과 이름 충돌 (IN 조회 1회)
+        Set<String> existingNames = productRepository
+                .findIdAndNameByNameIn(chunk.stream().map(ParsedLine::name).toList()).stream()
+                .map(ProductNameProjection::getName)
+                .collect(Collectors.toSet());
+
+        // 카테고리 ID 존재 확인 (청크 단위 1회)
+        Set<Long> requestedCategoryIds = chunk.stream()
+                .map(p -> p.request().getCategoryIds())
+                .filter(ids -> ids != null)
+                .flatMap(List::stream)
+                .collect(Collectors.toSet());
+        Set<Long> knownCategoryIds = requestedCategoryIds.isEmpty()
+                ? Set.of()
+                : categoryRepository.findAllById(requestedCategoryIds).stream()
+                        .map(Category::getId)
+                        .collect(Collectors.toSet());
+
+        List<ProductImportRow> rows = new ArrayList<>(chunk.size());
+        for (ParsedLine parsed : chunk) {
+            if (existingNames.contains(parsed.name())) {
+                ctx.skipped++;
+                continue;
+            }
+            try {
+                rows.add(toRow(parsed, knownCategoryIds, ctx));
+            } catch (BusinessException e) {
+                ctx.fail(parsed.lineNo(), parsed.name(), e.getMessage());
+            }
+        }
+
+        try {
+            ctx.imported += productBulkWriter.writeChunk(rows, ctx.createdBy);
+        } catch (RuntimeException e) {
+            log.warn("Product import chunk failed: firstLine={}, size={}, msg={}",
+                    chunk.get(0).lineNo(), rows.size(), e.getMessage(), e);
+            ctx.failed += rows.size();
+            ctx.addError(chunk.get(0).lineNo(), null, "청크 저장 실패(" + rows.size() + "건): " + e.getMessage());
+        }
+    }
+
+    private ProductImportRow toRow(ParsedLine parsed, Set<Long> knownCategoryIds, ImportContext ctx) {
+        ProductCreateRequest req = parsed.request();
+
+        Set<Long> categoryIds = new LinkedHashSet<>();
+        if (req.getCategoryTypes() != null && !req.getCategoryTypes().isEmpty()) {
+            for (String typeName : req.getCategoryTypes()) {
+                categoryIds.add(ctx.rootCategoryId(typeName));
+            }
+        } else if (req.getCategoryIds() != null) {
+            for (Long categoryId : req.getCategoryIds()) {
+                if (!knownCategoryIds.contains(categoryId)) {
+                    throw new BusinessException(ErrorCode.SHOP_CATEGORY_NOT_FOUND, categoryId);
+                }
+                categoryIds.add(categoryId);
+            }
+        }
+
+        List<ProductImportRow.VariantRow> variants = new ArrayList<>();
+        if (req.getVariants() != null) {
+            for (ProductVariantRequest v : req.getVariants()) {
+                variants.add(new ProductImportRow.VariantRow(
+                        v.getOptionText(),
+                        v.getPrice(),
+                        v.getStockQty() != null ? v.getStockQty() : 0,
+                        v.getActive() != null ? v.getActive() : true));
+            }
+        }
+
+        List<String> imagePaths = req.getImageFilePaths() == null ? List.of()
+                : req.getImageFilePaths().stream()
+                        .filter(p -> p != null && !p.isBlank())
+                        .map(String::trim)
+                        .distinct()
+                        .toList();
+
+        return new ProductImportRow(
+                parsed.name(),
+                req.getDescription(),
+                req.getStatus() != null ? req.getStatus() : ProductStatus.DRAFT,
+                req.getBasePrice(),
+                variants,
+                imagePaths,
+                List.copyOf(categoryIds));
+    }
+
+    private record ParsedLine(int lineNo, String name, ProductCreateRequest request) {
+    }
+
+    /**
+     * 한 번의 import 실행 상태 (요청 스레드 전용)
+     */
+    private class ImportContext {
+        private final Long createdBy;
+        private final Set<String> seenNames = new HashSet<>();
+        private final List<ProductImportResponse.RowError> errors = new ArrayList<>();
+        private Map<CategoryType, Long> rootCategoryIds;
+        private int total;
+        private int imported;
+        private int skipped;
+        private int failed;
+
+        private ImportContext(Long createdBy) {
+            this.createdBy = createdBy;
+        }
+
+        private void fail(int lineNo, String name, String message) {
+            failed++;
+            addError(lineNo, name, message);
+        }
+
+        private void addError(int lineNo, String name, String message) {
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new ProductImportResponse.RowError(lineNo, name, message));
+            }
+        }
+
+        /**
+         * 카테고리 타입 → 루트 카테고리 ID (최초 1회 루트 전체 조회, 없는 타입만 생성)
+         */
+        private Long rootCategoryId(String typeName) {
+            CategoryType type;
+            try {
+                type = CategoryType.valueOf(typeName);
+            } catch (IllegalArgumentException e) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+            }
+            if (rootCategoryIds == null) {
+                rootCategoryIds = new HashMap<>();
+                for (Category root : categoryRepository.findByParentIsNull()) {
+                    rootCategoryIds.putIfAbsent(root.getCategoryType(), root.getId());
+                }
+            }
+            return rootCategoryIds.computeIfAbsent(type, t -> {
+                Category saved = categoryRepository.saveAndFlush(Category.builder()
+                        .categoryType(t)
+                        .sortOrder(0)
+                        .build());
+                categoryTreeService.onCategoryCreated(saved);
+                log.info("Creating root category for type: {} (Product import)", t);
+                return saved.getId();
+            });
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.backend.service.shop;
+
+import com.backend.repository.shop.ProductRepository;
+import com.backend.repository.shop.ProductReviewStatsRepository;
+import com.backend.repository.shop.ProductSalesStatsRepository;
+import com.backend.service.migration.DataMigrationRunner;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 비정규화 컬럼/집계 테이블 1회성 백필 ({@link DataMigrationRunner}로 기록이 없을 때만 실행).
+ *
+ * <ul>
+ *   <li>products.in_stock: ddl-auto로 컬럼이 추가되면 기존 행이 false로 채워지므로 옵션 재고 기준으로 재계산 (id 구간 청크)</li>
+ *   <li>product_review_stats: 집계 테이블이 비어 있으면(도입 직후) product_reviews로 한 번 채움</li>
+ *   <li>product_sales_stats: 집계 행이 없는 상품에 0 행 생성 (판매순 정렬이 inner join이므로 상품당 1행 보장, id 구간 청크)</li>
+ * </ul>
+ * 이후에는 각 변경 지점(옵션 재고 변경 / 리뷰 작성·수정·삭제 / 상품 등록)에서 증분 동기화된다.
+ */
+@Slf4j
+@Component
+public class ProductReadModelBackfill {
+
+    private final ProductRepository productRepository;
+    private final ProductReviewStatsRepository productReviewStatsRepository;
+    private final ProductSalesStatsRepository productSalesStatsRepository;
+    private final DataMigrationRunner dataMigrationRunner;
+    private final int chunkSize;
+
+    public ProductReadModelBackfill(ProductRepository productRepository,
+                                    ProductReviewStatsRepository productReviewStatsRepository,
+                                    ProductSalesStatsRepository productSalesStatsRepository,
+                                    DataMigrationRunner dataMigrationRunner,
+                                    @Value("${shop.read-model.backfill-chunk-size:1000}") int chunkSize) {
+        this.productRepository = productRepository;
+        this.productReviewStatsRepository = productReviewStatsRepository;
+        this.productSalesStatsRepository = productSalesStatsRepository;
+        this.dataMigrationRunner = dataMigrationRunner;
+        this.chunkSize = chunkSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        dataMigrationRunner.runOnce("products.in_stock", this::recalculateInStock);
+        dataMigrationRunner.runOnce("product_review_stats", this::backfillReviewStats);
+        dataMigrationRunner.runOnce("product_sales_stats.rows", this::backfillSalesStatsRows);
+    }
+
+    private void recalculateInStock() {
+        long maxId = productRepository.findMaxId();
+        int updated = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+            updated += productRepository.recalculateInStockRange(fromId, fromId + chunkSize - 1);
+        }
+        log.info("Product in_stock flags recalculated: maxId={}, updated={}", maxId, updated);
+    }
+
+    private void backfillSalesStatsRows() {
+        long maxId = productRepository.findMaxId();
+        int inserted = 0;
+        for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+            inserted += productSalesStatsRepository.insertMissingRange(fromId, fromId + chunkSize - 1);
+        }
+        log.info("Product sales stats rows backfilled: maxId={}, inserted={}", maxId, inserted);
+    }
+
+    private void backfillReviewStats() {
+        if (productReviewStatsRepository.count() == 0) {
+            int reviewStatsRows = productReviewStatsRepository.rebuildAll();
+            log.info("Product review stats backfilled: products={}", reviewStatsRows);
+        }
+    }
+}
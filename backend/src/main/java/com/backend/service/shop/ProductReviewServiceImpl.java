@@ -17,6 +17,7 @@ import com.backend.common.exception.ErrorCode;
 import com.backend.repository.order.OrderItemRepository;
 import com.backend.repository.shop.ProductReviewReplyRepository;
 import com.backend.repository.shop.ProductReviewRepository;
+import com.backend.repository.shop.ProductReviewStatsRepository;
 import com.backend.repository.shop.ProductRepository;
 import com.backend.service.member.CurrentMemberService;
 import lombok.RequiredArgsConstructor;
@@ -35,10 +36,12 @@ public class ProductReviewServiceImpl implements ProductReviewService {
     private static final List<OrderStatus> PAID_OR_LATER = List.of(OrderStatus.PAID, OrderStatus.SHIPPED, OrderStatus.DELIVERED);
 
     private final ProductReviewRepository productReviewRepository;
+    private final ProductReviewStatsRepository productReviewStatsRepository;
     private final ProductReviewReplyRepository productReviewReplyRepository;
     private final ProductRepository productRepository;
     private final OrderItemRepository orderItemRepository;
     private final CurrentMemberService currentMemberService;
+    private final ProductDetailCache productDetailCache;
 
     @Override
     @Transactional
@@ -63,6 +66,8 @@ public class ProductReviewServiceImpl implements ProductReviewService {
                 .content(request.getContent())
                 .build();
         ProductReview saved = productReviewRepository.save(review);
+        productReviewStatsRepository.applyDelta(productId, saved.getRating(), 1);
+        productDetailCache.invalidate(productId);
         return toReviewResponse(saved, List.of());
     }
 
@@ -117,7 +122,15 @@ public class ProductReviewServiceImpl implements ProductReviewService {
             throw new BusinessException(ErrorCode.SHOP_REVIEW_FORBIDDEN);
         }
         if (request.getRating() != null) {
+            int previousRating = review.getRating();
             review.update(request.getRating(), request.getContent());
+            if (previousRating != review.getRating()) {
+                // 별점이 바뀐 경우만 집계 이동 (이전 별점 -1, 새 별점 +1)
+                Long productId = review.getProduct().getId();
+                productReviewStatsRepository.applyDelta(productId, previousRating, -1);
+                productReviewStatsRepository.applyDelta(productId, review.getRating(), 1);
+                productDetailCache.invalidate(productId);
+            }
         } else if (request.getContent() != null) {
             review.update(review.getRating(), request.getContent());
         }
@@ -139,6 +152,8 @@ public class ProductReviewServiceImpl implements ProductReviewService {
             throw new BusinessException(ErrorCode.SHOP_REVIEW_FORBIDDEN);
         }
         productReviewRepository.delete(review);
+        productReviewStatsRepository.applyDelta(review.getProduct().getId(), review.getRating(), -1);
+        productDetailCache.invalidate(review.getProduct().getId());
     }
 
     private ReviewResponse toReviewResponse(ProductReview review, List<ReplyResponse> replies) {
@@ -0,0 +1,48 @@
+package com.backend.service.shop;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 판매량 집계 주기 재계산 작업.
+ *
+ * <p>증분 반영(ORDER_FINALIZED 소비자)은 빠르지만 취소/재처리 등으로 어긋날 수 있으므로,
+ * 상품 ID 구간 단위로 order_items를 다시 집계해 덮어쓴다 (소비자 오프셋까지 반영된 주문만).
+ * 구간마다 짧은 트랜잭션으로 끊어 잠금 시간을 제한한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductSalesStatsRebuildJob {
+
+    private final ProductSalesStatsService productSalesStatsService;
+
+    @Value("${shop.sales-stats.rebuild-chunk-size:500}")
+    private int chunkSize;
+
+    @Scheduled(initialDelayString = "${shop.sales-stats.rebuild-initial-delay:PT1M}",
+               fixedDelayString = "${shop.sales-stats.rebuild-interval:PT6H}")
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        long maxId = productSalesStatsService.maxProductId();
+        int chunks = 0;
+        int productsWithSales = 0;
+
+        for (long fromId = 1; fromId <= maxId; fromId += chunkSize) {
+            long toId = Math.min(fromId + chunkSize - 1, maxId);
+            try {
+                productsWithSales += productSalesStatsService.rebuildRange(fromId, toId);
+                chunks++;
+            } catch (Exception e) {
+                // 한 구간 실패가 전체 재집계를 막지 않도록 다음 구간 진행 (다음 주기에 재시도)
+                log.warn("Product sales stats rebuild failed for range [{}, {}]: {}", fromId, toId, e.getMessage(), e);
+            }
+        }
+
+        log.info("Product sales stats rebuilt: maxProductId={}, chunks={}, productsWithSales={}, elapsedMs={}",
+                maxId, chunks, productsWithSales, System.currentTimeMillis() - startedAt);
+    }
+}
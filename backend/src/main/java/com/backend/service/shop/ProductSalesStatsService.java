@@ -0,0 +1,39 @@
+package com.backend.service.shop;
+
+import java.util.Map;
+
+/**
+ * 상품 판매량 집계(product_sales_stats) 유지 서비스
+ */
+public interface ProductSalesStatsService {
+
+    /**
+     * 결제 완료된 주문의 판매 수량을 증분 반영한다. 호출자 트랜잭션에 참여한다.
+     *
+     * @param qtyByProductId 상품 ID별 판매 수량
+     */
+    void recordSales(Map<Long, Integer> qtyByProductId);
+
+    /**
+     * 신규 상품의 집계 행을 0으로 생성한다 (판매순 정렬 대상에 바로 포함되도록).
+     */
+    void initialize(Long productId);
+
+    /**
+     * 상품의 누적 판매량 (집계 행이 없으면 0)
+     */
+    long getSalesQty(Long productId);
+
+    /**
+     * 상품 ID 구간 [fromId, toId]의 판매량을 order_items 기준으로 재계산한다. 구간별 독립 트랜잭션.
+     * 증분 소비자(sales-stats) 오프셋까지 반영된 주문만 세며, 트랜잭션 동안 해당 소비자의 전달을 멈춘다.
+     *
+     * @return 판매 이력이 있는 상품 수
+     */
+    int rebuildRange(long fromId, long toId);
+
+    /**
+     * 재집계 대상 상품 ID 상한
+     */
+    long maxProductId();
+}
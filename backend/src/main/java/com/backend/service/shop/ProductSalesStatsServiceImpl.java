@@ -0,0 +1,66 @@
+package com.backend.service.shop;
+
+import com.backend.domain.order.OrderStatus;
+import com.backend.domain.shop.ProductSalesStats;
+import com.backend.repository.shop.ProductSalesStatsRepository;
+import com.backend.service.outbox.OutboxService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProductSalesStatsServiceImpl implements ProductSalesStatsService {
+
+    /** 판매로 집계하는 주문 상태 (결제 완료 이후) */
+    private static final List<String> SOLD_ORDER_STATUSES = List.of(
+            OrderStatus.PAID.name(), OrderStatus.SHIPPED.name(), OrderStatus.DELIVERED.name());
+
+    private final ProductSalesStatsRepository productSalesStatsRepository;
+    private final OutboxService outboxService;
+
+    @Override
+    @Transactional
+    public void recordSales(Map<Long, Integer> qtyByProductId) {
+        // 상품 ID 순으로 갱신해 동시 주문 간 행 잠금 순서를 일정하게 유지
+        qtyByProductId.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(e -> productSalesStatsRepository.incrementSalesQty(e.getKey(), e.getValue()));
+    }
+
+    @Override
+    @Transactional
+    public void initialize(Long productId) {
+        productSalesStatsRepository.incrementSalesQty(productId, 0L);
+    }
+
+    @Override
+    public long getSalesQty(Long productId) {
+        return productSalesStatsRepository.findById(productId)
+                .map(ProductSalesStats::getSalesQty)
+                .orElse(0L);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int rebuildRange(long fromId, long toId) {
+        // 증분 소비자의 오프셋을 잠가 이 구간을 다시 세는 동안 전달을 멈추고, 오프셋까지 반영된 주문만 센다
+        // (전달 전인 ORDER_FINALIZED를 미리 세면 이후 증분이 한 번 더 더해짐)
+        long deliveredUpTo = outboxService.lockOffset(OrderFinalizedSalesStatsListener.CONSUMER_NAME);
+        productSalesStatsRepository.resetRange(fromId, toId);
+        return productSalesStatsRepository.aggregateRange(fromId, toId, SOLD_ORDER_STATUSES, deliveredUpTo);
+    }
+
+    @Override
+    public long maxProductId() {
+        Long maxId = productSalesStatsRepository.findMaxProductId();
+        return maxId != null ? maxId : 0L;
+    }
+}
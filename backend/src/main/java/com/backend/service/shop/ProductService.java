@@ -1,10 +1,12 @@
 package com.backend.service.shop;
 
+import com.backend.common.dto.CursorPageRequest;
 import com.backend.common.dto.PageRequest;
 import com.backend.common.dto.PageResponse;
 import com.backend.dto.shop.request.ProductCreateRequest;
 import com.backend.dto.shop.request.ProductSearchRequest;
 import com.backend.dto.shop.request.ProductUpdateRequest;
+import com.backend.dto.shop.response.ProductDetailCacheStatsResponse;
 import com.backend.dto.shop.response.ProductResponse;
 
 public interface ProductService {
@@ -19,7 +21,17 @@ public interface ProductService {
 
     PageResponse<ProductResponse> findAll(PageRequest pageRequest, ProductSearchRequest searchRequest);
 
+    /**
+     * 커서(keyset) 기반 상품 목록 조회 (무한 스크롤용). 카운트 쿼리 없이 다음 페이지 존재 여부와 next_cursor만 반환.
+     */
+    PageResponse<ProductResponse> findAllByCursor(CursorPageRequest cursorRequest, ProductSearchRequest searchRequest);
+
     ProductResponse update(Long id, ProductUpdateRequest request);
 
     void delete(Long id);
+
+    /**
+     * 상품 상세 캐시 적중/미스/제거 통계
+     */
+    ProductDetailCacheStatsResponse getDetailCacheStats();
 }
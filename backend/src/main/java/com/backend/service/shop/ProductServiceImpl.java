@@ -1,5 +1,6 @@
 package com.backend.service.shop;
 
+import com.backend.common.dto.CursorPageRequest;
 import com.backend.common.dto.PageRequest;
 import com.backend.common.dto.PageResponse;
 import com.backend.common.exception.BusinessException;
@@ -11,6 +12,7 @@ import com.backend.dto.shop.request.ProductSearchRequest;
 import com.backend.dto.shop.request.ProductUpdateRequest;
 import com.backend.dto.shop.request.ProductVariantRequest;
 import com.backend.dto.shop.response.CategoryResponse;
+import com.backend.dto.shop.response.ProductDetailCacheStatsResponse;
 import com.backend.dto.shop.response.ProductImageResponse;
 import com.backend.dto.shop.response.ProductResponse;
 import com.backend.dto.shop.response.ProductVariantResponse;
@@ -21,9 +23,13 @@ import com.backend.repository.member.MemberRepository;
 import com.backend.repository.order.OrderItemRepository;
 import com.backend.repository.shop.*;
 import com.backend.service.file.FileStorageService;
+import com.backend.service.file.ImageRendition;
+import com.backend.util.TransactionCallbacks;
+import com.querydsl.core.types.Order;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -51,7 +57,11 @@ public class ProductServiceImpl implements ProductService {
     private final CategoryRepository categoryRepository;
     private final ProductCategoryRepository productCategoryRepository;
     private final ProductReviewRepository productReviewRepository;
+    private final ProductReviewStatsRepository productReviewStatsRepository;
     private final OrderItemRepository orderItemRepository;
+    private final ProductDetailCache productDetailCache;
+    private final CategoryTreeService categoryTreeService;
+    private final ProductSalesStatsService productSalesStatsService;
 
     // ===========================
     // Public APIs
@@ -82,6 +92,7 @@ public class ProductServiceImpl implements ProductService {
         // 2) 상품 저장(이미지/옵션 포함)
         Product saved = productRepository.save(product);
         log.info("Product created: id={}, name={}", saved.getId(), saved.getName());
+        productSalesStatsService.initialize(saved.getId());
 
         // 3) 카테고리는 조인 테이블이라 별도로 replace
         List<Long> categoryIds = resolveCategoryIds(request.getCategoryTypes(), request.getCategoryIds());
@@ -97,18 +108,23 @@ public class ProductServiceImpl implements ProductService {
 
     @Override
     public ProductResponse findById(Long id) {
+        // 회원별 canReview는 캐시하지 않고 호출부에서 복사본 위에 덧씌운다
+        ProductResponse cached = productDetailCache.get(id);
+        if (cached != null) {
+            return cached;
+        }
+        long cacheGeneration = productDetailCache.currentGeneration();
+
         Product product = findActiveProduct(id);
 
         List<ProductImage> images = productImageRepository.findByProductIdAndDeletedAtIsNull(id);
         List<ProductVariant> variants = productVariantRepository.findByProductId(id);
 
         ProductResponse response = toFullResponse(product, images, variants);
-        long reviewCount = productReviewRepository.countByProductId(id);
-        Double avgRating = productReviewRepository.getAverageRatingByProductId(id);
-        response.setReviewSummary(ReviewSummaryResponse.builder()
-                .averageRating(avgRating != null ? avgRating : 0.0)
-                .count(reviewCount)
-                .build());
+        // 리뷰 요약은 집계 행 PK 조회 1회 (리뷰 수와 무관)
+        response.setReviewSummary(ReviewSummaryResponse.from(
+                productReviewStatsRepository.findById(id).orElse(null)));
+        productDetailCache.put(id, response, cacheGeneration);
         return response;
     }
 
@@ -125,8 +141,70 @@ public class ProductServiceImpl implements ProductService {
 
     @Override
     public PageResponse<ProductResponse> findAll(PageRequest pageRequest, ProductSearchRequest searchRequest) {
+        ProductSearchCondition condition = toSearchCondition(searchRequest);
+        if (condition.getCountMode() == ProductCountMode.ESTIMATED) {
+            Slice<Product> slice = productSearch.searchSlice(condition, pageRequest.toPageable());
+            List<Product> sliceContent = slice.getContent();
+            return PageResponse.ofSlice(
+                    sliceContent.isEmpty() ? List.of() : toListResponses(sliceContent),
+                    pageRequest.getPage(),
+                    pageRequest.getPageSize(),
+                    slice.hasNext());
+        }
+
+        Page<Product> products = productSearch.search(condition, pageRequest.toPageable());
+        List<Product> content = products.getContent();
+
+        if (content.isEmpty()) {
+            return PageResponse.of(
+                    products.map(p -> toResponseWithImagesAndVariants(p, List.of(), List.of())),
+                    pageRequest.getPage()
+            );
+        }
+
+        List<ProductResponse> responses = toListResponses(content);
+
+        Page<ProductResponse> responsePage = PageableExecutionUtils.getPage(
+                responses,
+                products.getPageable(),
+                products::getTotalElements
+        );
+
+        return PageResponse.of(responsePage, pageRequest.getPage());
+    }
+
+    @Override
+    public PageResponse<ProductResponse> findAllByCursor(CursorPageRequest cursorRequest, ProductSearchRequest searchRequest) {
+        ProductSearchCondition condition = toSearchCondition(searchRequest);
+        ProductSortKey sortKey = condition.resolveSortKey();
+        Order direction = condition.resolveDirection();
+
+        ProductSearchCursor cursor = ProductSearchCursor.decode(cursorRequest.getCursor(), sortKey, direction);
+        Slice<Product> slice = productSearch.searchAfter(condition, cursor, cursorRequest.getPageSize());
+        List<Product> content = slice.getContent();
+
+        String nextCursor = null;
+        if (!content.isEmpty()) {
+            Product last = content.get(content.size() - 1);
+            long lastSalesQty = sortKey == ProductSortKey.SALES ? productSalesStatsService.getSalesQty(last.getId()) : 0L;
+            nextCursor = ProductSearchCursor.after(sortKey, direction, last, lastSalesQty).encode();
+        }
+
+        return PageResponse.ofCursor(
+                content.isEmpty() ? List.of() : toListResponses(content),
+                cursorRequest.getPageSize(),
+                slice.hasNext(),
+                nextCursor,
+                cursorRequest.getCursor()
+        );
+    }
+
+    /**
+     * 목록 검색 조건 구성. 관리자는 요청 조건 그대로, 그 외에는 판매중 + 품절 제외로 고정.
+     */
+    private ProductSearchCondition toSearchCondition(ProductSearchRequest searchRequest) {
         boolean isAdmin = isCurrentUserAdmin();
-        ProductSearchCondition condition = isAdmin
+        return isAdmin
                 ? searchRequest.toCondition()
                 : ProductSearchCondition.builder()
                         .keyword(searchRequest.getKeyword())
@@ -137,17 +215,15 @@ public class ProductServiceImpl implements ProductService {
                         .sortBy(searchRequest.getSortBy())
                         .direction(searchRequest.getDirection())
                         .excludeOutOfStock(true)
+                        // 스토어 목록은 근사 total로 충분 → 기본 COUNT 캐시
+                        .countMode(searchRequest.resolveCountMode(ProductCountMode.CACHED))
                         .build();
-        Page<Product> products = productSearch.search(condition, pageRequest.toPageable());
-        List<Product> content = products.getContent();
-
-        if (content.isEmpty()) {
-            return PageResponse.of(
-                    products.map(p -> toResponseWithImagesAndVariants(p, List.of(), List.of())),
-                    pageRequest.getPage()
-            );
-        }
+    }
 
+    /**
+     * 목록 응답 변환 (2-쿼리 전략: images/variants를 IN 조회 후 상품별 그룹핑).
+     */
+    private List<ProductResponse> toListResponses(List<Product> content) {
         List<Long> productIds = content.stream().map(Product::getId).toList();
 
         List<ProductImage> allImages = productImageRepository.findByProductIdIn(productIds);
@@ -159,21 +235,13 @@ public class ProductServiceImpl implements ProductService {
         Map<Long, List<ProductVariant>> variantsByProductId =
                 allVariants.stream().collect(Collectors.groupingBy(v -> v.getProduct().getId()));
 
-        List<ProductResponse> responses = content.stream()
+        return content.stream()
                 .map(p -> toResponseWithImagesAndVariants(
                         p,
                         imagesByProductId.getOrDefault(p.getId(), List.of()),
                         variantsByProductId.getOrDefault(p.getId(), List.of())
                 ))
                 .toList();
-
-        Page<ProductResponse> responsePage = PageableExecutionUtils.getPage(
-                responses,
-                products.getPageable(),
-                products::getTotalElements
-        );
-
-        return PageResponse.of(responsePage, pageRequest.getPage());
     }
 
     private boolean isCurrentUserAdmin() {
@@ -208,6 +276,7 @@ public class ProductServiceImpl implements ProductService {
 
         Product updated = productRepository.save(product);
         log.info("Product updated: id={}", updated.getId());
+        productDetailCache.invalidate(updated.getId());
 
         List<ProductImage> images = productImageRepository.findByProductIdAndDeletedAtIsNull(updated.getId());
         List<ProductVariant> variants = productVariantRepository.findByProductId(updated.getId());
@@ -221,6 +290,12 @@ public class ProductServiceImpl implements ProductService {
         product.softDelete();
         productRepository.save(product);
         log.info("Product deleted: id={}", id);
+        productDetailCache.invalidate(id);
+    }
+
+    @Override
+    public ProductDetailCacheStatsResponse getDetailCacheStats() {
+        return productDetailCache.stats();
     }
 
     /**
@@ -244,6 +319,7 @@ public class ProductServiceImpl implements ProductService {
 
         productRepository.save(product);
         log.info("Primary image set: productId={}, imageUuid={}", productId, imageUuid);
+        productDetailCache.invalidate(productId);
     }
 
     // ===========================
@@ -264,6 +340,7 @@ public class ProductServiceImpl implements ProductService {
         softDeleteAndRemoveActiveImages(product);
 
         for (int i = 0; i < requested.size(); i++) {
+            fileStorageService.retain(requested.get(i));
             product.getImages().add(ProductImage.builder()
                     .product(product)
                     .filePath(requested.get(i))
@@ -301,6 +378,7 @@ public class ProductServiceImpl implements ProductService {
                 reused.markAsSecondary(); // primary는 아래에서 1개 보장
                 nextActives.add(reused);
             } else {
+                fileStorageService.retain(path);
                 nextActives.add(ProductImage.builder()
                         .product(product)
                         .filePath(path)
@@ -314,6 +392,7 @@ public class ProductServiceImpl implements ProductService {
             toDelete.softDelete();
         }
         product.getImages().removeAll(activeByPath.values());
+        releaseImageFiles(activeByPath.values());
 
         // 현재 활성들을 제거하고 nextActives로 재구성(중복 add 방지 목적)
         List<ProductImage> currentActives = product.getImages().stream()
@@ -342,6 +421,25 @@ public class ProductServiceImpl implements ProductService {
                 .toList();
         actives.forEach(ProductImage::softDelete);
         product.getImages().removeAll(actives);
+        releaseImageFiles(actives);
+    }
+
+    /**
+     * 제거된 이미지 행마다 저장 파일 참조를 1 줄인다. 커밋 이후에만 수행하고(롤백 시 참조 유지),
+     * 참조가 0이 된 파일은 보존 기간 후 StoredBlobSweeper가 지운다.
+     */
+    private void releaseImageFiles(Collection<ProductImage> removed) {
+        List<String> filePaths = removed.stream().map(ProductImage::getFilePath).toList();
+        if (filePaths.isEmpty()) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> filePaths.forEach(filePath -> {
+            try {
+                fileStorageService.delete(filePath);
+            } catch (RuntimeException e) {
+                log.warn("Image file cleanup failed: filePath={}, msg={}", filePath, e.getMessage());
+            }
+        }));
     }
 
     private void replaceVariants(Product product, List<ProductVariantRequest> requests) {
@@ -350,6 +448,7 @@ public class ProductServiceImpl implements ProductService {
         product.getVariants().clear();
 
         if (requests.isEmpty()) {
+            product.refreshInStock();
             log.info("All variants removed from product: productId={}", product.getId());
             return;
         }
@@ -363,6 +462,7 @@ public class ProductServiceImpl implements ProductService {
                     .active(req.getActive() != null ? req.getActive() : true)
                     .build());
         }
+        product.refreshInStock();
 
         log.info("Product variants replaced: productId={}, variantCount={}", product.getId(), requests.size());
     }
@@ -476,6 +576,7 @@ public class ProductServiceImpl implements ProductService {
                             .categoryType(categoryType)
                             .sortOrder(0)
                             .build());
+                    categoryTreeService.onCategoryCreated(saved);
                     return categoryRepository.findByCategoryTypeAndParentIsNull(categoryType).orElse(saved);
                 });
     }
@@ -491,9 +592,14 @@ public class ProductServiceImpl implements ProductService {
                 .map(ProductVariantResponse::from)
                 .toList();
 
+        // 카테고리 정보는 트리 스냅샷에서 id로 조회 (Category 지연 로딩 회피)
+        CategoryTree categoryTree = categoryTreeService.getTree();
         List<ProductCategory> pcs = productCategoryRepository.findById_ProductId(product.getId());
         List<CategoryResponse> categoryResponses = pcs.stream()
-                .map(pc -> CategoryResponse.from(pc.getCategory()))
+                .map(pc -> {
+                    CategoryResponse cached = categoryTree.toResponse(pc.getId().getCategoryId());
+                    return cached != null ? cached : CategoryResponse.from(pc.getCategory());
+                })
                 .toList();
 
         return ProductResponse.builder()
@@ -562,6 +668,8 @@ public class ProductServiceImpl implements ProductService {
         return ProductImageResponse.builder()
                 .uuid(image.getUuid())
                 .url(url)
+                .thumbnailUrl(url != null ? fileStorageService.getRenditionUrl(filePath, ImageRendition.THUMBNAIL) : null)
+                .mediumUrl(url != null ? fileStorageService.getRenditionUrl(filePath, ImageRendition.MEDIUM) : null)
                 .filePath(filePath)
                 .primaryImage(image.isPrimaryImage())
                 .build();
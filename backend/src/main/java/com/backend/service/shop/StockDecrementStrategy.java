@@ -0,0 +1,11 @@
+package com.backend.service.shop;
+
+/**
+ * 결제 후처리 재고 차감 방식 (shop.stock.decrement-strategy).
+ */
+public enum StockDecrementStrategy {
+    /** 주문 옵션을 id 순으로 SELECT ... FOR UPDATE로 잠그고 검증 후 일괄 차감 */
+    LOCKING,
+    /** 옵션별 조건부 UPDATE 1회 (재고 조건을 WHERE에 두고 영향 행 0이면 재고 부족), 선행 잠금 조회 없음 */
+    CONDITIONAL
+}
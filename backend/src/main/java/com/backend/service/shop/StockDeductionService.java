@@ -0,0 +1,21 @@
+package com.backend.service.shop;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 결제 완료 주문의 옵션 재고 차감 서비스.
+ * DB 차감 방식은 {@link StockDecrementStrategy} 설정으로 고른다.
+ */
+public interface StockDeductionService {
+
+    /**
+     * 주문 수량만큼 재고를 차감한다. 호출자 트랜잭션에 참여하며, 한 옵션이라도 부족하면 예외를 던진다.
+     * 핫 SKU는 Redis 카운터에서 차감하고 DB에는 write-behind로 반영된다.
+     *
+     * @param orderedQtyByVariantId variantId → 주문 수량
+     * @param heldQtyByVariantId    variantId → 이 주문이 예약해 둔 수량 (reserved_qty에서 함께 차감)
+     * @return product_variants 행을 직접 차감한 variantId (in_stock/캐시 갱신 대상)
+     */
+    Set<Long> deduct(Map<Long, Integer> orderedQtyByVariantId, Map<Long, Integer> heldQtyByVariantId);
+}
@@ -0,0 +1,158 @@
+package com.backend.service.shop;
+
+import com.backend.common.exception.BusinessException;
+import com.backend.common.exception.ErrorCode;
+import com.backend.repository.shop.ProductVariantRepository;
+import com.backend.repository.shop.ProductVariantStockWriter;
+import com.backend.repository.shop.VariantStockProjection;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+@Slf4j
+@Service
+@Transactional
+public class StockDeductionServiceImpl implements StockDeductionService {
+
+    private final ProductVariantRepository productVariantRepository;
+    private final ProductVariantStockWriter productVariantStockWriter;
+    private final HotSkuStockStore hotSkuStockStore;
+    private final StockDecrementStrategy strategy;
+
+    public StockDeductionServiceImpl(ProductVariantRepository productVariantRepository,
+                                     ProductVariantStockWriter productVariantStockWriter,
+                                     HotSkuStockStore hotSkuStockStore,
+                                     @Value("${shop.stock.decrement-strategy:LOCKING}") StockDecrementStrategy strategy) {
+        this.productVariantRepository = productVariantRepository;
+        this.productVariantStockWriter = productVariantStockWriter;
+        this.hotSkuStockStore = hotSkuStockStore;
+        this.strategy = strategy;
+        log.info("Stock decrement strategy: {}", strategy);
+    }
+
+    @Override
+    public Set<Long> deduct(Map<Long, Integer> orderedQtyByVariantId, Map<Long, Integer> heldQtyByVariantId) {
+        if (orderedQtyByVariantId.isEmpty()) {
+            return Set.of();
+        }
+        // 두 방식 모두 variant id 순으로 행을 건드려 동시 주문 간 잠금 순서를 고정
+        Map<Long, Integer> ordered = new TreeMap<>();
+        Map<Long, Integer> held = new HashMap<>(heldQtyByVariantId);
+        Set<Long> hotVariantIds = hotSkuStockStore.filterHot(orderedQtyByVariantId.keySet());
+        orderedQtyByVariantId.forEach((variantId, qty) -> {
+            if (!hotVariantIds.contains(variantId) || !deductHot(variantId, qty, held)) {
+                ordered.put(variantId, qty);
+            }
+        });
+        if (ordered.isEmpty()) {
+            return Set.of();
+        }
+        switch (strategy) {
+            case LOCKING -> deductWithLock(ordered, held);
+            case CONDITIONAL -> deductConditionally(ordered, held);
+        }
+        return ordered.keySet();
+    }
+
+    /**
+     * 핫 SKU 차감 (Redis 카운터): 예약분은 전환, 예약 없는 나머지는 가용 수량 확인 후 판매.
+     *
+     * @return 처리했으면 true, 카운터가 없거나 전환 중이라 DB 경로로 처리해야 하면 false (held에는 DB로 넘길 예약분만 남김)
+     */
+    private boolean deductHot(Long variantId, int qty, Map<Long, Integer> held) {
+        int heldQty = Math.min(held.getOrDefault(variantId, 0), qty);
+        if (heldQty > 0) {
+            if (hotSkuStockStore.commitReserved(variantId, heldQty) != 1L) {
+                return false;
+            }
+            held.remove(variantId);
+        }
+        int remaining = qty - heldQty;
+        if (remaining == 0) {
+            return true;
+        }
+        long result = hotSkuStockStore.sell(variantId, remaining);
+        if (result == 0L) {
+            throw new BusinessException(ErrorCode.SHOP_VARIANT_OUT_OF_STOCK,
+                    qty, heldQty + Math.max(hotSkuStockStore.available(variantId), 0));
+        }
+        if (result != 1L) {
+            if (heldQty == 0) {
+                return false;
+            }
+            // 예약분은 이미 카운터에서 전환했으므로 나머지만 DB 경로로 넘길 수 없음
+            throw new BusinessException(ErrorCode.SHOP_VARIANT_STOCK_BUSY, variantId);
+        }
+        return true;
+    }
+
+    /**
+     * 잠금 조회 1회로 전체 옵션을 잠그고 검증한 뒤 배치 UPDATE 1회로 차감.
+     * 잠금은 조회 시점부터 커밋까지 유지된다. 잠금 대기 중 핫 SKU로 지정된 옵션은 Redis 카운터로 넘긴다.
+     */
+    private void deductWithLock(Map<Long, Integer> ordered, Map<Long, Integer> held) {
+        List<VariantStockProjection> lockedVariants = productVariantRepository.lockStockByIdIn(ordered.keySet());
+        if (lockedVariants.size() != ordered.size()) {
+            Set<Long> missing = new HashSet<>(ordered.keySet());
+            lockedVariants.forEach(v -> missing.remove(v.getId()));
+            throw new BusinessException(ErrorCode.SHOP_VARIANT_NOT_FOUND, missing.iterator().next());
+        }
+        for (VariantStockProjection variant : lockedVariants) {
+            if (Boolean.TRUE.equals(variant.getHotSku())) {
+                deductHotOrFail(variant.getId(), ordered.remove(variant.getId()), held);
+                continue;
+            }
+            if (!Boolean.TRUE.equals(variant.getActive())) {
+                throw new BusinessException(ErrorCode.SHOP_VARIANT_INACTIVE, variant.getId());
+            }
+            int qty = ordered.get(variant.getId());
+            // 예약분은 이미 확보된 수량이므로, 예약 없는 나머지만 가용 재고(재고 - 다른 주문 예약)로 검증
+            int available = Math.max(variant.getStockQty() - variant.getReservedQty(), 0)
+                    + held.getOrDefault(variant.getId(), 0);
+            if (available < qty) {
+                throw new BusinessException(ErrorCode.SHOP_VARIANT_OUT_OF_STOCK, qty, available);
+            }
+        }
+        productVariantStockWriter.decreaseStock(ordered, held);
+    }
+
+    /**
+     * 옵션별 조건부 UPDATE. 검증과 차감이 한 문장이라 선행 잠금 조회가 없고,
+     * 행 잠금은 UPDATE 시점부터 커밋까지만 잡힌다. 0건이면 핫 SKU로 지정됐는지 확인해 Redis 카운터로 넘긴다.
+     */
+    private void deductConditionally(Map<Long, Integer> ordered, Map<Long, Integer> held) {
+        Iterator<Map.Entry<Long, Integer>> it = ordered.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<Long, Integer> entry = it.next();
+            Long variantId = entry.getKey();
+            int qty = entry.getValue();
+            int heldQty = held.getOrDefault(variantId, 0);
+            if (productVariantRepository.decreaseStockIfAvailable(variantId, qty, heldQty) > 0) {
+                continue;
+            }
+            if (productVariantRepository.countHotByIdForUpdate(variantId) == 0) {
+                // 실패 경로에서만 현재 가용 수량을 다시 읽어 응답 메시지에 사용
+                int available = productVariantRepository.findAvailableQtyById(variantId).orElse(0) + heldQty;
+                throw new BusinessException(ErrorCode.SHOP_VARIANT_OUT_OF_STOCK, qty, available);
+            }
+            deductHotOrFail(variantId, qty, held);
+            it.remove();
+        }
+    }
+
+    // DB 행이 핫 SKU로 지정된 옵션: Redis 카운터에서만 처리 (카운터가 아직 열리지 않았으면 재시도 안내)
+    private void deductHotOrFail(Long variantId, int qty, Map<Long, Integer> held) {
+        if (!deductHot(variantId, qty, held)) {
+            throw new BusinessException(ErrorCode.SHOP_VARIANT_STOCK_BUSY, variantId);
+        }
+    }
+}
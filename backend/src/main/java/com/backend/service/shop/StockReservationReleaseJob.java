@@ -0,0 +1,49 @@
+package com.backend.service.shop;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 만료된 재고 예약 해제 작업.
+ *
+ * <p>결제가 제한 시간 안에 끝나지 않은 주문의 홀드를 배치 단위(짧은 트랜잭션)로 해제해
+ * 다른 구매자에게 재고를 돌려준다. 예약 행을 PK로 잠그고 처리하므로 여러 노드가 동시에 돌아도 중복 해제되지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockReservationReleaseJob {
+
+    private final StockReservationService stockReservationService;
+
+    @Value("${shop.stock-reservation.release-chunk-size:500}")
+    private int chunkSize;
+
+    @Scheduled(initialDelayString = "${shop.stock-reservation.release-initial-delay:PT1M}",
+               fixedDelayString = "${shop.stock-reservation.release-interval:PT1M}")
+    public void releaseExpired() {
+        long startedAt = System.currentTimeMillis();
+        int released = 0;
+        while (true) {
+            int count;
+            try {
+                count = stockReservationService.releaseExpired(chunkSize);
+            } catch (Exception e) {
+                // 다음 주기에 재시도
+                log.warn("Stock reservation release failed: {}", e.getMessage(), e);
+                break;
+            }
+            released += count;
+            if (count < chunkSize) {
+                break;
+            }
+        }
+        if (released > 0) {
+            log.info("Expired stock reservations released: count={}, elapsedMs={}",
+                    released, System.currentTimeMillis() - startedAt);
+        }
+    }
+}
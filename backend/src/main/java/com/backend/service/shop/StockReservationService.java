@@ -0,0 +1,34 @@
+package com.backend.service.shop;
+
+import com.backend.domain.order.Order;
+
+import java.util.Map;
+
+/**
+ * 재고 예약(stock_reservations) 원장 서비스
+ */
+public interface StockReservationService {
+
+    /**
+     * 주문 라인별로 재고를 예약한다. 호출자 트랜잭션에 참여하며, 한 라인이라도 재고가 부족하면
+     * 예외를 던져 주문 생성 전체를 롤백시킨다.
+     *
+     * @param order 저장되어 ID가 있는 주문 (items 포함)
+     */
+    void reserveForOrder(Order order);
+
+    /**
+     * 결제 완료 시 주문의 ACTIVE 예약을 잠그고 CONVERTED로 전환한다. 호출자 트랜잭션에 참여하며,
+     * 재고(stock_qty/reserved_qty) 반영은 호출자가 같은 트랜잭션에서 옵션을 잠근 뒤 일괄로 수행한다.
+     *
+     * @return variantId → 전환한 예약 수량 (만료/해제되어 예약이 없는 라인은 포함되지 않음)
+     */
+    Map<Long, Integer> commitForOrder(Long orderId);
+
+    /**
+     * 만료된 ACTIVE 예약을 최대 limit건 해제한다. 호출마다 독립 트랜잭션.
+     *
+     * @return 해제한 예약 수
+     */
+    int releaseExpired(int limit);
+}
@@ -0,0 +1,184 @@
+package com.backend.service.shop;
+
+import com.backend.common.exception.BusinessException;
+import com.backend.common.exception.ErrorCode;
+import com.backend.domain.order.Order;
+import com.backend.domain.order.OrderItem;
+import com.backend.domain.shop.StockReservation;
+import com.backend.domain.shop.StockReservationStatus;
+import com.backend.repository.shop.ProductRepository;
+import com.backend.repository.shop.ProductVariantRepository;
+import com.backend.repository.shop.StockReservationRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class StockReservationServiceImpl implements StockReservationService {
+
+    private final StockReservationRepository stockReservationRepository;
+    private final ProductVariantRepository productVariantRepository;
+    private final ProductRepository productRepository;
+    private final ProductDetailCache productDetailCache;
+    private final HotSkuStockStore hotSkuStockStore;
+    private final Duration ttl;
+
+    public StockReservationServiceImpl(StockReservationRepository stockReservationRepository,
+                                       ProductVariantRepository productVariantRepository,
+                                       ProductRepository productRepository,
+                                       ProductDetailCache productDetailCache,
+                                       HotSkuStockStore hotSkuStockStore,
+                                       @Value("${shop.stock-reservation.ttl:PT15M}") Duration ttl) {
+        this.stockReservationRepository = stockReservationRepository;
+        this.productVariantRepository = productVariantRepository;
+        this.productRepository = productRepository;
+        this.productDetailCache = productDetailCache;
+        this.hotSkuStockStore = hotSkuStockStore;
+        this.ttl = ttl;
+    }
+
+    @Override
+    @Transactional
+    public void reserveForOrder(Order order) {
+        Instant expiresAt = Instant.now().plus(ttl);
+
+        // variant ID 순으로 예약해 동시 주문 간 행 잠금 순서를 일정하게 유지
+        List<OrderItem> items = new ArrayList<>(order.getItems());
+        items.sort(Comparator.comparing(item -> item.getVariant().getId()));
+
+        Set<Long> hotVariantIds = hotSkuStockStore.filterHot(
+                items.stream().map(item -> item.getVariant().getId()).toList());
+
+        List<StockReservation> reservations = new ArrayList<>(items.size());
+        Set<Long> productIds = new HashSet<>();
+        for (OrderItem item : items) {
+            Long variantId = item.getVariant().getId();
+            if (!hotVariantIds.contains(variantId) || !reserveHot(variantId, item.getQty())) {
+                // 조건부 UPDATE 1회로 가용 수량 확인 + 예약 (0건이면 그 사이 다른 주문이 가져갔거나 핫 SKU로 지정됨)
+                if (productVariantRepository.reserveStock(variantId, item.getQty()) > 0) {
+                    productIds.add(item.getProduct().getId());
+                } else if (!reserveHot(variantId, item.getQty())) {
+                    throw stockUnavailable(variantId, item.getQty());
+                }
+            }
+            reservations.add(StockReservation.builder()
+                    .orderId(order.getId())
+                    .variantId(variantId)
+                    .productId(item.getProduct().getId())
+                    .qty(item.getQty())
+                    .expiresAt(expiresAt)
+                    .build());
+        }
+        stockReservationRepository.saveAll(reservations);
+        refreshAvailability(productIds);
+        log.info("Stock reserved: orderId={}, lines={}, expiresAt={}", order.getId(), reservations.size(), expiresAt);
+    }
+
+    @Override
+    @Transactional
+    public Map<Long, Integer> commitForOrder(Long orderId) {
+        List<StockReservation> holds = stockReservationRepository.findActiveByOrderIdForUpdate(orderId);
+        if (holds.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Integer> qtyByVariantId = new HashMap<>();
+        List<Long> reservationIds = new ArrayList<>(holds.size());
+        for (StockReservation hold : holds) {
+            qtyByVariantId.merge(hold.getVariantId(), hold.getQty(), Integer::sum);
+            reservationIds.add(hold.getId());
+        }
+        stockReservationRepository.updateStatus(reservationIds, StockReservationStatus.CONVERTED);
+        return qtyByVariantId;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int releaseExpired(int limit) {
+        List<Long> candidateIds = stockReservationRepository.findExpiredActiveIds(Instant.now(), PageRequest.of(0, limit));
+        if (candidateIds.isEmpty()) {
+            return 0;
+        }
+        // 후보를 PK로 잠근 뒤 여전히 ACTIVE인 것만 해제 (그 사이 결제 완료로 전환된 예약 제외)
+        List<StockReservation> expired = stockReservationRepository.findActiveByIdInForUpdate(candidateIds);
+        if (expired.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> reservationIds = new ArrayList<>(expired.size());
+        Map<Long, Integer> qtyByVariantId = new TreeMap<>();
+        Map<Long, Long> productIdByVariantId = new HashMap<>();
+        for (StockReservation hold : expired) {
+            qtyByVariantId.merge(hold.getVariantId(), hold.getQty(), Integer::sum);
+            productIdByVariantId.put(hold.getVariantId(), hold.getProductId());
+            reservationIds.add(hold.getId());
+        }
+        Set<Long> hotVariantIds = hotSkuStockStore.filterHot(qtyByVariantId.keySet());
+        Set<Long> productIds = new HashSet<>();
+        qtyByVariantId.forEach((variantId, qty) -> {
+            // 핫 SKU는 Redis 카운터에서 해제 (DB 반영은 write-behind)
+            if (hotVariantIds.contains(variantId) && hotSkuStockStore.releaseReserved(variantId, qty) == 1L) {
+                return;
+            }
+            if (productVariantRepository.releaseReservedStock(variantId, qty) > 0) {
+                productIds.add(productIdByVariantId.get(variantId));
+            } else if (hotSkuStockStore.releaseReserved(variantId, qty) != 1L
+                    && productVariantRepository.countHotByIdForUpdate(variantId) > 0) {
+                // 지정/해제 전환 중: 이 청크를 롤백하고 다음 주기에 다시 해제
+                throw new BusinessException(ErrorCode.SHOP_VARIANT_STOCK_BUSY, variantId);
+            }
+        });
+        stockReservationRepository.updateStatus(reservationIds, StockReservationStatus.RELEASED);
+        refreshAvailability(productIds);
+        return expired.size();
+    }
+
+    /**
+     * 핫 SKU 예약 (Redis 카운터)
+     *
+     * @return 예약했으면 true, 카운터가 없거나 전환 중이라 DB 경로로 처리해야 하면 false
+     */
+    private boolean reserveHot(Long variantId, int qty) {
+        long result = hotSkuStockStore.reserve(variantId, qty);
+        if (result == 0L) {
+            throw new BusinessException(ErrorCode.SHOP_VARIANT_OUT_OF_STOCK,
+                    qty, Math.max(hotSkuStockStore.available(variantId), 0));
+        }
+        return result == 1L;
+    }
+
+    // DB/Redis 어느 쪽에서도 예약하지 못한 경우: 핫 SKU 전환 중이면 재시도 안내, 아니면 재고 부족
+    private BusinessException stockUnavailable(Long variantId, int qty) {
+        if (productVariantRepository.countHotByIdForUpdate(variantId) > 0) {
+            return new BusinessException(ErrorCode.SHOP_VARIANT_STOCK_BUSY, variantId);
+        }
+        // 실패 경로에서만 현재 가용 수량을 다시 읽어 응답 메시지에 사용 (로딩된 엔티티 값은 이미 낡음)
+        int available = productVariantRepository.findAvailableQtyById(variantId).orElse(0);
+        return new BusinessException(ErrorCode.SHOP_VARIANT_OUT_OF_STOCK, qty, available);
+    }
+
+    // 가용 수량이 바뀐 상품의 in_stock / 상세 캐시 갱신
+    private void refreshAvailability(Set<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        productRepository.refreshInStockByIdIn(productIds);
+        productIds.forEach(productDetailCache::invalidate);
+    }
+}
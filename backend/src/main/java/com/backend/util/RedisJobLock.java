@@ -0,0 +1,45 @@
+package com.backend.util;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 스케줄 작업용 Redis 분산 락 (여러 노드 중 1대만 실행).
+ * - 획득: SET key token NX PX ttl
+ * - 해제: 토큰이 일치할 때만 DEL (TTL 만료 후 다른 노드가 잡은 락을 지우지 않도록)
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisJobLock {
+
+    private static final String KEY_PREFIX = "lock:job:";
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    /**
+     * 락 획득 시도
+     *
+     * @return 획득하면 해제용 토큰, 다른 노드가 보유 중이면 empty
+     */
+    public Optional<String> tryLock(String jobName, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + jobName, token, ttl);
+        return Boolean.TRUE.equals(acquired) ? Optional.of(token) : Optional.empty();
+    }
+
+    public void unlock(String jobName, String token) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(KEY_PREFIX + jobName), token);
+    }
+}
@@ -0,0 +1,47 @@
+package com.backend.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 이후 실행 유틸리티
+ * - 인메모리 색인/캐시 등 DB 밖 상태를 커밋된 데이터와만 맞추기 위해 사용 (롤백 시 실행되지 않음)
+ * - 반대로 DB 밖 상태를 먼저 바꾼 경우 롤백 시 되돌리기 위한 보상 등록도 제공
+ */
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 이후에, 밖이면 즉시 실행
+     */
+    public static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * 트랜잭션이 롤백되면 실행 (커밋되거나 트랜잭션 밖이면 실행하지 않음)
+     */
+    public static void afterRollback(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        action.run();
+                    }
+                }
+            });
+        }
+    }
+}
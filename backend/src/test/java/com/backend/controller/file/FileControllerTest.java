@@ -0,0 +1,156 @@
+package com.backend.controller.file;
+
+import com.backend.service.file.FileStorageService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.head;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 임시 스토리지 루트의 파일로 /api/files/view/** 조건부 요청/Range/HEAD 응답을 검증한다.
+ * 스토리지 서비스는 다운로드만 임시 루트 기준으로 흉내 낸다.
+ */
+@DisplayName("FileController 파일 조회 테스트")
+class FileControllerTest {
+
+    private static final String FILE_PATH = "products/3f2504e0-4f89-41d3-9a0c-0305e82c3301.jpg";
+    private static final String URL = "/api/files/view/" + FILE_PATH;
+    private static final byte[] BODY = "0123456789".getBytes(StandardCharsets.US_ASCII);
+
+    @TempDir
+    Path root;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path file = root.resolve(FILE_PATH);
+        Files.createDirectories(file.getParent());
+        Files.write(file, BODY);
+
+        FileStorageService fileStorageService = mock(FileStorageService.class);
+        when(fileStorageService.download(anyString()))
+                .thenAnswer(invocation -> new FileSystemResource(root.resolve(invocation.<String>getArgument(0))));
+        mockMvc = MockMvcBuilders.standaloneSetup(new FileController(fileStorageService)).build();
+    }
+
+    @Test
+    @DisplayName("전체 조회 - 200, 검증자/캐시 헤더와 본문")
+    void view_FullContent() throws Exception {
+        mockMvc.perform(get(URL))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=31536000, public, immutable"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, BODY.length))
+                .andExpect(content().contentType("image/jpeg"))
+                .andExpect(content().bytes(BODY));
+    }
+
+    @Test
+    @DisplayName("If-None-Match 일치 - 304, 본문 없음")
+    void view_IfNoneMatch_NotModified() throws Exception {
+        String etag = fetch().getResponse().getHeader(HttpHeaders.ETAG);
+
+        MvcResult result = mockMvc.perform(get(URL).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andReturn();
+        assertThat(result.getResponse().getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("If-Modified-Since가 Last-Modified 이후 - 304")
+    void view_IfModifiedSince_NotModified() throws Exception {
+        String lastModified = fetch().getResponse().getHeader(HttpHeaders.LAST_MODIFIED);
+
+        mockMvc.perform(get(URL).header(HttpHeaders.IF_MODIFIED_SINCE, lastModified))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    @DisplayName("단일 Range - 206, Content-Range와 구간 본문")
+    void view_SingleRange_PartialContent() throws Exception {
+        mockMvc.perform(get(URL).header(HttpHeaders.RANGE, "bytes=2-5"))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 2-5/" + BODY.length))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 4))
+                .andExpect(content().bytes("2345".getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    @Test
+    @DisplayName("파일 크기를 벗어난 Range - 416, Content-Range에 전체 크기")
+    void view_UnsatisfiableRange() throws Exception {
+        mockMvc.perform(get(URL).header(HttpHeaders.RANGE, "bytes=100-"))
+                .andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */" + BODY.length));
+    }
+
+    @Test
+    @DisplayName("If-Range 불일치 - Range를 무시하고 전체 200")
+    void view_IfRangeMismatch_FullContent() throws Exception {
+        mockMvc.perform(get(URL)
+                        .header(HttpHeaders.RANGE, "bytes=2-5")
+                        .header(HttpHeaders.IF_RANGE, "\"stale-etag\""))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_RANGE))
+                .andExpect(content().bytes(BODY));
+    }
+
+    @Test
+    @DisplayName("If-Range 일치 - Range 적용 206")
+    void view_IfRangeMatch_PartialContent() throws Exception {
+        String etag = fetch().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(URL)
+                        .header(HttpHeaders.RANGE, "bytes=0-0")
+                        .header(HttpHeaders.IF_RANGE, etag))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().bytes("0".getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    @Test
+    @DisplayName("HEAD - 헤더만 응답하고 본문 없음")
+    void head_HeadersOnly() throws Exception {
+        MvcResult result = mockMvc.perform(head(URL))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, BODY.length))
+                .andReturn();
+        assertThat(result.getResponse().getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("없는 파일 404, 숨김 경로 400")
+    void view_MissingOrHiddenPath() throws Exception {
+        mockMvc.perform(get("/api/files/view/products/missing.jpg"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/files/view/products/.tmp/upload.jpg"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private MvcResult fetch() throws Exception {
+        return mockMvc.perform(get(URL)).andExpect(status().isOk()).andReturn();
+    }
+}
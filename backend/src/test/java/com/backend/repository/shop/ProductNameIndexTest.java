@@ -0,0 +1,89 @@
+package com.backend.repository.shop;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ProductNameIndex 테스트")
+class ProductNameIndexTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private ProductNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductNameIndex(productRepository, 3);
+        when(productRepository.findNameChunkAfter(anyLong(), any())).thenReturn(List.of());
+        index.load();
+    }
+
+    @Test
+    @DisplayName("한글 부분 일치 - 음절 바이그램 교집합 후 원문 검증")
+    void findCandidateIds_KoreanSubstring() {
+        index.put(1L, "닭가슴살 스테이크");
+        index.put(2L, "훈제 닭가슴살");
+        index.put(3L, "소고기 스테이크");
+
+        assertThat(index.findCandidateIds("가슴살")).contains(Set.of(1L, 2L));
+        assertThat(index.findCandidateIds("스테이크")).contains(Set.of(1L, 3L));
+        assertThat(index.findCandidateIds("닭")).contains(Set.of(1L, 2L));
+        assertThat(index.findCandidateIds("돼지")).contains(Set.of());
+    }
+
+    @Test
+    @DisplayName("자모 분리(NFD) 입력과 대소문자를 정규화한다")
+    void findCandidateIds_Normalized() {
+        index.put(1L, "Whey Protein 단백질");
+
+        String decomposed = Normalizer.normalize("단백질", Normalizer.Form.NFD);
+        assertThat(index.findCandidateIds(decomposed)).contains(Set.of(1L));
+        assertThat(index.findCandidateIds("PROTEIN")).contains(Set.of(1L));
+    }
+
+    @Test
+    @DisplayName("바이그램이 모두 있어도 연속 부분 문자열이 아니면 제외")
+    void findCandidateIds_VerifiesContains() {
+        index.put(1L, "ab xbc");
+
+        assertThat(index.findCandidateIds("abc")).contains(Set.of());
+    }
+
+    @Test
+    @DisplayName("이름 변경/삭제가 색인에 반영된다")
+    void putAndRemove() {
+        index.put(1L, "요가 매트");
+        index.put(1L, "폼롤러");
+
+        assertThat(index.findCandidateIds("매트")).contains(Set.of());
+        assertThat(index.findCandidateIds("롤러")).contains(Set.of(1L));
+
+        index.remove(1L);
+        assertThat(index.findCandidateIds("롤러")).contains(Set.of());
+    }
+
+    @Test
+    @DisplayName("후보가 상한을 넘으면 LIKE 폴백(empty)")
+    void findCandidateIds_TooManyCandidates() {
+        for (long id = 1; id <= 4; id++) {
+            index.put(id, "프로틴 바 " + id);
+        }
+
+        assertThat(index.findCandidateIds("프로틴")).isEqualTo(Optional.empty());
+    }
+}
@@ -0,0 +1,121 @@
+package com.backend.repository.shop;
+
+import com.backend.domain.member.Member;
+import com.backend.domain.shop.Product;
+import com.backend.domain.shop.ProductStatus;
+import com.backend.domain.shop.ProductVariant;
+import com.backend.repository.member.MemberRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@Transactional
+@DisplayName("ProductVariantRepository 재고 조건부 UPDATE 테스트")
+class ProductVariantStockQueryTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductVariantRepository productVariantRepository;
+
+    @Autowired
+    private ProductVariantStockWriter productVariantStockWriter;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    private Long variantId;
+
+    @BeforeEach
+    void setUp() {
+        // Admin 멤버(id=1)가 미리 생성되어 있어야 함 (AdminMemberCreateTest에서 생성)
+        Member member = memberRepository.findById(1L)
+                .orElseThrow(() -> new IllegalStateException(
+                        "Admin member(id=1) not found. 먼저 AdminMemberCreateTest를 실행해 관리자 계정을 생성하세요."));
+
+        Product product = productRepository.save(Product.builder()
+                .name("재고 원장 테스트 상품")
+                .description("재고 예약/차감 조건부 UPDATE 테스트용")
+                .status(ProductStatus.ACTIVE)
+                .basePrice(new BigDecimal("10000"))
+                .createdBy(member)
+                .build());
+        variantId = productVariantRepository.save(ProductVariant.builder()
+                .product(product)
+                .optionText("size: M")
+                .price(new BigDecimal("10000"))
+                .stockQty(5)
+                .active(true)
+                .build()).getId();
+        productVariantRepository.flush();
+    }
+
+    @Test
+    @DisplayName("reserveStock - 가용 수량 안에서만 예약하고 초과분은 0건")
+    void reserveStock_WithinAvailable() {
+        assertThat(productVariantRepository.reserveStock(variantId, 3)).isEqualTo(1);
+        assertThat(productVariantRepository.findAvailableQtyById(variantId)).contains(2);
+
+        assertThat(productVariantRepository.reserveStock(variantId, 3)).isZero();
+        assertThat(productVariantRepository.reserveStock(variantId, 2)).isEqualTo(1);
+        assertThat(productVariantRepository.findAvailableQtyById(variantId)).contains(0);
+    }
+
+    @Test
+    @DisplayName("decreaseStockIfAvailable - 자기 예약분(held)은 가용 수량에 더해 검증")
+    void decreaseStockIfAvailable_CountsOwnHold() {
+        // 다른 주문이 4개 예약 → 가용 1
+        productVariantRepository.reserveStock(variantId, 4);
+
+        // 예약 없는 주문 2개 → 실패
+        assertThat(productVariantRepository.decreaseStockIfAvailable(variantId, 2, 0)).isZero();
+
+        // 4개를 예약해 둔 주문이 5개 구매 → 예약 4 + 가용 1로 성공, 재고 0 / 예약 0
+        assertThat(productVariantRepository.decreaseStockIfAvailable(variantId, 5, 4)).isEqualTo(1);
+        assertThat(productVariantRepository.findAvailableQtyById(variantId)).contains(0);
+        assertThat(productVariantRepository.reserveStock(variantId, 1)).isZero();
+    }
+
+    @Test
+    @DisplayName("releaseReservedStock - 예약 수량은 0 아래로 내려가지 않음")
+    void releaseReservedStock_ClampsAtZero() {
+        productVariantRepository.reserveStock(variantId, 2);
+
+        productVariantRepository.releaseReservedStock(variantId, 3);
+
+        assertThat(productVariantRepository.findAvailableQtyById(variantId)).contains(5);
+        assertThat(productVariantRepository.reserveStock(variantId, 5)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("hot_sku 행 - DB 경로 UPDATE는 0건, write-behind 기록은 hot_sku 행만 쓰고 해제 시 플래그를 내림")
+    void hotSkuRow_BlocksDatabasePath() {
+        productVariantRepository.updateHotSku(variantId, true);
+
+        assertThat(productVariantRepository.reserveStock(variantId, 1)).isZero();
+        assertThat(productVariantRepository.decreaseStockIfAvailable(variantId, 1, 0)).isZero();
+        assertThat(productVariantRepository.releaseReservedStock(variantId, 1)).isZero();
+        assertThat(productVariantRepository.countHotByIdForUpdate(variantId)).isEqualTo(1);
+
+        // 해제 스냅샷: 카운터 값과 함께 플래그를 내려 DB 경로를 다시 연다
+        productVariantStockWriter.overwriteStock(Map.of(variantId, 4), Map.of(variantId, 1), Set.of(variantId));
+        assertThat(productVariantRepository.countHotByIdForUpdate(variantId)).isZero();
+        assertThat(productVariantRepository.findAvailableQtyById(variantId)).contains(3);
+
+        // 핫 SKU가 아닌 행은 write-behind 기록이 덮어쓰지 않음
+        productVariantStockWriter.overwriteStock(Map.of(variantId, 100), Map.of(variantId, 0), Set.of());
+        assertThat(productVariantRepository.findAvailableQtyById(variantId)).contains(3);
+        assertThat(productVariantRepository.reserveStock(variantId, 3)).isEqualTo(1);
+    }
+}
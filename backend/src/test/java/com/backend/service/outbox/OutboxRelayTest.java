@@ -0,0 +1,259 @@
+package com.backend.service.outbox;
+
+import com.backend.domain.outbox.OutboxEvent;
+import com.backend.domain.outbox.OutboxEventType;
+import com.backend.util.RedisJobLock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 인메모리 OutboxService 스텁으로 릴레이의 오프셋 전진 규칙(빈 id 대기/건너뜀, 비구독 이벤트, 실패 백오프)을 검증한다.
+ * 트랜잭션 매니저와 Redis 락은 mock이다.
+ */
+@DisplayName("OutboxRelay 전달 테스트")
+class OutboxRelayTest {
+
+    private static final String CONSUMER = "test-consumer";
+
+    private final StubOutboxService outboxService = new StubOutboxService();
+    private final RecordingListener listener = new RecordingListener(Set.of(OutboxEventType.ORDER_PAID));
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = newRelay(Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        relay.destroy();
+    }
+
+    @Test
+    @DisplayName("빈 id 앞에서 멈추고, 늦게 커밋된 이벤트가 채워지면 id 순서대로 이어서 전달")
+    void gap_WaitsUntilFilled() {
+        outboxService.add(1, OutboxEventType.ORDER_PAID);
+        outboxService.add(2, OutboxEventType.ORDER_PAID);
+        outboxService.add(4, OutboxEventType.ORDER_PAID);
+
+        relay.relay();
+        assertThat(listener.delivered).containsExactly(1L, 2L);
+        assertThat(outboxService.offset()).isEqualTo(2L);
+
+        relay.relay();
+        assertThat(listener.delivered).containsExactly(1L, 2L);
+
+        outboxService.add(3, OutboxEventType.ORDER_PAID);
+        relay.relay();
+        assertThat(listener.delivered).containsExactly(1L, 2L, 3L, 4L);
+        assertThat(outboxService.offset()).isEqualTo(4L);
+    }
+
+    @Test
+    @DisplayName("gap-timeout이 지나도 채워지지 않는 빈 id는 롤백된 번호로 보고 건너뜀")
+    void gap_SkippedAfterTimeout() throws InterruptedException {
+        relay.destroy();
+        relay = newRelay(Duration.ofMillis(100));
+        outboxService.add(1, OutboxEventType.ORDER_PAID);
+        outboxService.add(3, OutboxEventType.ORDER_PAID);
+
+        relay.relay();
+        assertThat(listener.delivered).containsExactly(1L);
+        assertThat(outboxService.offset()).isEqualTo(1L);
+
+        Thread.sleep(150);
+        relay.relay();
+        assertThat(listener.delivered).containsExactly(1L, 3L);
+        assertThat(outboxService.offset()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("구독하지 않는 종류의 이벤트는 전달 없이 오프셋만 전진")
+    void unsubscribedTypes_AdvanceOffset() {
+        outboxService.add(1, OutboxEventType.ORDER_PAID);
+        outboxService.add(2, OutboxEventType.ORDER_FINALIZED);
+        outboxService.add(3, OutboxEventType.ORDER_FINALIZED);
+
+        relay.relay();
+
+        assertThat(listener.delivered).containsExactly(1L);
+        assertThat(outboxService.offset()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("처리 실패 시 앞서 건너뛴 번호까지만 전진하고, 백오프 중에는 다시 전달하지 않음")
+    void failure_HoldsOffsetAndBacksOff() {
+        outboxService.add(1, OutboxEventType.ORDER_FINALIZED);
+        outboxService.add(2, OutboxEventType.ORDER_PAID);
+        outboxService.add(3, OutboxEventType.ORDER_PAID);
+        listener.failingIds.add(2L);
+
+        relay.relay();
+        assertThat(listener.attempted).containsExactly(2L);
+        assertThat(outboxService.offset()).isEqualTo(1L);
+        assertThat(outboxService.failures).containsEntry(2L, 1);
+
+        relay.relay();
+        assertThat(listener.attempted).containsExactly(2L);
+
+        // 백오프가 끝나면 재전달, 성공하면 이어서 전달
+        outboxService.retryPending = false;
+        listener.failingIds.clear();
+        relay.relay();
+        assertThat(listener.delivered).containsExactly(2L, 3L);
+        assertThat(outboxService.offset()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("최대 시도에 도달해 데드레터로 넘긴 이벤트 다음부터 계속 전달")
+    void failure_DeadLetteredEventIsPassed() {
+        outboxService.add(1, OutboxEventType.ORDER_PAID);
+        outboxService.add(2, OutboxEventType.ORDER_PAID);
+        listener.failingIds.add(1L);
+        outboxService.deadLetterOnFailure = true;
+
+        relay.relay();
+
+        assertThat(outboxService.deadLetters).containsExactly(1L);
+        assertThat(listener.delivered).containsExactly(2L);
+        assertThat(outboxService.offset()).isEqualTo(2L);
+    }
+
+    private OutboxRelay newRelay(Duration gapTimeout) {
+        RedisJobLock redisJobLock = mock(RedisJobLock.class);
+        when(redisJobLock.tryLock(anyString(), any())).thenReturn(Optional.of("token"));
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        return new OutboxRelay(List.of(listener), outboxService, transactionTemplate, redisJobLock,
+                1, 200, Duration.ofSeconds(10), gapTimeout);
+    }
+
+    private static class RecordingListener implements OutboxEventListener {
+
+        private final Set<OutboxEventType> eventTypes;
+        private final List<Long> attempted = new CopyOnWriteArrayList<>();
+        private final List<Long> delivered = new CopyOnWriteArrayList<>();
+        private final Set<Long> failingIds = ConcurrentHashMap.newKeySet();
+
+        private RecordingListener(Set<OutboxEventType> eventTypes) {
+            this.eventTypes = eventTypes;
+        }
+
+        @Override
+        public String consumerName() {
+            return CONSUMER;
+        }
+
+        @Override
+        public Set<OutboxEventType> eventTypes() {
+            return eventTypes;
+        }
+
+        @Override
+        public void handle(OutboxEvent event) {
+            attempted.add(event.getId());
+            if (failingIds.contains(event.getId())) {
+                throw new IllegalStateException("handler failed: " + event.getId());
+            }
+            delivered.add(event.getId());
+        }
+    }
+
+    /**
+     * 커밋된 이벤트 목록 + 소비자 오프셋 1개. 실패 기록은 백오프 여부/데드레터 처리만 흉내 낸다.
+     */
+    private static class StubOutboxService implements OutboxService {
+
+        private final List<OutboxEvent> events = new CopyOnWriteArrayList<>();
+        private final Map<String, Long> offsets = new ConcurrentHashMap<>();
+        private final Map<Long, Integer> failures = new ConcurrentHashMap<>();
+        private final List<Long> deadLetters = new CopyOnWriteArrayList<>();
+        private volatile boolean retryPending;
+        private volatile boolean deadLetterOnFailure;
+
+        void add(long id, OutboxEventType eventType) {
+            OutboxEvent event = OutboxEvent.builder()
+                    .eventType(eventType)
+                    .aggregateId("ORD-" + id)
+                    .payload("{}")
+                    .build();
+            ReflectionTestUtils.setField(event, "id", id);
+            events.add(event);
+        }
+
+        long offset() {
+            return offsets.getOrDefault(CONSUMER, 0L);
+        }
+
+        @Override
+        public void publish(OutboxEventType eventType, String aggregateId, Object payload) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long getOrInitOffset(String consumer) {
+            return offsets.computeIfAbsent(consumer, k -> 0L);
+        }
+
+        @Override
+        public long lockOffset(String consumer) {
+            return getOrInitOffset(consumer);
+        }
+
+        @Override
+        public List<OutboxEvent> findDeliverable(long afterId, int limit) {
+            return events.stream()
+                    .filter(e -> e.getId() > afterId)
+                    .sorted(Comparator.comparing(OutboxEvent::getId))
+                    .limit(limit)
+                    .toList();
+        }
+
+        @Override
+        public void advanceOffset(String consumer, long eventId) {
+            offsets.merge(consumer, eventId, Math::max);
+        }
+
+        @Override
+        public boolean isRetryPending(String consumer) {
+            return retryPending;
+        }
+
+        @Override
+        public boolean recordFailure(String consumer, OutboxEvent event, String error) {
+            failures.merge(event.getId(), 1, Integer::sum);
+            if (deadLetterOnFailure) {
+                deadLetters.add(event.getId());
+                advanceOffset(consumer, event.getId());
+                return true;
+            }
+            retryPending = true;
+            return false;
+        }
+
+        @Override
+        public int purgeDelivered(Collection<String> consumers, int limit) {
+            return 0;
+        }
+    }
+}
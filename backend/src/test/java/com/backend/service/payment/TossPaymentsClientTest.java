@@ -0,0 +1,162 @@
+package com.backend.service.payment;
+
+import com.backend.common.exception.BusinessException;
+import com.backend.common.exception.ErrorCode;
+import com.backend.common.exception.PaymentAlreadyProcessedException;
+import com.backend.util.CircuitBreaker;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 로컬 스텁 HTTP 서버로 Toss /v1/payments/confirm, /v1/payments/{paymentKey} 응답을 흉내 내 클라이언트 동작을 검증한다.
+ */
+@DisplayName("TossPaymentsClient 테스트")
+class TossPaymentsClientTest {
+
+    private static final int FAILURE_THRESHOLD = 3;
+
+    private HttpServer server;
+    private TossPaymentsClient client;
+
+    // 스텁 응답 (status, body)
+    private final AtomicInteger responseStatus = new AtomicInteger(200);
+    private final AtomicReference<String> responseBody = new AtomicReference<>("{}");
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicReference<String> lastAuthorization = new AtomicReference<>();
+    private final AtomicReference<String> lastPath = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        // "/v1/payments/" 접두사 하나로 승인(POST confirm)과 조회(GET {paymentKey})를 모두 받는다
+        server.createContext("/v1/payments/", exchange -> {
+            requestCount.incrementAndGet();
+            lastAuthorization.set(exchange.getRequestHeaders().getFirst("Authorization"));
+            lastPath.set(exchange.getRequestURI().getPath());
+            exchange.getRequestBody().readAllBytes();
+            byte[] bytes = responseBody.get().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(responseStatus.get(), bytes.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(bytes);
+            }
+        });
+        server.start();
+
+        client = new TossPaymentsClient(
+                "http://127.0.0.1:" + server.getAddress().getPort(),
+                "test_sk",
+                Duration.ofSeconds(1),
+                Duration.ofSeconds(2),
+                4,
+                Duration.ofSeconds(30),
+                FAILURE_THRESHOLD,
+                Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.destroy();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("승인 성공 시 응답 원문을 반환하고 Basic 인증 헤더를 보낸다")
+    void confirm_Success() {
+        respond(200, "{\"paymentKey\":\"pk_1\",\"orderId\":\"ORD-1\",\"status\":\"DONE\"}");
+
+        String body = client.confirm("pk_1", "ORD-1", 10000L);
+
+        assertThat(body).contains("\"status\":\"DONE\"");
+        assertThat(lastAuthorization.get()).isEqualTo("Basic dGVzdF9zazo=");
+        assertThat(client.stats().getEndpoints()).singleElement()
+                .satisfies(stats -> assertThat(stats.getCalls()).isEqualTo(1));
+    }
+
+    @Test
+    @DisplayName("ALREADY_PROCESSED_PAYMENT 응답은 PaymentAlreadyProcessedException")
+    void confirm_AlreadyProcessed() {
+        respond(400, "{\"code\":\"ALREADY_PROCESSED_PAYMENT\",\"message\":\"이미 처리된 결제 입니다.\"}");
+
+        assertThatThrownBy(() -> client.confirm("pk_1", "ORD-1", 10000L))
+                .isInstanceOf(PaymentAlreadyProcessedException.class);
+        assertThat(client.circuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("S008 응답은 재시도 안내이며 서킷 실패로 세지 않는다")
+    void confirm_S008_DoesNotOpenCircuit() {
+        respond(500, "{\"code\":\"FAILED_PAYMENT_INTERNAL_SYSTEM_PROCESSING\",\"message\":\"[S008] 기존 요청을 처리중입니다.\"}");
+
+        for (int i = 0; i < FAILURE_THRESHOLD + 1; i++) {
+            assertThatThrownBy(() -> client.confirm("pk_1", "ORD-1", 10000L))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting(e -> ((BusinessException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.SHOP_PAYMENT_PROCESSING_RETRY);
+        }
+        assertThat(client.circuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("5xx가 연속되면 서킷이 열리고 이후 호출은 서버에 가지 않고 즉시 실패한다")
+    void confirm_ServerErrors_OpenCircuit() {
+        respond(503, "{\"code\":\"PROVIDER_ERROR\",\"message\":\"일시적인 오류\"}");
+
+        for (int i = 0; i < FAILURE_THRESHOLD; i++) {
+            // 5xx는 승인 여부를 알 수 없는 결과로 구분한다
+            assertThatThrownBy(() -> client.confirm("pk_1", "ORD-1", 10000L))
+                    .extracting(e -> ((BusinessException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.SHOP_PAYMENT_CONFIRM_UNKNOWN);
+        }
+        assertThat(client.circuitState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        int callsBefore = requestCount.get();
+        assertThatThrownBy(() -> client.confirm("pk_1", "ORD-1", 10000L))
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.SHOP_PAYMENT_GATEWAY_UNAVAILABLE);
+        assertThat(requestCount.get()).isEqualTo(callsBefore);
+        assertThat(client.stats().getCircuitRejected()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("4xx 업무 오류는 승인 실패로 확정한다")
+    void confirm_ClientError_Failed() {
+        respond(400, "{\"code\":\"REJECT_CARD_COMPANY\",\"message\":\"카드사 거절\"}");
+
+        assertThatThrownBy(() -> client.confirm("pk_1", "ORD-1", 10000L))
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.SHOP_PAYMENT_CONFIRM_FAILED);
+        assertThat(client.circuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("결제 조회는 paymentKey 경로로 요청하고, 404면 empty를 반환한다")
+    void getPayment() {
+        respond(200, "{\"paymentKey\":\"pk_1\",\"status\":\"DONE\"}");
+        assertThat(client.getPayment("pk_1")).hasValueSatisfying(body -> assertThat(body).contains("DONE"));
+        assertThat(lastPath.get()).isEqualTo("/v1/payments/pk_1");
+
+        respond(404, "{\"code\":\"NOT_FOUND_PAYMENT\",\"message\":\"존재하지 않는 결제 정보 입니다.\"}");
+        assertThat(client.getPayment("pk_2")).isEmpty();
+        assertThat(client.circuitState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    private void respond(int status, String body) {
+        responseStatus.set(status);
+        responseBody.set(body);
+    }
+}
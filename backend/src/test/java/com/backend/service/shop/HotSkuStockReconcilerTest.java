@@ -0,0 +1,170 @@
+package com.backend.service.shop;
+
+import com.backend.domain.member.Member;
+import com.backend.domain.shop.Product;
+import com.backend.domain.shop.ProductStatus;
+import com.backend.domain.shop.ProductVariant;
+import com.backend.repository.member.MemberRepository;
+import com.backend.repository.shop.ProductRepository;
+import com.backend.repository.shop.ProductVariantRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 핫 SKU 지정/반영/해제와 DB 경로 차단(hot_sku 플래그) 테스트 (로컬 MariaDB + Redis 필요).
+ * 반영은 테스트가 직접 호출하도록 주기 반영 작업의 주기를 늘려 둔다.
+ */
+@SpringBootTest(properties = "shop.hot-sku.flush-interval=PT1H")
+@DisplayName("HotSkuStockReconciler write-behind 반영 테스트")
+class HotSkuStockReconcilerTest {
+
+    private static final int STOCK = 10;
+
+    @Autowired
+    private HotSkuStockReconciler hotSkuStockReconciler;
+
+    @Autowired
+    private HotSkuStockService hotSkuStockService;
+
+    @Autowired
+    private HotSkuStockStore hotSkuStockStore;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductVariantRepository productVariantRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Product product;
+    private Long variantId;
+
+    @BeforeEach
+    void setUp() {
+        // Admin 멤버(id=1)가 미리 생성되어 있어야 함 (AdminMemberCreateTest에서 생성)
+        Member member = memberRepository.findById(1L)
+                .orElseThrow(() -> new IllegalStateException(
+                        "Admin member(id=1) not found. 먼저 AdminMemberCreateTest를 실행해 관리자 계정을 생성하세요."));
+
+        product = productRepository.save(Product.builder()
+                .name("핫 SKU 반영 테스트 상품")
+                .description("핫 SKU write-behind / DB 경로 차단 테스트용")
+                .status(ProductStatus.ACTIVE)
+                .basePrice(new BigDecimal("10000"))
+                .createdBy(member)
+                .build());
+        variantId = productVariantRepository.save(ProductVariant.builder()
+                .product(product)
+                .optionText("size: M")
+                .price(new BigDecimal("10000"))
+                .stockQty(STOCK)
+                .active(true)
+                .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete("stock:sku:" + variantId);
+        redisTemplate.opsForSet().remove("stock:sku:hot", variantId);
+        productVariantRepository.deleteById(variantId);
+        productRepository.deleteById(product.getId());
+    }
+
+    @Test
+    @DisplayName("지정 중에는 DB 경로가 막히고 반영은 카운터 값으로, 해제 후 플래그를 내리고 DB 경로를 다시 연다")
+    void enableFlushDisable() {
+        hotSkuStockService.enable(variantId);
+        assertThat(isHot()).isTrue();
+        assertThat(reserveOnDatabase(1)).isZero();
+
+        assertThat(hotSkuStockStore.reserve(variantId, 3)).isEqualTo(1L);
+        hotSkuStockReconciler.flush();
+        assertThat(productVariantRepository.findAvailableQtyById(variantId)).contains(STOCK - 3);
+
+        hotSkuStockService.disable(variantId);
+        hotSkuStockReconciler.flush();
+        assertThat(isHot()).isFalse();
+        assertThat(hotSkuStockStore.available(variantId)).isEqualTo(HotSkuStockStore.MISSING);
+        assertThat(hotSkuStockStore.filterHot(List.of(variantId))).isEmpty();
+
+        assertThat(reserveOnDatabase(1)).isEqualTo(1);
+        assertThat(productVariantRepository.findAvailableQtyById(variantId)).contains(STOCK - 4);
+    }
+
+    @Test
+    @DisplayName("행 잠금을 기다리던 DB 예약은 그 사이 지정이 커밋되면 0건 (write-behind가 덮어쓸 값을 남기지 않음)")
+    void databaseReserveBlockedOnEnable_IsRejected() throws Exception {
+        CountDownLatch locked = new CountDownLatch(1);
+        CompletableFuture<Void> enabling = CompletableFuture.runAsync(() ->
+                transactionTemplate.executeWithoutResult(status -> {
+                    productVariantRepository.lockStockByIdIn(List.of(variantId));
+                    productVariantRepository.updateHotSku(variantId, true);
+                    locked.countDown();
+                    sleep(300);
+                }));
+        assertThat(locked.await(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(reserveOnDatabase(1)).isZero();
+        enabling.get(10, TimeUnit.SECONDS);
+        assertThat(productVariantRepository.findAvailableQtyById(variantId)).contains(STOCK);
+    }
+
+    @Test
+    @DisplayName("해제 반영 이후 롤백된 예약은 DB에 증감으로 보상")
+    void rollbackAfterDisable_CompensatesDatabase() throws Exception {
+        hotSkuStockService.enable(variantId);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            hotSkuStockStore.reserve(variantId, 3);
+            // 다른 스레드에서 해제 + 반영: 롤백 전의 예약분까지 DB에 기록되고 카운터 삭제
+            CompletableFuture.runAsync(() -> {
+                hotSkuStockService.disable(variantId);
+                hotSkuStockReconciler.flush();
+            }).join();
+            assertThat(productVariantRepository.findAvailableQtyById(variantId)).contains(STOCK - 3);
+            status.setRollbackOnly();
+        });
+
+        assertThat(isHot()).isFalse();
+        assertThat(productVariantRepository.findAvailableQtyById(variantId)).contains(STOCK);
+    }
+
+    private int reserveOnDatabase(int qty) {
+        Integer updated = transactionTemplate.execute(status -> productVariantRepository.reserveStock(variantId, qty));
+        return updated != null ? updated : 0;
+    }
+
+    private boolean isHot() {
+        return productVariantRepository.findById(variantId).orElseThrow().isHotSku();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.backend.service.shop;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 핫 SKU Redis 카운터 Lua 스크립트 / 롤백 보상 테스트 (로컬 Redis 필요).
+ * DB에 없는 옵션 ID를 쓰고, 주기 반영 작업이 카운터를 건드리지 않도록 반영 주기를 늘려 둔다.
+ */
+@SpringBootTest(properties = "shop.hot-sku.flush-interval=PT1H")
+@DisplayName("HotSkuStockStore 카운터 스크립트 테스트")
+class HotSkuStockStoreTest {
+
+    @Autowired
+    private HotSkuStockStore hotSkuStockStore;
+
+    @Autowired
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long variantId;
+
+    @BeforeEach
+    void setUp() {
+        variantId = 8_000_000_000L + System.nanoTime() % 1_000_000_000L;
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete("stock:sku:" + variantId);
+        redisTemplate.opsForSet().remove("stock:sku:hot", variantId);
+    }
+
+    @Test
+    @DisplayName("seed - 트랜잭션 밖에서는 바로 열리고, 이미 있으면 다시 만들지 않음")
+    void seed_CreatesCounterOnce() {
+        assertThat(hotSkuStockStore.seed(variantId, 10, 2)).isEqualTo(1L);
+        assertThat(hotSkuStockStore.seed(variantId, 99, 0)).isZero();
+
+        assertThat(hotSkuStockStore.available(variantId)).isEqualTo(8L);
+        assertThat(hotSkuStockStore.filterHot(List.of(variantId, variantId + 1))).containsExactly(variantId);
+    }
+
+    @Test
+    @DisplayName("reserve/sell/commitReserved/releaseReserved - 가용 수량 검증과 예약 0 하한")
+    void counterOperations() {
+        hotSkuStockStore.seed(variantId, 10, 2);
+
+        assertThat(hotSkuStockStore.reserve(variantId, 8)).isEqualTo(1L);
+        assertThat(hotSkuStockStore.reserve(variantId, 1)).isZero();
+        assertThat(hotSkuStockStore.sell(variantId, 1)).isZero();
+
+        assertThat(hotSkuStockStore.releaseReserved(variantId, 3)).isEqualTo(1L);
+        assertThat(hotSkuStockStore.sell(variantId, 3)).isEqualTo(1L);
+        assertThat(hotSkuStockStore.commitReserved(variantId, 7)).isEqualTo(1L);
+        assertThat(hotSkuStockStore.available(variantId)).isZero();
+
+        // stock 0 / reserved 0에서 해제가 더 들어와도 reserved는 0 아래로 내려가지 않음
+        assertThat(hotSkuStockStore.releaseReserved(variantId, 5)).isEqualTo(1L);
+        assertThat(hotSkuStockStore.snapshotIfDirty(variantId))
+                .contains(new HotSkuSnapshot(variantId, 0, 0, false));
+    }
+
+    @Test
+    @DisplayName("카운터가 없으면 -1 (DB 경로)")
+    void missingCounter() {
+        assertThat(hotSkuStockStore.reserve(variantId, 1)).isEqualTo(HotSkuStockStore.MISSING);
+        assertThat(hotSkuStockStore.commitReserved(variantId, 1)).isEqualTo(HotSkuStockStore.MISSING);
+        assertThat(hotSkuStockStore.available(variantId)).isEqualTo(HotSkuStockStore.MISSING);
+        assertThat(hotSkuStockStore.retire(variantId)).isFalse();
+        assertThat(hotSkuStockStore.snapshotIfDirty(variantId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("snapshotIfDirty - 변경된 카운터만 1회 반환하고, 반영 실패 시 restore로 다시 대상이 됨")
+    void snapshot_OnlyWhenDirty() {
+        hotSkuStockStore.seed(variantId, 10, 0);
+        assertThat(hotSkuStockStore.snapshotIfDirty(variantId)).isEmpty();
+
+        hotSkuStockStore.reserve(variantId, 3);
+        HotSkuSnapshot snapshot = hotSkuStockStore.snapshotIfDirty(variantId).orElseThrow();
+        assertThat(snapshot).isEqualTo(new HotSkuSnapshot(variantId, 10, 3, false));
+        assertThat(hotSkuStockStore.snapshotIfDirty(variantId)).isEmpty();
+
+        hotSkuStockStore.restore(snapshot);
+        assertThat(hotSkuStockStore.snapshotIfDirty(variantId)).contains(snapshot);
+    }
+
+    @Test
+    @DisplayName("retire - 해제 스냅샷 이후 DB 반영 전까지 카운터는 frozen, drop 후 삭제")
+    void retire_FreezesUntilDropped() {
+        hotSkuStockStore.seed(variantId, 10, 0);
+        hotSkuStockStore.reserve(variantId, 2);
+        assertThat(hotSkuStockStore.retire(variantId)).isTrue();
+
+        HotSkuSnapshot snapshot = hotSkuStockStore.snapshotIfDirty(variantId).orElseThrow();
+        assertThat(snapshot).isEqualTo(new HotSkuSnapshot(variantId, 10, 2, true));
+
+        // DB 반영 중: 예약/차감도, 다른 반영 주기도, 재지정도 받지 않음
+        assertThat(hotSkuStockStore.reserve(variantId, 1)).isEqualTo(HotSkuStockStore.BUSY);
+        assertThat(hotSkuStockStore.snapshotIfDirty(variantId)).isEmpty();
+        assertThat(hotSkuStockStore.seed(variantId, 10, 0)).isEqualTo(HotSkuStockStore.BUSY);
+
+        // 반영 실패 → 다시 열리고 해제 요청은 유지
+        hotSkuStockStore.restore(snapshot);
+        assertThat(hotSkuStockStore.reserve(variantId, 1)).isEqualTo(1L);
+        HotSkuSnapshot retry = hotSkuStockStore.snapshotIfDirty(variantId).orElseThrow();
+        assertThat(retry).isEqualTo(new HotSkuSnapshot(variantId, 10, 3, true));
+
+        hotSkuStockStore.drop(retry);
+        assertThat(hotSkuStockStore.available(variantId)).isEqualTo(HotSkuStockStore.MISSING);
+        assertThat(hotSkuStockStore.filterHot(List.of(variantId))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("seed - 반영 전의 해제 요청은 재지정으로 취소")
+    void seed_CancelsPendingRetire() {
+        hotSkuStockStore.seed(variantId, 10, 0);
+        hotSkuStockStore.retire(variantId);
+
+        assertThat(hotSkuStockStore.seed(variantId, 10, 0)).isZero();
+
+        assertThat(hotSkuStockStore.snapshotIfDirty(variantId)).isEmpty();
+        hotSkuStockStore.reserve(variantId, 1);
+        assertThat(hotSkuStockStore.snapshotIfDirty(variantId))
+                .contains(new HotSkuSnapshot(variantId, 10, 1, false));
+    }
+
+    @Test
+    @DisplayName("seed - 지정 트랜잭션 커밋 전에는 frozen, 롤백되면 카운터 삭제")
+    void seed_FollowsEnablingTransaction() {
+        transactionTemplate.executeWithoutResult(status -> {
+            assertThat(hotSkuStockStore.seed(variantId, 10, 0)).isEqualTo(1L);
+            assertThat(hotSkuStockStore.reserve(variantId, 1)).isEqualTo(HotSkuStockStore.BUSY);
+            status.setRollbackOnly();
+        });
+        assertThat(hotSkuStockStore.available(variantId)).isEqualTo(HotSkuStockStore.MISSING);
+        assertThat(hotSkuStockStore.filterHot(List.of(variantId))).isEmpty();
+
+        transactionTemplate.executeWithoutResult(status -> hotSkuStockStore.seed(variantId, 10, 0));
+        assertThat(hotSkuStockStore.reserve(variantId, 1)).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("롤백 보상 - 호출 트랜잭션이 롤백되면 카운터 조정을 되돌림")
+    void rollback_CompensatesCounter() {
+        hotSkuStockStore.seed(variantId, 10, 4);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            hotSkuStockStore.reserve(variantId, 2);
+            hotSkuStockStore.sell(variantId, 1);
+            hotSkuStockStore.commitReserved(variantId, 3);
+            hotSkuStockStore.releaseReserved(variantId, 1);
+            status.setRollbackOnly();
+        });
+        assertThat(hotSkuStockStore.snapshotIfDirty(variantId))
+                .contains(new HotSkuSnapshot(variantId, 10, 4, false));
+
+        transactionTemplate.executeWithoutResult(status -> hotSkuStockStore.reserve(variantId, 2));
+        assertThat(hotSkuStockStore.available(variantId)).isEqualTo(4L);
+    }
+}
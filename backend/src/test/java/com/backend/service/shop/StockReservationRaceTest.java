@@ -0,0 +1,150 @@
+package com.backend.service.shop;
+
+import com.backend.domain.member.Member;
+import com.backend.domain.shop.Product;
+import com.backend.domain.shop.ProductStatus;
+import com.backend.domain.shop.ProductVariant;
+import com.backend.domain.shop.StockReservation;
+import com.backend.domain.shop.StockReservationStatus;
+import com.backend.repository.member.MemberRepository;
+import com.backend.repository.shop.ProductRepository;
+import com.backend.repository.shop.ProductVariantRepository;
+import com.backend.repository.shop.StockReservationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 만료 예약 해제(releaseExpired)와 결제 완료 전환(commitForOrder)이 같은 예약을 동시에 잡을 때
+ * 둘 중 하나만 적용되는지 검증 (예약 행 잠금 후 ACTIVE 재확인).
+ */
+@SpringBootTest
+@DisplayName("StockReservationService 해제/전환 경합 테스트")
+class StockReservationRaceTest {
+
+    private static final int ROUNDS = 20;
+    private static final int STOCK = 5;
+    private static final int HOLD_QTY = 2;
+
+    @Autowired
+    private StockReservationService stockReservationService;
+
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductVariantRepository productVariantRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final List<Long> reservationIds = new ArrayList<>();
+    private Product product;
+    private ProductVariant variant;
+
+    @BeforeEach
+    void setUp() {
+        // Admin 멤버(id=1)가 미리 생성되어 있어야 함 (AdminMemberCreateTest에서 생성)
+        Member member = memberRepository.findById(1L)
+                .orElseThrow(() -> new IllegalStateException(
+                        "Admin member(id=1) not found. 먼저 AdminMemberCreateTest를 실행해 관리자 계정을 생성하세요."));
+
+        product = productRepository.save(Product.builder()
+                .name("재고 예약 경합 테스트 상품")
+                .description("releaseExpired / commitForOrder 경합 테스트용")
+                .status(ProductStatus.ACTIVE)
+                .basePrice(new BigDecimal("10000"))
+                .createdBy(member)
+                .build());
+        variant = productVariantRepository.save(ProductVariant.builder()
+                .product(product)
+                .optionText("size: M")
+                .price(new BigDecimal("10000"))
+                .stockQty(STOCK)
+                .active(true)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        stockReservationRepository.deleteAllById(reservationIds);
+        productVariantRepository.deleteById(variant.getId());
+        productRepository.deleteById(product.getId());
+    }
+
+    @Test
+    @DisplayName("만료된 예약을 해제와 전환이 동시에 잡으면 한쪽만 반영된다")
+    void releaseExpired_RacingCommitForOrder_AppliesExactlyOne() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < ROUNDS; round++) {
+                Long orderId = 9_000_000_000L + System.nanoTime() % 1_000_000_000L;
+                StockReservation hold = transactionTemplate.execute(status -> {
+                    productVariantRepository.reserveStock(variant.getId(), HOLD_QTY);
+                    return stockReservationRepository.save(StockReservation.builder()
+                            .orderId(orderId)
+                            .variantId(variant.getId())
+                            .productId(product.getId())
+                            .qty(HOLD_QTY)
+                            .expiresAt(Instant.now().minusSeconds(1))
+                            .build());
+                });
+                reservationIds.add(hold.getId());
+
+                CountDownLatch start = new CountDownLatch(1);
+                Future<Map<Long, Integer>> commit = pool.submit(() -> {
+                    start.await();
+                    return stockReservationService.commitForOrder(orderId);
+                });
+                Future<Integer> release = pool.submit(() -> {
+                    start.await();
+                    return stockReservationService.releaseExpired(1000);
+                });
+                start.countDown();
+                Map<Long, Integer> committed = commit.get(10, TimeUnit.SECONDS);
+                release.get(10, TimeUnit.SECONDS);
+
+                StockReservationStatus status = stockReservationRepository.findById(hold.getId())
+                        .orElseThrow().getStatus();
+                int available = productVariantRepository.findAvailableQtyById(variant.getId()).orElseThrow();
+                if (status == StockReservationStatus.CONVERTED) {
+                    // 전환이 이김: 예약분은 차감 단계로 넘어가고 해제되지 않음
+                    assertThat(committed).containsExactlyEntriesOf(Map.of(variant.getId(), HOLD_QTY));
+                    assertThat(available).isEqualTo(STOCK - HOLD_QTY);
+                    transactionTemplate.executeWithoutResult(s ->
+                            productVariantRepository.releaseReservedStock(variant.getId(), HOLD_QTY));
+                } else {
+                    // 해제가 이김: 전환 결과 없음, 예약 수량 반환
+                    assertThat(status).isEqualTo(StockReservationStatus.RELEASED);
+                    assertThat(committed).isEmpty();
+                    assertThat(available).isEqualTo(STOCK);
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}